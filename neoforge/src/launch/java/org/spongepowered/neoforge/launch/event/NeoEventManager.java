@@ -36,7 +36,6 @@
 
 import java.util.Collection;
 import java.util.Collections;
-import java.util.List;
 import java.util.function.Consumer;
 
 @Singleton
@@ -144,10 +143,9 @@ public boolean post(final org.spongepowered.api.event.Event event) {
     private boolean postDualBus(final org.spongepowered.api.event.Event spongeEvent, final Collection<? extends Event> forgeEvents) {
         try (final NoExceptionClosable ignored = this.preparePost(spongeEvent)) {
             final RegisteredListener.Cache listeners = this.getHandlerCache(spongeEvent);
-            final List<RegisteredListener<?>> beforeModifications = listeners.beforeModifications();
-            if (!beforeModifications.isEmpty()) {
+            if (!listeners.beforeModifications().isEmpty()) {
                 // First, we fire the Sponge beforeModifications on the Sponge event
-                this.post(spongeEvent, beforeModifications);
+                listeners.beforeModificationsDispatcher().dispatch(spongeEvent);
 
                 // Then we sync to the Forge events
                 for (final Event forgeEvent : forgeEvents) {
@@ -163,7 +161,7 @@ private boolean postDualBus(final org.spongepowered.api.event.Event spongeEvent,
             }
 
             // and now we do our standard event listener stuff.
-            return this.post(spongeEvent, listeners.afterModifications());
+            return listeners.afterModificationsDispatcher().dispatch(spongeEvent);
         }
     }
 }
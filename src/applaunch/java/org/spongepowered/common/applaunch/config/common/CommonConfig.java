@@ -84,6 +84,10 @@ public final class CommonConfig implements Config {
     @Comment("Enables server owners to require specific plugins to provide Sponge services")
     public final ServicesCategory services = new ServicesCategory();
 
+    @Setting
+    @Comment("Configures how plugin tasks are executed")
+    public final SchedulerCategory scheduler = new SchedulerCategory();
+
     @Setting
     public final DebugCategory debug = new DebugCategory();
 
@@ -0,0 +1,65 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.applaunch.config.common;
+
+import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+import org.spongepowered.configurate.objectmapping.meta.Comment;
+import org.spongepowered.configurate.objectmapping.meta.Setting;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@ConfigSerializable
+public final class SchedulerCategory {
+
+    @Setting("async-execution-mode")
+    @Comment("How asynchronous tasks are executed. Supported values:\n"
+            + "  - PLATFORM_THREADS: Run tasks on a cached pool of platform threads\n"
+            + "  - VIRTUAL_THREADS: Run every task on its own virtual thread, which is\n"
+            + "    much cheaper for tasks that spend most of their time blocking on I/O\n"
+            + "Changing this requires a restart.")
+    public ExecutionMode asyncExecutionMode = ExecutionMode.PLATFORM_THREADS;
+
+    @Setting("max-concurrent-async-tasks-per-plugin")
+    @Comment("The maximum amount of asynchronous tasks a single plugin may have executing\n"
+            + "at once, further tasks are queued until a running task completes.\n"
+            + "Set to 0 to not limit plugins.")
+    public int maxConcurrentAsyncTasksPerPlugin = 0;
+
+    @Setting("plugin-concurrency-limits")
+    @Comment("Overrides the maximum amount of concurrently executing asynchronous tasks\n"
+            + "for specific plugins, by plugin id. Set to 0 to not limit a plugin.")
+    public final Map<String, Integer> pluginConcurrencyLimits = new HashMap<>();
+
+    public int concurrencyLimit(final String pluginId) {
+        return this.pluginConcurrencyLimits.getOrDefault(pluginId, this.maxConcurrentAsyncTasksPerPlugin);
+    }
+
+    public enum ExecutionMode {
+        PLATFORM_THREADS,
+        VIRTUAL_THREADS
+    }
+
+}
@@ -56,6 +56,11 @@ public final class WorldCategory {
                                                      + "Note: If you are using SpongeForge, make sure to enter any mod fake player's UUID to this list.")
     public final List<UUID> invalidLookupUuids = new ArrayList<>();
 
+    @Setting(value = "background-spawn-preparation")
+    @Comment("If 'true', only the spawn region of the default world is prepared before the server starts accepting players. \n"
+                                                             + "The spawn regions of other worlds loaded on startup finish preparing in the background.")
+    public boolean backgroundSpawnPreparation = false;
+
     public WorldCategory() {
         this.invalidLookupUuids.add(UUID.fromString("00000000-0000-0000-0000-000000000000"));
         this.invalidLookupUuids.add(UUID.fromString("41c82c87-7afb-4024-ba57-13d2c99cae77")); // Forge FakePlayer
@@ -43,9 +43,12 @@
 import org.spongepowered.api.advancement.criteria.trigger.Trigger;
 import org.spongepowered.api.event.Cause;
 import org.spongepowered.api.event.EventContext;
+import org.spongepowered.api.event.EventListenerRegistration;
 import org.spongepowered.api.event.SpongeEventFactory;
+import org.spongepowered.api.event.permission.SubjectDataUpdateEvent;
 import org.spongepowered.common.applaunch.plugin.DummyPluginContainer;
 import org.spongepowered.common.bridge.server.MinecraftServerBridge;
+import org.spongepowered.common.command.manager.CommandTreeCache;
 import org.spongepowered.common.data.SpongeDataManager;
 import org.spongepowered.common.event.lifecycle.AbstractRegisterRegistryEvent;
 import org.spongepowered.common.event.lifecycle.AbstractRegisterRegistryValueEvent;
@@ -55,6 +58,7 @@
 import org.spongepowered.common.event.lifecycle.RegisterFactoryEventImpl;
 import org.spongepowered.common.event.manager.SpongeEventManager;
 import org.spongepowered.common.event.tracking.PhaseTracker;
+import org.spongepowered.common.launch.Launch;
 import org.spongepowered.common.launch.Lifecycle;
 import org.spongepowered.common.network.channel.SpongeChannelManager;
 import org.spongepowered.common.profile.SpongeGameProfileManager;
@@ -191,6 +195,12 @@ public void establishServerServices() {
     @Override
     public void establishServerFeatures() {
         Sponge.server().serviceProvider().contextService().registerContextCalculator(new SpongeContextCalculator());
+        // Permission services outside of Sponge may change what commands a player can see
+        this.game.eventManager().registerListener(EventListenerRegistration.builder(SubjectDataUpdateEvent.class)
+            .plugin(Launch.instance().commonPlugin())
+            .listener(event -> CommandTreeCache.invalidateSubjects())
+            .build()
+        );
         // Yes this looks odd but prevents having to do sided lifecycle solely to always point at the Server
         ((SpongeServer) this.game.server()).getUsernameCache().load();
     }
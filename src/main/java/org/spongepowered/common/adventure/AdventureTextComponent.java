@@ -39,18 +39,22 @@
 import org.spongepowered.common.bridge.adventure.ComponentBridge;
 import org.spongepowered.common.util.LocaleCache;
 
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
-import java.util.Objects;
+import java.util.Map;
 import java.util.Optional;
 
 public class AdventureTextComponent implements net.minecraft.network.chat.Component {
+    // Enough for the distinct client languages of a busy server, small enough that stray locales can't grow it unbounded
+    private static final int MAX_RENDERED_LOCALES = 16;
+
     private net.minecraft.network.chat.@MonotonicNonNull Component converted;
     private @Nullable Locale deepConvertedLocalized;
     private final net.kyori.adventure.text.Component wrapped;
     private final @Nullable ComponentRenderer<Locale> renderer;
-    private @Nullable Locale lastLocale;
-    private @Nullable AdventureTextComponent lastRendered;
+    // Guarded by this
+    private @Nullable Map<Locale, AdventureTextComponent> rendered;
 
     public AdventureTextComponent(final net.kyori.adventure.text.Component wrapped, final @Nullable ComponentRenderer<Locale> renderer) {
         this.wrapped = wrapped;
@@ -65,12 +69,40 @@ public net.kyori.adventure.text.Component wrapped() {
         return this.wrapped;
     }
 
-    public synchronized AdventureTextComponent rendered(final Locale locale) {
-        if (Objects.equals(locale, this.lastLocale)) {
-            return this.lastRendered;
+    /**
+     * Gets this component rendered for the given locale.
+     *
+     * <p>Renders are kept per locale, so a component shared between many
+     * recipients is only rendered (and later converted) once for each
+     * distinct locale, regardless of the netty thread encoding it. Past
+     * {@value #MAX_RENDERED_LOCALES} locales, the least recently used render
+     * is dropped.</p>
+     *
+     * @param locale The locale
+     * @return The rendered component
+     */
+    public AdventureTextComponent rendered(final Locale locale) {
+        final @Nullable ComponentRenderer<Locale> renderer = this.renderer;
+        if (renderer == null) {
+            return this;
+        }
+        final Map<Locale, AdventureTextComponent> rendered;
+        synchronized (this) {
+            if (this.rendered == null) {
+                this.rendered = new RenderedLocales();
+            }
+            rendered = this.rendered;
+            final @Nullable AdventureTextComponent existing = rendered.get(locale);
+            if (existing != null) {
+                return existing;
+            }
+        }
+        // Rendered outside the lock, so other threads aren't held up by it
+        final AdventureTextComponent component = new AdventureTextComponent(renderer.render(this.wrapped, locale), null);
+        synchronized (this) {
+            final @Nullable AdventureTextComponent existing = rendered.putIfAbsent(locale, component);
+            return existing == null ? component : existing;
         }
-        this.lastLocale = locale;
-        return this.lastRendered = this.renderer == null ? this : new AdventureTextComponent(this.renderer.render(this.wrapped, locale), null);
     }
 
     net.minecraft.network.chat.Component deepConverted() {
@@ -153,4 +185,15 @@ public <T> Optional<T> visit(final ContentConsumer<T> visitor) {
         return this.deepConverted().visit(visitor);
     }
 
+    private static final class RenderedLocales extends LinkedHashMap<Locale, AdventureTextComponent> {
+
+        RenderedLocales() {
+            super(4, 0.75f, true);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Locale, AdventureTextComponent> eldest) {
+            return this.size() > AdventureTextComponent.MAX_RENDERED_LOCALES;
+        }
+    }
 }
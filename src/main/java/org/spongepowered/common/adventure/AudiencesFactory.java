@@ -25,7 +25,6 @@
 package org.spongepowered.common.adventure;
 
 import net.kyori.adventure.audience.Audience;
-import net.kyori.adventure.audience.ForwardingAudience;
 import org.spongepowered.api.adventure.Audiences;
 import org.spongepowered.api.entity.living.player.server.ServerPlayer;
 import org.spongepowered.common.SpongeCommon;
@@ -37,14 +36,14 @@ public final class AudiencesFactory implements Audiences.Factory {
 
     @Override
     public Audience onlinePlayers() {
-        return Audience.audience((List<ServerPlayer>) (List) SpongeCommon.server().getPlayerList().getPlayers());
+        return new BroadcastAudience(() -> (List<ServerPlayer>) (List) SpongeCommon.server().getPlayerList().getPlayers());
     }
 
     @Override
     public Audience withPermission(final String permission) {
-        return (ForwardingAudience) () -> SpongeCommon.server().getPlayerList().getPlayers().stream()
+        return new BroadcastAudience(() -> SpongeCommon.server().getPlayerList().getPlayers().stream()
                 .map(p -> (ServerPlayer) p)
                 .filter(p -> p.hasPermission(permission))
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
     }
 }
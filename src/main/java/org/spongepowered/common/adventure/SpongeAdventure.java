@@ -89,6 +89,7 @@
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerBossEvent;
+import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.sounds.SoundSource;
 import net.minecraft.world.BossEvent;
 import net.minecraft.world.entity.EntityType;
@@ -96,6 +97,7 @@
 import net.minecraft.world.item.ItemStack;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.Server;
 import org.spongepowered.api.adventure.ResolveOperation;
 import org.spongepowered.api.adventure.SpongeComponents;
 import org.spongepowered.api.command.CommandCause;
@@ -109,6 +111,7 @@
 import org.spongepowered.common.bridge.adventure.ComponentBridge;
 import org.spongepowered.common.bridge.adventure.StyleBridge;
 import org.spongepowered.common.bridge.world.BossEventBridge;
+import org.spongepowered.common.bridge.world.entity.PlatformEntityBridge;
 import org.spongepowered.common.launch.Launch;
 
 import java.io.IOException;
@@ -824,6 +827,42 @@ public static Iterable<? extends Audience> unpackAudiences(final Audience audien
         return Collections.singletonList(audience);
     }
 
+    /**
+     * Sends a system message to every member of the given audience.
+     *
+     * <p>Players share a single vanilla component, whose per-locale render
+     * cache means the message is rendered once for each distinct locale
+     * among the recipients rather than once per player. Any other audience
+     * receives the message as usual.</p>
+     *
+     * <p>Only the audiences built by Sponge are unpacked, any other audience
+     * may forward the message differently than its members would receive
+     * it, so it is sent the message itself.</p>
+     *
+     * @param audience The audience
+     * @param message The message
+     */
+    public static void broadcastMessage(final Audience audience, final Component message) {
+        if (!(audience instanceof BroadcastAudience) && !(audience instanceof Server)) {
+            audience.sendMessage(message);
+            return;
+        }
+        net.minecraft.network.chat.@Nullable Component vanilla = null;
+        for (final Audience recipient : SpongeAdventure.unpackAudiences(audience)) {
+            if (recipient instanceof final ServerPlayer player) {
+                if (((PlatformEntityBridge) player).bridge$isFakePlayer()) {
+                    continue;
+                }
+                if (vanilla == null) {
+                    vanilla = SpongeAdventure.asVanilla(message);
+                }
+                player.sendSystemMessage(vanilla);
+            } else {
+                recipient.sendMessage(message);
+            }
+        }
+    }
+
     public static class Factory implements SpongeComponents.Factory {
         @Override
         public @NonNull ClickEvent callbackClickEvent(final @NonNull Consumer<CommandCause> callback) {
@@ -92,7 +92,9 @@ public final class SpongeBlockSnapshot implements BlockSnapshot, SpongeImmutable
     private final BlockState blockState;
     private final ResourceKey worldKey;
     private final Vector3i pos;
-    final @Nullable CompoundTag compound;
+    private volatile @Nullable CompoundTag compound;
+    // Serialized into the compound the first time it is needed, see captureBlockEntity
+    private volatile @Nullable BlockEntity deferredBlockEntity;
     // Internal use only
     private final BlockPos blockPos;
     private final SpongeBlockChangeFlag changeFlag;
@@ -111,6 +113,7 @@ public final class SpongeBlockSnapshot implements BlockSnapshot, SpongeImmutable
             // pooled builder has been reset so this won't be modified.
             this.compound = builder.compound;
         }
+        this.deferredBlockEntity = this.compound == null ? builder.deferredBlockEntity : null;
         this.changeFlag = builder.flag;
         this.world = builder.worldRef;
         builder.worldRef = null;
@@ -194,18 +197,19 @@ public boolean restore(final boolean force, final BlockChangeFlag flag) {
             if (!current.is(((net.minecraft.world.level.block.state.BlockState) this.blockState).getBlock())) {
                 world.removeBlockEntity(pos);
             }
+            final @Nullable CompoundTag compound = this.compound();
             world.setBlock(pos, replaced, BlockChangeFlagManager.andNotifyClients(flag).getRawFlag());
-            if (this.compound != null) {
+            if (compound != null) {
                 @Nullable BlockEntity te = world.getBlockEntity(pos);
                 if (te != null) {
                     te.setBlockState((net.minecraft.world.level.block.state.BlockState) this.blockState);
-                    te.loadWithComponents(this.compound, world.registryAccess());
+                    te.loadWithComponents(compound, world.registryAccess());
                 } else {
                     // Because, some mods will "unintentionally" only obey some of the rules but not all.
                     // In cases like this, we need to directly just say "fuck it" and deserialize from the compound directly.
                     try {
 
-                        te = BlockEntity.loadStatic(pos, (net.minecraft.world.level.block.state.BlockState) this.blockState, this.compound, world.registryAccess());
+                        te = BlockEntity.loadStatic(pos, (net.minecraft.world.level.block.state.BlockState) this.blockState, compound, world.registryAccess());
                         if (te != null) {
                             world.getChunk(pos).setBlockEntity(te);
                         }
@@ -219,7 +223,7 @@ public boolean restore(final boolean force, final BlockChangeFlag flag) {
                             .add("Here's the provided compound:");
                         printer.add();
                         try {
-                            printer.addWrapped(80, "%s : %s", "This compound", this.compound);
+                            printer.addWrapped(80, "%s : %s", "This compound", compound);
                         } catch (final Throwable error) {
                             printer.addWrapped(
                                 80,
@@ -261,13 +265,14 @@ public Optional<UUID> notifier() {
 
     @Override
     public Optional<BlockEntityArchetype> createArchetype() {
-        if (this.compound == null) {
+        final @Nullable CompoundTag snapshotCompound = this.compound();
+        if (snapshotCompound == null) {
             return Optional.empty();
         }
 
-        final String blockEntityId = this.compound.getString(Constants.Item.BLOCK_ENTITY_ID);
+        final String blockEntityId = snapshotCompound.getString(Constants.Item.BLOCK_ENTITY_ID);
 
-        final CompoundTag compound = this.compound.copy();
+        final CompoundTag compound = snapshotCompound.copy();
         compound.remove(Constants.Sponge.BlockSnapshot.TILE_ENTITY_POSITION_X);
         compound.remove(Constants.Sponge.BlockSnapshot.TILE_ENTITY_POSITION_Y);
         compound.remove(Constants.Sponge.BlockSnapshot.TILE_ENTITY_POSITION_Z);
@@ -311,8 +316,9 @@ public DataContainer toContainer() {
                 .set(Queries.POSITION_Z, this.pos.z())
                 .container()
                 .set(Constants.Block.BLOCK_STATE, this.blockState);
-        if (this.compound != null) {
-            container.set(Constants.Sponge.UNSAFE_NBT, NBTTranslator.INSTANCE.translateFrom(this.compound));
+        final @Nullable CompoundTag compound = this.compound();
+        if (compound != null) {
+            container.set(Constants.Sponge.UNSAFE_NBT, NBTTranslator.INSTANCE.translateFrom(compound));
         }
         return container;
     }
@@ -329,7 +335,41 @@ public Optional<ServerLevel> getServerWorld() {
     }
 
     public Optional<CompoundTag> getCompound() {
-        return this.compound == null ? Optional.empty() : Optional.of(this.compound.copy());
+        final @Nullable CompoundTag compound = this.compound();
+        return compound == null ? Optional.empty() : Optional.of(compound.copy());
+    }
+
+    /**
+     * Serializes the block entity this snapshot was created with, if its
+     * capture was deferred. This must be called before the block entity is
+     * mutated if the snapshot may still be read afterwards.
+     *
+     * <p>Snapshots are shared between threads, so the capture only happens
+     * once, and the compound is published before the block entity is
+     * cleared.</p>
+     */
+    public void captureBlockEntity() {
+        if (this.deferredBlockEntity == null) {
+            return;
+        }
+        synchronized (this) {
+            final @Nullable BlockEntity blockEntity = this.deferredBlockEntity;
+            if (blockEntity == null) {
+                return;
+            }
+            try {
+                this.compound = blockEntity.saveWithFullMetadata(blockEntity.getLevel().registryAccess());
+            } catch (final Exception e) {
+                SpongeCommon.logger().warn("Unable to capture the data of block entity {} at {} in {}, the snapshot will have none",
+                    blockEntity.getType(), this.pos, this.worldKey, e);
+            }
+            this.deferredBlockEntity = null;
+        }
+    }
+
+    private @Nullable CompoundTag compound() {
+        this.captureBlockEntity();
+        return this.compound;
     }
 
     public BuilderImpl createBuilder() {
@@ -342,18 +382,20 @@ public BuilderImpl createBuilder() {
         } else {
             builder.world(this.worldKey);
         }
-        if (this.compound != null) {
-            builder.addUnsafeCompound(this.compound);
+        final @Nullable CompoundTag compound = this.compound();
+        if (compound != null) {
+            builder.addUnsafeCompound(compound);
         }
         return builder;
     }
 
     @Override
     public DataContainer data$getDataContainer() {
-        if (this.compound == null) {
+        final @Nullable CompoundTag compound = this.compound();
+        if (compound == null) {
             return DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED);
         }
-        return NBTTranslator.INSTANCE.translate(this.compound);
+        return NBTTranslator.INSTANCE.translate(compound);
     }
 
     @Override
@@ -365,7 +407,8 @@ public BuilderImpl createBuilder() {
 
     @Override
     public CompoundTag data$getCompound() {
-        return this.compound == null ? new CompoundTag() : this.compound.copy();
+        final @Nullable CompoundTag compound = this.compound();
+        return compound == null ? new CompoundTag() : compound.copy();
     }
 
     @Override
@@ -406,7 +449,7 @@ public boolean equals(final Object o) {
                this.changeFlag == that.changeFlag &&
                Objects.equals(this.worldKey, that.worldKey) &&
                Objects.equals(this.pos, that.pos) &&
-               Objects.equals(this.compound, that.compound);
+               Objects.equals(this.compound(), that.compound());
     }
 
     @Override
@@ -416,7 +459,7 @@ public int hashCode() {
                 this.worldKey,
                 this.pos,
                 this.changeFlag,
-                this.compound);
+                this.compound());
     }
 
     @Override
@@ -450,6 +493,7 @@ public static BuilderImpl pooled() {
         Vector3i coordinates;
         @Nullable List<DataManipulator.Immutable> manipulators;
         @Nullable CompoundTag compound;
+        @Nullable BlockEntity deferredBlockEntity;
         SpongeBlockChangeFlag flag = (SpongeBlockChangeFlag) BlockChangeFlags.ALL;
         @Nullable WeakReference<ServerLevel> worldRef;
         private final boolean pooled;
@@ -553,13 +597,15 @@ public BuilderImpl from(final SpongeBlockSnapshot snapshot) {
             this.blockState = snapshot.state();
             this.worldKey = snapshot.world();
             this.worldRef = snapshot.world;
-            if (snapshot.compound != null) {
+            final @Nullable CompoundTag compound = snapshot.compound();
+            if (compound != null) {
                 // make a copy so that any changes to this compound in the builder
                 // (position) won't accidently be reflected in the original snapshot.
-                this.compound = snapshot.compound.copy();
+                this.compound = compound.copy();
             } else {
                 this.compound = null;
             }
+            this.deferredBlockEntity = null;
             this.coordinates = snapshot.position();
             this.flag = snapshot.getChangeFlag();
             return this;
@@ -602,6 +648,7 @@ public SpongeBlockChangeFlag getFlag() {
             this.coordinates = null;
             this.manipulators = null;
             this.compound = null;
+            this.deferredBlockEntity = null;
             this.flag = null;
             return this;
         }
@@ -657,6 +704,21 @@ public BuilderImpl addUnsafeCompound(final CompoundTag compound) {
             Objects.requireNonNull(compound);
 
             this.compound = compound.copy();
+            this.deferredBlockEntity = null;
+            return this;
+        }
+
+        /**
+         * Defers serializing the given block entity until the built snapshot's
+         * block entity data is first read.
+         *
+         * @param blockEntity The block entity
+         * @return This builder, for chaining
+         * @see SpongeBlockSnapshot#captureBlockEntity()
+         */
+        public BuilderImpl deferredBlockEntity(final BlockEntity blockEntity) {
+            this.deferredBlockEntity = Objects.requireNonNull(blockEntity);
+            this.compound = null;
             return this;
         }
 
@@ -667,6 +729,7 @@ public BuilderImpl flag(final BlockChangeFlag flag) {
 
         public BuilderImpl tileEntity(final BlockEntity added) {
             this.compound = added.saveWithFullMetadata(added.getLevel().registryAccess());
+            this.deferredBlockEntity = null;
             return this;
         }
     }
@@ -53,4 +53,8 @@ public interface ActivationCapabilityBridge {
     int activation$getSpongeTickRate();
 
     void activation$setSpongeTickRate(int tickRate);
+
+    long activation$getRateTick();
+
+    void activation$setRateTick(long tick);
 }
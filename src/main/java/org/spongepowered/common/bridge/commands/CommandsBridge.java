@@ -24,9 +24,18 @@
  */
 package org.spongepowered.common.bridge.commands;
 
+import net.minecraft.server.level.ServerPlayer;
 import org.spongepowered.common.command.manager.SpongeCommandManager;
 
 public interface CommandsBridge {
 
     SpongeCommandManager bridge$commandManager();
+
+    /**
+     * Builds and sends the command tree of the given player, without reusing
+     * a cached tree.
+     *
+     * @param player The player
+     */
+    void bridge$rebuildCommands(ServerPlayer player);
 }
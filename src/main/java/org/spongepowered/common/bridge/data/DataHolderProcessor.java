@@ -50,6 +50,7 @@ public final class DataHolderProcessor {
             builder.replace(immutableValue);
         }
         manipulator.set(key, value);
+        bridge.bridge$getSerializedData().markDirty(key);
         builder.success(manipulator.getValue(key).get().asImmutable());
 
         DataUtil.syncDataToTag(bridge);
@@ -62,6 +63,7 @@ public final class DataHolderProcessor {
         final Optional<? extends Value<E>> value = manipulator.getValue(key);
         if (value.isPresent()) {
             manipulator.remove(key);
+            bridge.bridge$getSerializedData().markDirty(key);
         }
         DataUtil.syncDataToTag(bridge);
         return value.map(Value::asImmutable).map(DataTransactionResult::successRemove)
@@ -31,6 +31,7 @@
 import org.spongepowered.api.data.persistence.DataQuery;
 import org.spongepowered.api.data.persistence.DataView;
 import org.spongepowered.api.data.value.Value;
+import org.spongepowered.common.data.SerializedCustomData;
 
 import java.util.Optional;
 
@@ -54,6 +55,17 @@ public interface SpongeDataHolderBridge {
 
     DataManipulator.Mutable bridge$getManipulator();
 
+    /**
+     * Gets whether the custom data of this holder has been deserialized,
+     * holders that never had their manipulator requested still carry their
+     * custom data in NBT only.
+     *
+     * @return Whether the manipulator is present
+     */
+    boolean bridge$hasManipulator();
+
+    SerializedCustomData bridge$getSerializedData();
+
     Multimap<DataQuery, DataView> bridge$getFailedData();
 
     void bridge$invalidateFailedData();
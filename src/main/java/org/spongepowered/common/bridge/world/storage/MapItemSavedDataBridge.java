@@ -37,6 +37,8 @@ public interface MapItemSavedDataBridge {
 
     void bridge$updateWholeMap();
 
+    void bridge$setColorsDirty(int x, int y);
+
     int bridge$getMapId();
 
     void bridge$initMapId(int id);
@@ -0,0 +1,69 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.command;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.command.CommandCause;
+
+import java.util.function.Predicate;
+
+/**
+ * A command requirement that only checks a permission, if any.
+ *
+ * <p>Whether such a requirement passes depends on nothing but the
+ * permissions of the cause, which allows the command trees of players with
+ * the same permissions to be shared.</p>
+ */
+public record PermissionRequirement(@Nullable String permission) implements Predicate<CommandCause> {
+
+    public static final PermissionRequirement NONE = new PermissionRequirement(null);
+
+    public static PermissionRequirement of(final @Nullable String permission) {
+        return permission == null ? PermissionRequirement.NONE : new PermissionRequirement(permission);
+    }
+
+    /**
+     * Gets whether the given node requirement only depends on the
+     * permissions or op level of the source it is tested against. Vanilla
+     * and Brigadier requirements are only ever op level checks, which are
+     * turned into permission checks by Sponge.
+     *
+     * @param requirement The requirement
+     * @return Whether it is permission only
+     */
+    public static boolean isPermissionOnly(final @Nullable Predicate<?> requirement) {
+        if (requirement == null || requirement instanceof PermissionRequirement) {
+            return true;
+        }
+        final String name = requirement.getClass().getName();
+        return name.startsWith("net.minecraft.") || name.startsWith("com.mojang.brigadier.");
+    }
+
+    @Override
+    public boolean test(final CommandCause cause) {
+        return this.permission == null || cause.hasPermission(this.permission);
+    }
+
+}
@@ -125,7 +125,7 @@ public final class SpongeParameterizedCommandBuilder implements Command.Paramete
         if (permission == null) {
             return this.executionRequirements(null);
         }
-        return this.executionRequirements(commandCause -> commandCause.hasPermission(permission));
+        return this.executionRequirements(PermissionRequirement.of(permission));
     }
 
     @Override
@@ -148,7 +148,7 @@ public final class SpongeParameterizedCommandBuilder implements Command.Paramete
             Preconditions.checkState(!(!this.parameters.isEmpty() && this.commandExecutor == null), "An executor must exist if you set parameters!");
         }
 
-        final Predicate<CommandCause> requirements = this.executionRequirements == null ? cause -> true : this.executionRequirements;
+        final Predicate<CommandCause> requirements = this.executionRequirements == null ? PermissionRequirement.NONE : this.executionRequirements;
 
         final List<Parameter.Subcommand> subcommands =
                 this.subcommands.entrySet().stream()
@@ -0,0 +1,208 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.command.manager;
+
+import com.mojang.brigadier.tree.CommandNode;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.SharedSuggestionProvider;
+import net.minecraft.network.protocol.game.ClientboundCommandsPacket;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.GameType;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.event.CauseStackManager;
+import org.spongepowered.api.event.EventContextKeys;
+import org.spongepowered.api.service.context.Context;
+import org.spongepowered.api.service.permission.Subject;
+import org.spongepowered.api.service.permission.SubjectData;
+import org.spongepowered.api.service.permission.SubjectReference;
+import org.spongepowered.common.bridge.permissions.SubjectBridge;
+import org.spongepowered.common.event.tracking.PhaseTracker;
+import org.spongepowered.common.service.server.permission.MemorySubjectData;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Caches the command tree packets sent to players, keyed by a fingerprint
+ * of everything that decides which nodes a player may see.
+ *
+ * <p>Players that share a fingerprint share a single packet, so the tree is
+ * only filtered once per distinct set of permissions. The cache is dropped
+ * when commands are registered or any subject data changes. Trees are only
+ * shared while every command node is only guarded by permissions, as any
+ * other requirement may differ between players with the same fingerprint.</p>
+ */
+public final class CommandTreeCache {
+
+    private static final int MAX_ENTRIES = 256;
+    private static final AtomicLong EXTERNAL_SUBJECT_VERSION = new AtomicLong();
+
+    private final BooleanSupplier permissionOnly;
+    private final AtomicLong generations = new AtomicLong();
+    private final AtomicReference<Generation> generation = new AtomicReference<>(this.nextGeneration());
+    private volatile @Nullable Boolean shareable;
+
+    CommandTreeCache(final BooleanSupplier permissionOnly) {
+        this.permissionOnly = permissionOnly;
+    }
+
+    /**
+     * Invalidates the trees cached by every command manager, for use when
+     * subject data held outside of Sponge's own permission service changes.
+     */
+    public static void invalidateSubjects() {
+        CommandTreeCache.EXTERNAL_SUBJECT_VERSION.incrementAndGet();
+    }
+
+    private static long subjectVersion() {
+        return MemorySubjectData.globalVersion() + CommandTreeCache.EXTERNAL_SUBJECT_VERSION.get();
+    }
+
+    public void invalidate() {
+        this.shareable = null;
+        this.generation.set(this.nextGeneration());
+    }
+
+    public @Nullable Fingerprint fingerprint(final ServerPlayer player) {
+        if (!this.shareable()) {
+            return null;
+        }
+        final @Nullable Subject subject = ((SubjectBridge) player).bridge$resolveOptional().orElse(null);
+        if (subject == null) {
+            return null;
+        }
+        final Set<Context> contexts;
+        try (final CauseStackManager.StackFrame frame = PhaseTracker.getCauseStackManager().pushCauseFrame()) {
+            frame.pushCause(player);
+            frame.addContext(EventContextKeys.SUBJECT, subject);
+            contexts = Sponge.server().serviceProvider().contextService().contexts();
+        }
+        return new Fingerprint(
+                this.generation().id,
+                player.server.getProfilePermissions(player.getGameProfile()),
+                player.gameMode.getGameModeForPlayer(),
+                contexts,
+                CommandTreeCache.parents(subject.subjectData()),
+                CommandTreeCache.parents(subject.transientSubjectData()),
+                subject.subjectData().allPermissions(),
+                subject.transientSubjectData().allPermissions()
+        );
+    }
+
+    private boolean shareable() {
+        @Nullable Boolean shareable = this.shareable;
+        if (shareable == null) {
+            shareable = this.permissionOnly.getAsBoolean();
+            this.shareable = shareable;
+        }
+        return shareable;
+    }
+
+    /**
+     * Gets the current generation of cached trees, replacing it if subject
+     * data has changed since it was created.
+     */
+    private Generation generation() {
+        final Generation current = this.generation.get();
+        if (current.subjectVersion == CommandTreeCache.subjectVersion()) {
+            return current;
+        }
+        final Generation next = this.nextGeneration();
+        return this.generation.compareAndSet(current, next) ? next : this.generation.get();
+    }
+
+    private Generation nextGeneration() {
+        return new Generation(this.generations.incrementAndGet(), CommandTreeCache.subjectVersion());
+    }
+
+    public @Nullable Entry get(final Fingerprint fingerprint) {
+        final Generation generation = this.generation();
+        return generation.id == fingerprint.generation() ? generation.entries.get(fingerprint) : null;
+    }
+
+    public void put(final Fingerprint fingerprint, final Entry entry) {
+        final Generation generation = this.generation();
+        // A tree built before the cache was invalidated must not be cached
+        // with the trees built after
+        if (generation.id != fingerprint.generation()) {
+            return;
+        }
+        if (generation.entries.size() >= CommandTreeCache.MAX_ENTRIES) {
+            generation.entries.clear();
+        }
+        generation.entries.put(fingerprint, entry);
+    }
+
+    private static Map<Set<Context>, List<String>> parents(final SubjectData data) {
+        final Map<Set<Context>, ? extends List<? extends SubjectReference>> parents = data.allParents();
+        final Map<Set<Context>, List<String>> identifiers = new HashMap<>(parents.size());
+        parents.forEach((contexts, references) -> identifiers.put(contexts, references.stream()
+                .map(reference -> reference.collectionIdentifier() + '/' + reference.subjectIdentifier())
+                .toList()));
+        return identifiers;
+    }
+
+    private static final class Generation {
+
+        final long id;
+        final long subjectVersion;
+        final Map<Fingerprint, Entry> entries = new ConcurrentHashMap<>();
+
+        Generation(final long id, final long subjectVersion) {
+            this.id = id;
+            this.subjectVersion = subjectVersion;
+        }
+    }
+
+    /**
+     * A cached tree, along with the nodes each command node was turned into
+     * while it was built.
+     */
+    public record Entry(
+            ClientboundCommandsPacket packet,
+            Map<CommandNode<CommandSourceStack>, List<CommandNode<SharedSuggestionProvider>>> playerNodes
+    ) {
+    }
+
+    public record Fingerprint(
+            long generation,
+            int permissionLevel,
+            GameType gameMode,
+            Set<Context> contexts,
+            Map<Set<Context>, List<String>> parents,
+            Map<Set<Context>, List<String>> transientParents,
+            Map<Set<Context>, Map<String, Boolean>> permissions,
+            Map<Set<Context>, Map<String, Boolean>> transientPermissions
+    ) {
+    }
+
+}
@@ -77,8 +77,10 @@
 import org.spongepowered.common.adventure.SpongeAdventure;
 import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 import org.spongepowered.common.bridge.commands.CommandsBridge;
+import org.spongepowered.common.command.PermissionRequirement;
 import org.spongepowered.common.command.SpongeCommandCompletion;
 import org.spongepowered.common.command.brigadier.dispatcher.SpongeCommandDispatcher;
+import org.spongepowered.common.command.brigadier.tree.SpongeNode;
 import org.spongepowered.common.command.exception.SpongeCommandResultException;
 import org.spongepowered.common.command.exception.SpongeCommandSyntaxException;
 import org.spongepowered.common.command.registrar.BrigadierCommandRegistrar;
@@ -96,12 +98,15 @@
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
@@ -124,6 +129,7 @@ public abstract class SpongeCommandManager implements CommandManager.Mutable {
     private final Multimap<PluginContainer, SpongeCommandMapping> pluginToCommandMap = HashMultimap.create();
     private final LinkedHashMap<SpongeCommandMapping, RootCommandTreeNode> mappingToSuggestionNodes = new LinkedHashMap<>();
     private final Map<Class<?>, CommandRegistrar<?>> knownRegistrars = new ConcurrentHashMap<>();
+    private final CommandTreeCache commandTreeCache = new CommandTreeCache(this::hasPermissionOnlyRequirements);
     private BrigadierCommandRegistrar brigadierRegistrar;
 
     public static SpongeCommandManager get(final MinecraftServer server) {
@@ -144,6 +150,10 @@ public BrigadierCommandRegistrar getBrigadierRegistrar() {
         return this.brigadierRegistrar;
     }
 
+    public CommandTreeCache commandTreeCache() {
+        return this.commandTreeCache;
+    }
+
     @Override
     public @NonNull Set<String> knownAliases() {
         return Collections.unmodifiableSet(new HashSet<>(this.commandMappings.keySet()));
@@ -264,6 +274,7 @@ public BrigadierCommandRegistrar getBrigadierRegistrar() {
         if (parameterTree instanceof RootCommandTreeNode) {
             this.mappingToSuggestionNodes.put(mapping, (RootCommandTreeNode) parameterTree);
         }
+        this.commandTreeCache.invalidate();
         return mapping;
     }
 
@@ -280,7 +291,7 @@ public BrigadierCommandRegistrar getBrigadierRegistrar() {
     @Override
     public void updateCommandTreeForPlayer(final @NonNull ServerPlayer player) {
         Objects.requireNonNull(player, "player");
-        SpongeCommon.server().getCommands().sendCommands((net.minecraft.server.level.ServerPlayer) player);
+        ((CommandsBridge) SpongeCommon.server().getCommands()).bridge$rebuildCommands((net.minecraft.server.level.ServerPlayer) player);
     }
 
     @Override
@@ -498,6 +509,37 @@ private void registerInternalCommands(final CommandRegistrar<Parameterized> regi
                 CallbackCommand.NAME);
     }
 
+    /**
+     * Gets whether every registered command node can only be hidden from a
+     * player by their permissions, in which case players with the same
+     * permissions are sent the same command tree.
+     *
+     * @return Whether all requirements are permission only
+     */
+    private boolean hasPermissionOnlyRequirements() {
+        final Set<CommandNode<CommandSourceStack>> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        final Deque<CommandNode<CommandSourceStack>> nodes = new ArrayDeque<>(this.getDispatcher().getRoot().getChildren());
+        while (!nodes.isEmpty()) {
+            final CommandNode<CommandSourceStack> node = nodes.pop();
+            if (!visited.add(node)) {
+                continue;
+            }
+            if (!PermissionRequirement.isPermissionOnly(node.getRequirement())) {
+                return false;
+            }
+            nodes.addAll(node.getChildren());
+            if (node instanceof SpongeNode) {
+                nodes.addAll(((SpongeNode) node).getChildrenForSuggestions());
+            }
+        }
+        for (final RootCommandTreeNode root : this.mappingToSuggestionNodes.values()) {
+            if (!root.hasPermissionOnlyRequirements()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public Collection<CommandNode<SharedSuggestionProvider>> getNonBrigadierSuggestions(final CommandCause cause) {
         final List<CommandNode<SharedSuggestionProvider>> suggestions = new ArrayList<>();
 
@@ -34,6 +34,7 @@
 import org.spongepowered.api.command.parameter.managed.ValueParameterModifier;
 import org.spongepowered.api.command.parameter.managed.ValueParser;
 import org.spongepowered.api.command.parameter.managed.ValueUsage;
+import org.spongepowered.common.command.PermissionRequirement;
 import org.spongepowered.common.util.Preconditions;
 
 import java.lang.reflect.Type;
@@ -102,7 +103,7 @@ public SpongeParameterValueBuilder(final @NonNull Type token) {
         if (permission == null) {
             return this.requirements(null);
         } else {
-            return this.requirements(commandCause -> commandCause.subject().hasPermission(permission));
+            return this.requirements(PermissionRequirement.of(permission));
         }
     }
 
@@ -169,7 +170,7 @@ public SpongeParameterValueBuilder(final @NonNull Type token) {
                 parsersBuilder.build(),
                 completer,
                 this.usage,
-                this.executionRequirements == null ? commandCause -> true : this.executionRequirements,
+                this.executionRequirements == null ? PermissionRequirement.NONE : this.executionRequirements,
                 this.key,
                 this.isOptional,
                 this.consumesAll,
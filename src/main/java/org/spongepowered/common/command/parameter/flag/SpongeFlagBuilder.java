@@ -30,6 +30,7 @@
 import org.spongepowered.api.command.CommandCause;
 import org.spongepowered.api.command.parameter.Parameter;
 import org.spongepowered.api.command.parameter.managed.Flag;
+import org.spongepowered.common.command.PermissionRequirement;
 import org.spongepowered.common.util.Preconditions;
 
 import java.util.HashSet;
@@ -43,7 +44,7 @@ public final class SpongeFlagBuilder implements Flag.Builder {
     private @Nullable Parameter parameter;
     private final Set<String> aliases = new HashSet<>();
     private final Set<String> keys = new HashSet<>();
-    private Predicate<CommandCause> requirement = cause -> true;
+    private Predicate<CommandCause> requirement = PermissionRequirement.NONE;
 
     @Override
     public Flag.@NonNull Builder alias(final @NonNull String alias) {
@@ -76,14 +77,14 @@ public final class SpongeFlagBuilder implements Flag.Builder {
         if (permission == null) {
             return this.setRequirement(null);
         } else {
-            return this.setRequirement(cause -> cause.hasPermission(permission));
+            return this.setRequirement(PermissionRequirement.of(permission));
         }
     }
 
     @Override
     public Flag.@NonNull Builder setRequirement(final @Nullable Predicate<CommandCause> requirement) {
         if (requirement == null) {
-            this.requirement = cause -> true;
+            this.requirement = PermissionRequirement.NONE;
         } else {
             this.requirement = requirement;
         }
@@ -110,7 +111,7 @@ public final class SpongeFlagBuilder implements Flag.Builder {
     @Override
     public Flag.@NonNull Builder reset() {
         this.aliases.clear();
-        this.requirement = cause -> true;
+        this.requirement = PermissionRequirement.NONE;
         this.parameter = null;
         return this;
     }
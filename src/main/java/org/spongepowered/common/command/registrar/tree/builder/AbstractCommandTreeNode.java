@@ -35,6 +35,7 @@
 import org.spongepowered.api.command.CommandCause;
 import org.spongepowered.api.command.registrar.tree.CommandCompletionProvider;
 import org.spongepowered.api.command.registrar.tree.CommandTreeNode;
+import org.spongepowered.common.command.PermissionRequirement;
 import org.spongepowered.common.command.brigadier.tree.ForcedRedirectNode;
 
 import java.util.HashMap;
@@ -51,7 +52,7 @@
     private @Nullable Map<String, AbstractCommandTreeNode<?, ?>> children = null;
     private boolean executable = false;
     private @Nullable CommandCompletionProvider completionProvider = null;
-    private Predicate<CommandCause> requirement = c -> true;
+    private Predicate<CommandCause> requirement = PermissionRequirement.NONE;
 
     public ImmutableMap<String, AbstractCommandTreeNode<?, ?>> getChildren() {
         if (this.children == null) {
@@ -105,7 +106,7 @@
 
     @Override
     public @NonNull T requires(final @Nullable Predicate<CommandCause> requirement) {
-        this.requirement = requirement == null ? c -> true : requirement;
+        this.requirement = requirement == null ? PermissionRequirement.NONE : requirement;
         return this.getThis();
     }
 
@@ -160,4 +161,18 @@ protected final void addChildNodesToTree(
     protected final Predicate<CommandCause> getRequirement() {
         return this.requirement;
     }
+
+    public boolean hasPermissionOnlyRequirements() {
+        if (!PermissionRequirement.isPermissionOnly(this.requirement)) {
+            return false;
+        }
+        if (this.children != null) {
+            for (final AbstractCommandTreeNode<?, ?> child : this.children.values()) {
+                if (!child.hasPermissionOnlyRequirements()) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
 }
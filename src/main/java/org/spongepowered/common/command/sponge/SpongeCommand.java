@@ -54,6 +54,7 @@
 import org.spongepowered.api.event.SpongeEventFactory;
 import org.spongepowered.api.event.lifecycle.RefreshGameEvent;
 import org.spongepowered.api.item.inventory.ItemStack;
+import org.spongepowered.api.network.channel.Channel;
 import org.spongepowered.api.util.blockray.RayTrace;
 import org.spongepowered.api.world.LocatableBlock;
 import org.spongepowered.api.world.server.ServerLocation;
@@ -61,12 +62,16 @@
 import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.accessor.world.level.LevelAccessor;
 import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
+import org.spongepowered.common.bridge.activation.ActivationWorldBridge;
 import org.spongepowered.common.bridge.server.level.ServerLevelBridge;
 import org.spongepowered.common.bridge.world.level.LevelBridge;
 import org.spongepowered.common.config.SpongeGameConfigs;
 import org.spongepowered.common.event.manager.SpongeEventManager;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.launch.Launch;
+import org.spongepowered.common.network.channel.ChannelStatistics;
+import org.spongepowered.common.network.channel.SpongeChannel;
+import org.spongepowered.common.scheduler.PluginTaskExecutor;
 import org.spongepowered.common.util.JvmUtil;
 import org.spongepowered.plugin.PluginContainer;
 import org.spongepowered.plugin.metadata.PluginMetadata;
@@ -159,6 +164,20 @@ public Command.Parameterized createSpongeCommand() {
                 .executor(this::tpsExecutor)
                 .build();
 
+        // /sponge scheduler
+        final Command.Parameterized schedulerCommand = Command.builder()
+                .permission("sponge.command.scheduler")
+                .shortDescription(Component.text("Display the asynchronous task statistics of each plugin"))
+                .executor(this::schedulerExecutor)
+                .build();
+
+        // /sponge channels
+        final Command.Parameterized channelsCommand = Command.builder()
+                .permission("sponge.command.channels")
+                .shortDescription(Component.text("Display the encoding and send statistics of each network channel"))
+                .executor(this::channelsExecutor)
+                .build();
+
         // /sponge version
         final Command.Parameterized versionCommand = Command.builder()
                 .permission("sponge.command.version")
@@ -201,9 +220,11 @@ public Command.Parameterized createSpongeCommand() {
                 .permission("sponge.command.root")
                 .executor(this::rootCommand)
                 .addChild(auditCommand, "audit")
+                .addChild(channelsCommand, "channels")
                 .addChild(chunksCommand, "chunks")
                 .addChild(heapCommand, "heap")
                 .addChild(pluginsCommand, "plugins")
+                .addChild(schedulerCommand, "scheduler")
                 .addChild(tpsCommand, "tps")
                 .addChild(versionCommand, "version")
                 .addChild(whichCommand, "which")
@@ -467,10 +488,30 @@ private Command.Parameterized chunksSubcommand() {
                     .append(Component.text(world.key().asString(), TextColor.color(0xC9C9C9)))
                     .append(Component.text(": "));
                 tps.add(this.appendTickTime(((ServerLevelBridge) world).bridge$recentTickTimes(), builder).build());
+                if (world instanceof final ActivationWorldBridge activation) {
+                    tps.add(Component.text()
+                      .append(SpongeCommand.INDENT_COMPONENT)
+                      .append(Component.text("Entity activation: "))
+                      .append(Component.text(activation.activation$getActivatedEntities(), SpongeCommand.GREEN))
+                      .append(Component.text(" active, "))
+                      .append(Component.text(activation.activation$getInactiveEntities(), SpongeCommand.YELLOW))
+                      .append(Component.text(" inactive in "))
+                      .append(Component.text(SpongeCommand.THREE_DECIMAL_DIGITS_FORMATTER.format(activation.activation$getActivationNanos() * 1.0E-6D), NamedTextColor.GRAY))
+                      .append(Component.text("ms", NamedTextColor.GRAY))
+                      .build());
+                }
             }
 
             tps.add(Component.newline());
             tps.add(this.appendTickTime(SpongeCommon.server().getTickTimesNanos(), Component.text().content("Overall: ")).build());
+            final SpongeEventManager eventManager = (SpongeEventManager) SpongeCommon.game().eventManager();
+            tps.add(Component.text()
+              .append(Component.text("Listener re-bakes: "))
+              .append(Component.text(eventManager.lastTickBakes(), NamedTextColor.GRAY))
+              .append(Component.text(" last tick, "))
+              .append(Component.text(eventManager.totalBakes(), NamedTextColor.GRAY))
+              .append(Component.text(" total"))
+              .build());
             SpongeCommon.game().serviceProvider()
               .paginationService()
               .builder()
@@ -485,6 +526,61 @@ private Command.Parameterized chunksSubcommand() {
         return CommandResult.success();
     }
 
+    private @NonNull CommandResult schedulerExecutor(final CommandContext context) {
+        final List<Component> lines = new ArrayList<>();
+        for (final PluginTaskExecutor executor : SpongeCommon.asyncScheduler().pluginExecutors()) {
+            final String limit = executor.concurrencyLimit() > 0 ? String.valueOf(executor.concurrencyLimit()) : "unlimited";
+            lines.add(Component.text()
+                .append(Component.text(executor.pluginId(), TextColor.color(0xC9C9C9)))
+                .append(Component.text(": "))
+                .append(Component.text(executor.queued(), SpongeCommand.YELLOW))
+                .append(Component.text(" queued, "))
+                .append(Component.text(executor.running(), SpongeCommand.GREEN))
+                .append(Component.text(" running (limit " + limit + "), "))
+                .append(Component.text(executor.completed(), SpongeCommand.LIGHT_BLUE))
+                .append(Component.text(" completed"))
+                .build());
+        }
+        SpongeCommon.game().serviceProvider()
+          .paginationService()
+          .builder()
+          .contents(lines.isEmpty() ? List.of(SpongeCommand.EMPTY) : lines)
+          .title(Component.text("Asynchronous Tasks", NamedTextColor.WHITE))
+          .padding(Component.text("-", NamedTextColor.WHITE))
+          .sendTo(context.cause().audience());
+        return CommandResult.success();
+    }
+
+    private @NonNull CommandResult channelsExecutor(final CommandContext context) {
+        final List<Component> lines = new ArrayList<>();
+        for (final Channel channel : SpongeCommon.game().channelManager().channels()) {
+            final ChannelStatistics statistics = ((SpongeChannel) channel).statistics();
+            if (statistics.encodes() == 0) {
+                continue;
+            }
+            lines.add(Component.text()
+                .append(Component.text(channel.key().formatted(), TextColor.color(0xC9C9C9)))
+                .append(Component.text(": "))
+                .append(Component.text(statistics.encodes(), SpongeCommand.YELLOW))
+                .append(Component.text(" encoded in "))
+                .append(Component.text(SpongeCommand.THREE_DECIMAL_DIGITS_FORMATTER.format(statistics.encodeNanos() * 1.0E-6D), SpongeCommand.YELLOW))
+                .append(Component.text("ms, "))
+                .append(Component.text(statistics.packets(), SpongeCommand.GREEN))
+                .append(Component.text(" packets, "))
+                .append(Component.text(statistics.bytes(), SpongeCommand.LIGHT_BLUE))
+                .append(Component.text(" bytes sent"))
+                .build());
+        }
+        SpongeCommon.game().serviceProvider()
+          .paginationService()
+          .builder()
+          .contents(lines.isEmpty() ? List.of(SpongeCommand.EMPTY) : lines)
+          .title(Component.text("Network Channels", NamedTextColor.WHITE))
+          .padding(Component.text("-", NamedTextColor.WHITE))
+          .sendTo(context.cause().audience());
+        return CommandResult.success();
+    }
+
     public static double getAverage(long[] $$0) {
         long $$1 = 0L;
 
@@ -42,6 +42,21 @@ public final class EntityActivationRangeCategory {
     @Comment("Per-mod overrides. Refer to the minecraft default mod for example.")
     public final Map<String, ModSubCategory> mods = new HashMap<>();
 
+    @Setting("global-tick-rates")
+    @Comment("Default tick rates used for inactive entities unless overridden. An inactive entity just outside of its \n"
+                                                       + "activation range ticks once every this many ticks, the rate doubles for every further \n"
+                                                       + "activation range of distance to the nearest player. Set to 0 to disable. (Default: 0)")
+    public final Map<String, Integer> globalTickRates = new HashMap<>();
+
+    @Setting("max-tick-rate")
+    @Comment("Inactive entities whose tick rate grows beyond this many ticks only tick when they are woken up. (Default: 20)")
+    public int maxTickRate = 20;
+
+    @Setting("block-entity-tick-rates")
+    @Comment("Tick rates of block entities, keyed by block entity type, i.e. 'minecraft:hopper'. Block entities of these \n"
+                                                             + "types tick once every this many ticks while no player is near their chunk.")
+    public final Map<String, Integer> blockEntityTickRates = new HashMap<>();
+
     @Setting("auto-populate")
     @Comment("If 'true', newly discovered entities will be added to this config with a default value.")
     public boolean autoPopulate = false;
@@ -52,6 +67,12 @@ public EntityActivationRangeCategory() {
         this.globalRanges.put("creature", 32);
         this.globalRanges.put("monster", 32);
         this.globalRanges.put("misc", 16);
+
+        this.globalTickRates.put("ambient", 0);
+        this.globalTickRates.put("aquatic", 0);
+        this.globalTickRates.put("creature", 0);
+        this.globalTickRates.put("monster", 0);
+        this.globalTickRates.put("misc", 0);
     }
 
     @ConfigSerializable
@@ -64,6 +85,13 @@ public static final class ModSubCategory {
         @Setting
         public final Map<String, Integer> entities = new HashMap<>();
 
+        @Setting("default-tick-rates")
+        @Comment("Default tick rates used for inactive entities of this mod unless overridden.")
+        public final Map<String, Integer> defaultTickRates = new HashMap<>();
+
+        @Setting("entity-tick-rates")
+        public final Map<String, Integer> entityTickRates = new HashMap<>();
+
         @Setting
         @Comment("If 'false', entity activation rules for this mod will be ignored and always tick.")
         public boolean enabled = true;
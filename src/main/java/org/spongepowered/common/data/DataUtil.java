@@ -24,7 +24,10 @@
  */
 package org.spongepowered.common.data;
 
+import com.google.common.collect.Multimap;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.Tag;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.ResourceKey;
 import org.spongepowered.api.data.DataHolder;
 import org.spongepowered.api.data.DataManipulator;
@@ -40,7 +43,6 @@
 import org.spongepowered.common.data.persistence.datastore.SpongeDataStore;
 import org.spongepowered.common.util.Constants;
 
-import java.lang.reflect.Type;
 import java.util.Collections;
 import java.util.Optional;
 
@@ -64,12 +66,23 @@ public static <T extends SpongeDataHolderBridge & DataCompoundHolder> void deser
         if (compound == null) {
             return;
         }
-        final DataContainer allData = NBTTranslator.INSTANCE.translate(compound);
+        final Class<? extends DataHolder> typeToken = dataHolder.getClass().asSubclass(DataHolder.class);
+        final DataContainer allData;
+        if (SpongeDataManager.getDatastoreRegistry().usesOnlyCustomData(typeToken)) {
+            // Only translate the custom data, not the whole entity or block entity
+            final CompoundTag customData = DataUtil.customDataOf(compound);
+            if (customData.isEmpty()) {
+                dataHolder.bridge$mergeDeserialized(DataManipulator.mutableOf()); // Initialize sponge data holder
+                return;
+            }
+            allData = NBTTranslator.INSTANCE.translate(customData);
+        } else {
+            allData = NBTTranslator.INSTANCE.translate(compound);
+        }
 
         DataUtil.upgradeDataVersion(compound, allData); // Upgrade v2->v3
 
         // Run content-updaters and collect failed data
-        final Class<? extends DataHolder> typeToken = dataHolder.getClass().asSubclass(DataHolder.class);
         allData.getView(Constants.Sponge.Data.V3.SPONGE_DATA_ROOT).ifPresent(customData -> {
             for (final DataQuery keyNamespace : customData.keys(false)) {
                 final DataView keyedData = customData.getView(keyNamespace).get();
@@ -105,6 +118,21 @@ public static <T extends SpongeDataHolderBridge & DataCompoundHolder> void deser
         }
     }
 
+    @SuppressWarnings("deprecation")
+    private static CompoundTag customDataOf(final CompoundTag compound) {
+        final CompoundTag customData = new CompoundTag();
+        final @Nullable Tag spongeData = compound.get(Constants.Sponge.Data.V3.SPONGE_DATA_ROOT.asString("."));
+        if (spongeData != null) {
+            customData.put(Constants.Sponge.Data.V3.SPONGE_DATA_ROOT.asString("."), spongeData);
+        }
+        // Legacy v2 data still has to be upgraded
+        final @Nullable Tag forgeData = compound.get(Constants.Forge.FORGE_DATA);
+        if (forgeData instanceof CompoundTag && ((CompoundTag) forgeData).contains(Constants.Sponge.Data.V2.SPONGE_DATA)) {
+            customData.put(Constants.Forge.FORGE_DATA, forgeData);
+        }
+        return customData;
+    }
+
     @SuppressWarnings("deprecation")
     public static void upgradeDataVersion(final CompoundTag compound, final DataContainer allData) {
         // Check for v2 data
@@ -174,30 +202,38 @@ private static void upgradeV2CustomData(final CompoundTag compound, final DataCo
 
     public static <T extends SpongeDataHolderBridge & DataCompoundHolder> boolean serializeSpongeData(final T dataHolder) {
         CompoundTag compound = dataHolder.data$getCompound();
+        final DataManipulator.Mutable manipulator = dataHolder.bridge$getManipulator();
+        final Multimap<DataQuery, DataView> failedData = dataHolder.bridge$getFailedData();
+        if (compound == null && failedData.isEmpty() && manipulator.getKeys().isEmpty()) {
+            return false; // Nothing to write, most holders end up here
+        }
         if (compound == null) {
             compound = new CompoundTag();
         } else {
             compound = compound.copy(); // do not modify the original as it might be shared
         }
         dataHolder.data$setCompound(compound);
-        compound.remove(Constants.Sponge.Data.V3.SPONGE_DATA_ROOT.asString(".")); // Remove all previous SpongeData
-
-        final DataContainer allData = NBTTranslator.INSTANCE.translate(compound);
-
-        // Clear old custom data root
-        final DataView customDataRoot = allData.createView(Constants.Sponge.Data.V3.SPONGE_DATA_ROOT);
+        final String customDataRoot = Constants.Sponge.Data.V3.SPONGE_DATA_ROOT.asString(".");
+        compound.remove(customDataRoot); // Remove all previous SpongeData
 
-        dataHolder.bridge$getFailedData().forEach(customDataRoot::set); // Add back failed data
-
-        final DataManipulator.Mutable manipulator = dataHolder.bridge$getManipulator();
-        final Type dataHolderType = dataHolder.getClass();
-        manipulator.getKeys().stream()
-                .map(key -> SpongeDataManager.getDatastoreRegistry().getDataStore(key, dataHolderType))
-                .forEach(dataStore -> dataStore.serialize(manipulator, allData));
+        final CompoundTag customData = new CompoundTag();
+        if (!failedData.isEmpty()) {
+            // Add back failed data
+            final DataContainer failed = DataContainer.createNew();
+            final DataView failedRoot = failed.createView(Constants.Sponge.Data.V3.SPONGE_DATA_ROOT);
+            failedData.forEach(failedRoot::set);
+            customData.merge(NBTTranslator.INSTANCE.translate(failed));
+        }
+        // Data stores without changes write their previous NBT directly
+        dataHolder.bridge$getSerializedData().write(manipulator, dataHolder.getClass(), customData);
 
-        // If data is still present after cleanup merge it back into nbt
-        if (DataUtil.cleanupEmptySpongeData(allData)) {
-            compound.merge(NBTTranslator.INSTANCE.translate(allData));
+        // Drop the custom data root if nothing was written to it, data stores
+        // writing vanilla paths are merged either way
+        if (customData.getCompound(customDataRoot).isEmpty()) {
+            customData.remove(customDataRoot);
+        }
+        if (!customData.isEmpty()) {
+            compound.merge(customData);
         }
         if (compound.isEmpty()) {
             dataHolder.data$setCompound(null);
@@ -206,16 +242,6 @@ public static <T extends SpongeDataHolderBridge & DataCompoundHolder> boolean se
         return true;
     }
 
-    private static boolean cleanupEmptySpongeData(final DataContainer allData) {
-        return allData.getView(Constants.Sponge.Data.V3.SPONGE_DATA_ROOT).map(spongeData -> {
-                if (spongeData.isEmpty()) {
-                    allData.remove(Constants.Sponge.Data.V3.SPONGE_DATA_ROOT);
-                    return false;
-                }
-                return true;
-            }).orElse(false);
-    }
-
     public static void setSpongeData(final DataView allData, final DataQuery dataStoreKey, final DataView pluginData, final int version) {
         final DataQuery dataStoreDataQuery = Constants.Sponge.Data.V3.SPONGE_DATA_ROOT.then(dataStoreKey);
         final DataView dataStoreDataView = allData.getView(dataStoreDataQuery).orElseGet(() -> allData.createView(dataStoreDataQuery));
@@ -30,6 +30,7 @@
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import net.minecraft.nbt.CompoundTag;
 import org.apache.commons.lang3.ArrayUtils;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.ResourceKey;
@@ -79,7 +80,7 @@ public class MemoryDataView implements DataView {
         this.safety = Objects.requireNonNull(safety, "Safety mode");
     }
 
-    private MemoryDataView(final DataView parent, final DataQuery path, final DataView.SafetyMode safety) {
+    MemoryDataView(final DataView parent, final DataQuery path, final DataView.SafetyMode safety) {
         Preconditions.checkArgument(path.parts().size() >= 1, "Path must have at least one part");
         this.parent = parent;
         this.container = parent.container();
@@ -87,6 +88,16 @@ private MemoryDataView(final DataView parent, final DataQuery path, final DataVi
         this.safety = Objects.requireNonNull(safety, "Safety mode");
     }
 
+    /**
+     * Gets the entries of this view, by name. Subclasses may populate them
+     * lazily, so this should be used rather than {@link #map} directly.
+     *
+     * @return The entries
+     */
+    Map<String, Object> entries() {
+        return this.map;
+    }
+
     @Override
     public DataContainer container() {
         return this.container;
@@ -112,11 +123,11 @@ public Optional<DataView> parent() {
     public Set<DataQuery> keys(final boolean deep) {
         final ImmutableSet.Builder<DataQuery> builder = ImmutableSet.builder();
 
-        for (final Map.Entry<String, Object> entry : this.map.entrySet()) {
+        for (final Map.Entry<String, Object> entry : this.entries().entrySet()) {
             builder.add(DataQuery.of(entry.getKey()));
         }
         if (deep) {
-            for (final Map.Entry<String, Object> entry : this.map.entrySet()) {
+            for (final Map.Entry<String, Object> entry : this.entries().entrySet()) {
                 if (entry.getValue() instanceof DataView) {
                     for (final DataQuery query : ((DataView) entry.getValue()).keys(true)) {
                         builder.add(DataQuery.of(entry.getKey()).then(query));
@@ -148,7 +159,7 @@ public final boolean contains(final DataQuery path) {
 
         final String key = queryParts.get(0);
         if (queryParts.size() == 1) {
-            return this.map.containsKey(key);
+            return this.entries().containsKey(key);
         }
         final Optional<DataView> subViewOptional = this.getUnsafeView(key);
         return subViewOptional.isPresent() && subViewOptional.get().contains(path.popFirst());
@@ -187,7 +198,7 @@ public Optional<Object> get(final DataQuery path) {
 
         final String key = queryParts.get(0);
         if (sz == 1) {
-            final Object object = this.map.get(key);
+            final Object object = this.entries().get(key);
             if (object == null) {
                 return Optional.empty();
             }
@@ -240,7 +251,7 @@ public DataView set(final DataQuery path, final Object value) {
             final DataView subView;
             if (!subViewOptional.isPresent()) {
                 this.createView(subQuery);
-                subView = (DataView) this.map.get(key);
+                subView = (DataView) this.entries().get(key);
             } else {
                 subView = subViewOptional.get();
             }
@@ -251,7 +262,11 @@ public DataView set(final DataQuery path, final Object value) {
         final Object serialized = DataSerializer.serialize(this.safetyMode(), value);
 
         Preconditions.checkArgument(this.isEmpty() || !this.equals(serialized), "Cannot insert self-referencing DataView!");
-        if (serialized instanceof DataView) {
+        final @Nullable CompoundTag source = serialized instanceof DataView ? NBTDataContainer.sourceOf((DataView) serialized) : null;
+        if (source != null) {
+            // Unmodified NBT is never mutated, so it can be shared instead of copied
+            this.entries().put(key, new NBTDataView(this, DataQuery.of(key), this.safety, source));
+        } else if (serialized instanceof DataView) {
             // always have to copy a data view to avoid overwriting existing
             // views and to set the interior path correctly.
             final Collection<DataQuery> valueKeys = ((DataView) serialized).keys(true);
@@ -263,7 +278,7 @@ public DataView set(final DataQuery path, final Object value) {
                 this.createView(path);
             }
         } else {
-            this.map.put(key, serialized);
+            this.entries().put(key, serialized);
         }
 
         return this;
@@ -283,7 +298,7 @@ public DataView remove(final DataQuery path) {
             final DataView subView = subViewOptional.get();
             subView.remove(path.popFirst());
         } else {
-            this.map.remove(parts.get(0));
+            this.entries().remove(parts.get(0));
         }
         return this;
     }
@@ -302,14 +317,14 @@ public DataView createView(final DataQuery path) {
 
         if (sz == 1) {
             final DataView result = new MemoryDataView(this, keyQuery, this.safety);
-            this.map.put(key, result);
+            this.entries().put(key, result);
             return result;
         }
         final DataQuery subQuery = path.popFirst();
-        DataView subView = (DataView) this.map.get(key);
+        DataView subView = (DataView) this.entries().get(key);
         if (subView == null) {
             subView = new MemoryDataView(this.parent, keyQuery, this.safety);
-            this.map.put(key, subView);
+            this.entries().put(key, subView);
         }
         return subView.createView(subQuery);
     }
@@ -381,7 +396,7 @@ private Optional<DataView> getUnsafeView(final DataQuery path) {
     }
 
     private Optional<DataView> getUnsafeView(final String path) {
-        final Object object = this.map.get(path);
+        final Object object = this.entries().get(path);
         if (!(object instanceof DataView)) {
             return Optional.empty();
         }
@@ -694,7 +709,7 @@ public DataContainer copy(final org.spongepowered.api.data.persistence.DataView.
 
     @Override
     public boolean isEmpty() {
-        return this.map.isEmpty();
+        return this.entries().isEmpty();
     }
 
     @Override
@@ -704,7 +719,7 @@ public org.spongepowered.api.data.persistence.DataView.SafetyMode safetyMode() {
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.map, this.path);
+        return Objects.hash(this.entries(), this.path);
     }
 
     @Override
@@ -712,12 +727,13 @@ public boolean equals(final @Nullable Object obj) {
         if (this == obj) {
             return true;
         }
-        if (obj == null || this.getClass() != obj.getClass()) {
+        // Views backed by NBT compare equal to in-memory views with the same entries
+        if (!(obj instanceof MemoryDataView)) {
             return false;
         }
         final MemoryDataView other = (MemoryDataView) obj;
 
-        return Objects.equals(this.map.entrySet(), other.map.entrySet())
+        return Objects.equals(this.entries().entrySet(), other.entries().entrySet())
                 && Objects.equals(this.path, other.path);
     }
 
@@ -728,6 +744,6 @@ public String toString() {
             helper.add("path=" + this.path);
         }
         helper.add("safety=" + this.safety.name());
-        return helper.add("map=" + this.map).toString();
+        return helper.add("map=" + this.entries()).toString();
     }
 }
@@ -0,0 +1,85 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data;
+
+import net.minecraft.nbt.CompoundTag;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.data.persistence.DataContainer;
+import org.spongepowered.api.data.persistence.DataQuery;
+import org.spongepowered.api.data.persistence.DataView;
+
+import java.util.Optional;
+
+/**
+ * A {@link DataContainer} that reads through to a {@link CompoundTag} and
+ * copies entries out of it on write.
+ *
+ * @see NBTDataView
+ */
+public final class NBTDataContainer extends NBTDataView implements DataContainer {
+
+    /**
+     * Creates a new container backed by the given tag. The tag must not be
+     * modified afterwards, copy it first if it is still in use.
+     *
+     * @param source The tag
+     * @param safety The safety mode to use
+     */
+    public NBTDataContainer(final CompoundTag source, final DataView.SafetyMode safety) {
+        super(source, safety);
+    }
+
+    /**
+     * Gets the tag the given view is backed by, if it is an NBT backed view
+     * that has not been modified. The tag is shared and must not be modified.
+     *
+     * @param view The view
+     * @return The tag, if unmodified
+     */
+    public static @Nullable CompoundTag sourceOf(final DataView view) {
+        return NBTDataView.sourceOf(view);
+    }
+
+    @Override
+    public Optional<DataView> parent() {
+        return Optional.empty();
+    }
+
+    @Override
+    public DataContainer container() {
+        return this;
+    }
+
+    @Override
+    public DataContainer set(final DataQuery path, final Object value) {
+        return (DataContainer) super.set(path, value);
+    }
+
+    @Override
+    public DataContainer remove(final DataQuery path) {
+        return (DataContainer) super.remove(path);
+    }
+
+}
@@ -0,0 +1,172 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data;
+
+import net.minecraft.nbt.ByteTag;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.Tag;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.data.persistence.DataContainer;
+import org.spongepowered.api.data.persistence.DataQuery;
+import org.spongepowered.api.data.persistence.DataView;
+import org.spongepowered.common.data.persistence.NBTTranslator;
+import org.spongepowered.common.util.Constants;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A {@link MemoryDataView} backed by a {@link CompoundTag}. Its entries are
+ * only translated from the tag once they are first accessed, one compound
+ * at a time, and nested compounds become views of this kind themselves.
+ *
+ * <p>The tag is never modified. Until the view is, the tag is kept as its
+ * exact NBT form, so that it can be translated back by copying the tag
+ * instead of walking the view.</p>
+ */
+class NBTDataView extends MemoryDataView {
+
+    private @Nullable CompoundTag source;
+    private boolean loaded;
+
+    NBTDataView(final CompoundTag source, final DataView.SafetyMode safety) {
+        super(safety);
+        this.source = source;
+    }
+
+    NBTDataView(final DataView parent, final DataQuery path, final DataView.SafetyMode safety, final CompoundTag source) {
+        super(parent, path, safety);
+        this.source = source;
+    }
+
+    /**
+     * Gets the tag the given view is backed by, if it is an NBT backed view
+     * that has not been modified. The tag is shared and must not be modified.
+     *
+     * @param view The view
+     * @return The tag, if unmodified
+     */
+    static @Nullable CompoundTag sourceOf(final DataView view) {
+        return view instanceof NBTDataView ? ((NBTDataView) view).source : null;
+    }
+
+    @Override
+    Map<String, Object> entries() {
+        final Map<String, Object> entries = super.entries();
+        if (!this.loaded) {
+            this.loaded = true;
+            final @Nullable CompoundTag source = this.source;
+            if (source != null) {
+                this.load(entries, source);
+            }
+        }
+        return entries;
+    }
+
+    private void load(final Map<String, Object> entries, final CompoundTag source) {
+        for (final String key : source.getAllKeys()) {
+            final Tag tag = source.get(key);
+            if (tag.getId() == Constants.NBT.TAG_COMPOUND) {
+                entries.put(key, new NBTDataView(this, DataQuery.of(key), this.safetyMode(), (CompoundTag) tag));
+            } else if (tag.getId() == Constants.NBT.TAG_BYTE && key.contains(NBTTranslator.BOOLEAN_IDENTIFIER)) {
+                entries.put(key.replace(NBTTranslator.BOOLEAN_IDENTIFIER, ""), ((ByteTag) tag).getAsByte() != 0);
+            } else {
+                entries.put(key, NBTTranslator.fromTag(tag));
+            }
+        }
+    }
+
+    /**
+     * Drops the source of this view and of all parents, as they no longer
+     * match their tags.
+     */
+    private void modified() {
+        this.entries();
+        this.source = null;
+        final @Nullable DataView parent = this.parent().orElse(null);
+        if (parent != this && parent instanceof NBTDataView) {
+            ((NBTDataView) parent).modified();
+        }
+    }
+
+    @Override
+    public Optional<Object> get(final DataQuery path) {
+        final Optional<Object> value = super.get(path);
+        if (path.parts().size() == 1 && value.isPresent() && this.isShared(value.get())) {
+            // Lists and their views, and arrays handed out as is, can be
+            // changed without going through this view
+            this.modified();
+        }
+        return value;
+    }
+
+    private boolean isShared(final Object value) {
+        return value instanceof List<?>
+            || (value.getClass().isArray() && this.safetyMode() != DataView.SafetyMode.ALL_DATA_CLONED);
+    }
+
+    @Override
+    public DataView set(final DataQuery path, final Object value) {
+        this.modified();
+        return super.set(path, value);
+    }
+
+    @Override
+    public DataView remove(final DataQuery path) {
+        this.modified();
+        return super.remove(path);
+    }
+
+    @Override
+    public DataView createView(final DataQuery path) {
+        this.modified();
+        return super.createView(path);
+    }
+
+    @Override
+    public DataView createView(final DataQuery path, final Map<?, ?> map) {
+        this.modified();
+        return super.createView(path, map);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        final @Nullable CompoundTag source = this.source;
+        return source != null ? source.isEmpty() : super.isEmpty();
+    }
+
+    @Override
+    public DataContainer copy() {
+        final @Nullable CompoundTag source = this.source;
+        return source != null ? new NBTDataContainer(source, this.safetyMode()) : super.copy();
+    }
+
+    @Override
+    public DataContainer copy(final DataView.SafetyMode safety) {
+        final @Nullable CompoundTag source = this.source;
+        return source != null ? new NBTDataContainer(source, safety) : super.copy(safety);
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data;
+
+import com.google.common.collect.ImmutableCollection;
+import com.google.common.collect.ImmutableMap;
+import net.kyori.adventure.text.Component;
+import net.minecraft.nbt.CompoundTag;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.ResourceKey;
+import org.spongepowered.api.data.DataManipulator;
+import org.spongepowered.api.data.Key;
+import org.spongepowered.api.data.persistence.DataContainer;
+import org.spongepowered.api.data.persistence.DataStore;
+import org.spongepowered.common.data.persistence.NBTTranslator;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * The serialized NBT of the custom data of a single data holder, per
+ * {@link DataStore}. A data store is only serialized again when one of its
+ * keys was changed, or when the values it serialized no longer match the
+ * manipulator, otherwise its last NBT is written as is.
+ *
+ * <p>Values that could have been mutated in place since they were
+ * serialized can't be compared, so data stores holding any of them are
+ * always serialized again. Item stacks are also serialized off the server
+ * thread, so all access is guarded by this object's monitor.</p>
+ */
+public final class SerializedCustomData {
+
+    private final Map<DataStore, Entry> entries = new IdentityHashMap<>();
+    private final Set<Key<?>> dirty = new HashSet<>();
+
+    public synchronized void markDirty(final Key<?> key) {
+        this.dirty.add(key);
+    }
+
+    /**
+     * Forgets every serialized data store, for when the manipulator was
+     * replaced or written to without going through a key.
+     */
+    public synchronized void invalidate() {
+        this.entries.clear();
+        this.dirty.clear();
+    }
+
+    /**
+     * Writes the serialized form of every data store that has data in the
+     * manipulator into the given compound.
+     *
+     * @param manipulator The manipulator
+     * @param holderType The type of the data holder
+     * @param target The compound to merge the data into
+     */
+    void write(final DataManipulator manipulator, final Type holderType, final CompoundTag target) {
+        this.write(manipulator, key -> SpongeDataManager.getDatastoreRegistry().getDataStore(key, holderType), target);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    synchronized void write(final DataManipulator manipulator, final Function<Key<?>, DataStore> dataStores, final CompoundTag target) {
+        final Map<DataStore, List<Key<?>>> keysByStore = new IdentityHashMap<>();
+        for (final Key<?> key : manipulator.getKeys()) {
+            keysByStore.computeIfAbsent(dataStores.apply(key), k -> new ArrayList<>()).add(key);
+        }
+        this.entries.keySet().retainAll(keysByStore.keySet());
+
+        for (final Map.Entry<DataStore, List<Key<?>>> storeKeys : keysByStore.entrySet()) {
+            final Map<Key<?>, @Nullable Object> values = new HashMap<>();
+            boolean dirty = false;
+            for (final Key<?> key : storeKeys.getValue()) {
+                final @Nullable Object value = manipulator.get((Key) key).orElse(null);
+                values.put(key, value);
+                dirty |= this.dirty.contains(key) || !SerializedCustomData.isImmutable(value);
+            }
+            @Nullable Entry entry = this.entries.get(storeKeys.getKey());
+            if (entry == null || dirty || !entry.values.equals(values)) {
+                final DataContainer serialized = new MemoryDataContainer();
+                storeKeys.getKey().serialize(manipulator, serialized);
+                entry = new Entry(values, NBTTranslator.INSTANCE.translate(serialized));
+                this.entries.put(storeKeys.getKey(), entry);
+            }
+            // merge copies the tags, so the cached entry is never shared
+            target.merge(entry.tag);
+        }
+        this.dirty.clear();
+    }
+
+    /**
+     * Gets whether the value can be compared to the one it was serialized
+     * from, as it can't have changed in place.
+     *
+     * @param value The value
+     * @return Whether it is immutable
+     */
+    static boolean isImmutable(final @Nullable Object value) {
+        if (value == null || value instanceof String || value instanceof Enum || value instanceof Boolean
+            || value instanceof Character || value instanceof UUID || value instanceof Component || value instanceof ResourceKey) {
+            return true;
+        }
+        if (value instanceof Byte || value instanceof Short || value instanceof Integer || value instanceof Long
+            || value instanceof Float || value instanceof Double) {
+            return true;
+        }
+        if (value instanceof ImmutableCollection) {
+            for (final Object element : (ImmutableCollection<?>) value) {
+                if (!SerializedCustomData.isImmutable(element)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (value instanceof ImmutableMap) {
+            for (final Map.Entry<?, ?> entry : ((ImmutableMap<?, ?>) value).entrySet()) {
+                if (!SerializedCustomData.isImmutable(entry.getKey()) || !SerializedCustomData.isImmutable(entry.getValue())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static final class Entry {
+
+        final Map<Key<?>, @Nullable Object> values;
+        final CompoundTag tag;
+
+        Entry(final Map<Key<?>, @Nullable Object> values, final CompoundTag tag) {
+            this.values = values;
+            this.tag = Objects.requireNonNull(tag, "tag");
+        }
+    }
+}
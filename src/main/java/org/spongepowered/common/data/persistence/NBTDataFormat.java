@@ -26,10 +26,12 @@
 
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.NbtIo;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.data.persistence.DataContainer;
 import org.spongepowered.api.data.persistence.DataFormat;
 import org.spongepowered.api.data.persistence.DataView;
 import org.spongepowered.api.data.persistence.InvalidDataFormatException;
+import org.spongepowered.common.data.NBTDataContainer;
 
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
@@ -50,7 +52,8 @@ public DataContainer readFrom(InputStream input) throws InvalidDataFormatExcepti
         }
         try {
             CompoundTag tag = NbtIo.read(dis);
-            return NBTTranslator.INSTANCE.translateFrom(tag);
+            // Nothing else holds the tag, so it can back the container directly
+            return new NBTDataContainer(tag, DataView.SafetyMode.NO_DATA_CLONED);
         } finally {
             dis.close();
         }
@@ -59,7 +62,11 @@ public DataContainer readFrom(InputStream input) throws InvalidDataFormatExcepti
     @Override
     @SuppressWarnings("resource")
     public void writeTo(OutputStream output, DataView data) throws IOException {
-        CompoundTag tag = NBTTranslator.INSTANCE.translate(data);
+        // Writing leaves the tag untouched, so an unmodified source needs no copy
+        @Nullable CompoundTag tag = NBTDataContainer.sourceOf(data);
+        if (tag == null) {
+            tag = NBTTranslator.INSTANCE.translate(data);
+        }
         DataOutputStream dos;
         if (output instanceof DataOutputStream) {
             dos = (DataOutputStream) output;
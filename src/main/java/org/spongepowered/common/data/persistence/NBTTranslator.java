@@ -41,12 +41,14 @@
 import net.minecraft.nbt.ShortTag;
 import net.minecraft.nbt.StringTag;
 import net.minecraft.nbt.Tag;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.data.persistence.DataContainer;
 import org.spongepowered.api.data.persistence.DataQuery;
 import org.spongepowered.api.data.persistence.DataSerializable;
 import org.spongepowered.api.data.persistence.DataTranslator;
 import org.spongepowered.api.data.persistence.DataView;
 import org.spongepowered.api.data.persistence.InvalidDataException;
+import org.spongepowered.common.data.NBTDataContainer;
 import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.util.Preconditions;
 
@@ -63,6 +65,11 @@ public final class NBTTranslator implements DataTranslator<CompoundTag> {
 
     private static CompoundTag containerToCompound(final DataView container) {
         Objects.requireNonNull(container);
+        final @Nullable CompoundTag source = NBTDataContainer.sourceOf(container);
+        if (source != null) {
+            // Still exactly the tag it was read from
+            return source.copy();
+        }
         CompoundTag compound = new CompoundTag();
         NBTTranslator.containerToCompound(container, compound);
         return compound;
@@ -73,13 +80,12 @@ private static void containerToCompound(final DataView container, final Compound
         // from the instance of checks.
         Objects.requireNonNull(container);
         Objects.requireNonNull(compound);
-        for (Map.Entry<DataQuery, Object> entry : container.values(false).entrySet()) {
-            Object value = entry.getValue();
-            String key = entry.getKey().asString('.');
+        for (final DataQuery query : container.keys(false)) {
+            final Object value = container.get(query).get();
+            final String key = query.asString('.');
             if (value instanceof DataView) {
-                CompoundTag inner = new CompoundTag();
-                NBTTranslator.containerToCompound(container.getView(entry.getKey()).get(), inner);
-                compound.put(key, inner);
+                // Unmodified nested views are copied as is
+                compound.put(key, NBTTranslator.containerToCompound((DataView) value));
             } else if (value instanceof Boolean) {
                 compound.put(key + NBTTranslator.BOOLEAN_IDENTIFIER, ByteTag.valueOf((Boolean) value));
             } else {
@@ -170,9 +176,8 @@ private static Tag getBaseFromObject(final Object value) {
 
     private static DataContainer getViewFromCompound(CompoundTag compound) {
         Objects.requireNonNull(compound);
-        DataContainer container = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED);
-        NBTTranslator.INSTANCE.addTo(compound, container);
-        return container;
+        // Entries are translated on first access, the copy keeps later changes to the tag out
+        return new NBTDataContainer(compound.copy(), DataView.SafetyMode.NO_DATA_CLONED);
     }
 
     @SuppressWarnings({"unchecked", "rawtypes"})
@@ -217,7 +222,7 @@ private static void setInternal(Tag base, byte type, DataView view, String key)
                 int count = list.size();
                 List objectList = Lists.newArrayListWithCapacity(count);
                 for (final Tag inbt : list) {
-                    objectList.add(NBTTranslator.fromTagBase(inbt, listType));
+                    objectList.add(NBTTranslator.fromTagBase(inbt, listType, true));
                 }
                 view.set(of(key), objectList);
                 break;
@@ -245,8 +250,20 @@ private static void setInternal(Tag base, byte type, DataView view, String key)
         }
     }
 
+    /**
+     * Translates a tag to the value a {@link DataView} holds for it. Nested
+     * compounds are wrapped rather than copied, so the tag must not be
+     * modified afterwards.
+     *
+     * @param tag The tag
+     * @return The value
+     */
+    public static Object fromTag(final Tag tag) {
+        return NBTTranslator.fromTagBase(tag, tag.getId(), false);
+    }
+
     @SuppressWarnings({"unchecked", "rawtypes"})
-    private static Object fromTagBase(Tag base, byte type) {
+    private static Object fromTagBase(Tag base, byte type, boolean copy) {
         switch (type) {
             case Constants.NBT.TAG_BYTE:
                 return ((ByteTag) base).getAsByte();
@@ -261,7 +278,7 @@ private static Object fromTagBase(Tag base, byte type) {
             case Constants.NBT.TAG_DOUBLE:
                 return ((DoubleTag) base).getAsDouble();
             case Constants.NBT.TAG_BYTE_ARRAY:
-                return ((ByteArrayTag) base).getAsByteArray();
+                return ((ByteArrayTag) base).getAsByteArray().clone();
             case Constants.NBT.TAG_STRING:
                 return base.getAsString();
             case Constants.NBT.TAG_LIST:
@@ -270,15 +287,16 @@ private static Object fromTagBase(Tag base, byte type) {
                 int count = list.size();
                 List objectList = Lists.newArrayListWithCapacity(count);
                 for (Tag inbt : list) {
-                    objectList.add(NBTTranslator.fromTagBase(inbt, listType));
+                    objectList.add(NBTTranslator.fromTagBase(inbt, listType, copy));
                 }
                 return objectList;
             case Constants.NBT.TAG_COMPOUND:
-                return NBTTranslator.getViewFromCompound((CompoundTag) base);
+                final CompoundTag compound = (CompoundTag) base;
+                return new NBTDataContainer(copy ? compound.copy() : compound, DataView.SafetyMode.NO_DATA_CLONED);
             case Constants.NBT.TAG_INT_ARRAY:
-                return ((IntArrayTag) base).getAsIntArray();
+                return ((IntArrayTag) base).getAsIntArray().clone();
             case Constants.NBT.TAG_LONG_ARRAY:
-                return ((LongArrayTag) base).getAsLongArray();
+                return ((LongArrayTag) base).getAsLongArray().clone();
             default :
                 return null;
         }
@@ -53,6 +53,7 @@ public final class DataStoreRegistry {
 
     private final Map<LookupKey, DataStore> dataStoreCache = new ConcurrentHashMap<>();
     private final Multimap<Type, DataStore> dataStoreByTokenCache = HashMultimap.create();
+    private final Map<Class<?>, Boolean> customDataOnlyCache = new ConcurrentHashMap<>();
 
     public void register(final DataStore dataStore, Iterable<Key<?>> keys) {
         keys.forEach(k -> this.dataStoreByValueKey.put(k, dataStore));
@@ -63,6 +64,7 @@ public void register(final DataStore dataStore, Iterable<Key<?>> keys) {
         this.allDataStores.add(dataStore);
         this.dataStoreCache.clear();
         this.dataStoreByTokenCache.clear();
+        this.customDataOnlyCache.clear();
     }
 
     public Collection<DataStore> getDataStores(Key<?> dataKey) {
@@ -114,6 +116,21 @@ public Collection<DataStore> getDataStoresForType(Class<? extends DataHolder> ho
         return this.dataStoreByTokenCache.get(holderType);
     }
 
+    /**
+     * Gets whether every data store of the given holder type only reads and
+     * writes the custom data root, so that the rest of the holder's NBT can
+     * be ignored when deserializing. Stores without a key, such as those
+     * built for vanilla data, read and write arbitrary paths.
+     *
+     * @param holderType The data holder type
+     * @return Whether only custom data is used
+     */
+    public boolean usesOnlyCustomData(final Class<? extends DataHolder> holderType) {
+        return this.customDataOnlyCache.computeIfAbsent(holderType,
+            k -> this.getDataStoresForType(holderType).stream().allMatch(dataStore ->
+                dataStore instanceof SpongeDataStore && ((SpongeDataStore) dataStore).getDataStoreKey() != null));
+    }
+
     private static class LookupKey {
 
         private final Type holderType;
@@ -25,6 +25,7 @@
 package org.spongepowered.common.data.provider;
 
 import com.google.common.collect.ImmutableMap;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.data.DataProvider;
 import org.spongepowered.api.data.Key;
 import org.spongepowered.api.data.value.Value;
@@ -36,9 +37,18 @@
 public final class DataProviderLookup {
 
     private final Map<Key<?>, DataProvider<?, ?>> providerMap;
+    private final DataProvider<?, ?>[] providersByIndex;
 
     DataProviderLookup(Map<Key<?>, DataProvider<?, ?>> providerMap) {
         this.providerMap = ImmutableMap.copyOf(providerMap);
+        int length = 0;
+        for (final Key<?> key : this.providerMap.keySet()) {
+            length = Math.max(length, ((SpongeKey<?, ?>) key).index() + 1);
+        }
+        this.providersByIndex = new DataProvider<?, ?>[length];
+        for (final Map.Entry<Key<?>, DataProvider<?, ?>> entry : this.providerMap.entrySet()) {
+            this.providersByIndex[((SpongeKey<?, ?>) entry.getKey()).index()] = entry.getValue();
+        }
     }
 
     /**
@@ -60,6 +70,14 @@ public final class DataProviderLookup {
      */
     @SuppressWarnings("unchecked")
     public <V extends Value<E>, E> DataProvider<V, E> getProvider(Key<V> key) {
-        return (DataProvider<V, E>) this.providerMap.getOrDefault(key, ((SpongeKey<V, E>) key).getEmptyDataProvider());
+        final SpongeKey<V, E> spongeKey = (SpongeKey<V, E>) key;
+        final int index = spongeKey.index();
+        if (index < this.providersByIndex.length) {
+            final @Nullable DataProvider<?, ?> provider = this.providersByIndex[index];
+            if (provider != null) {
+                return (DataProvider<V, E>) provider;
+            }
+        }
+        return spongeKey.getEmptyDataProvider();
     }
 }
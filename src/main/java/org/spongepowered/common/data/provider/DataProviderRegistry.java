@@ -26,6 +26,7 @@
 
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Multimap;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.data.DataProvider;
 import org.spongepowered.api.data.Key;
 import org.spongepowered.api.data.value.Value;
@@ -43,49 +44,29 @@
 import org.spongepowered.common.data.provider.world.WorldDataProviders;
 import org.spongepowered.common.data.provider.world.biome.BiomeDataProviders;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public final class DataProviderRegistry {
 
-    private static class LookupKey {
-
-        final Class<?> holderType;
-
-        final Key<?> key;
-        private LookupKey(final Class<?> holderType, final Key<?> key) {
-            this.holderType = holderType;
-            this.key = key;
-        }
-
-        @Override
-        public boolean equals(final Object o) {
-            if (this == o) {
-                return true;
-            }
-            if (o == null || this.getClass() != o.getClass()) {
-                return false;
-            }
-            final LookupKey lookupKey = (LookupKey) o;
-            return this.holderType.equals(lookupKey.holderType) &&
-                    this.key.equals(lookupKey.key);
-        }
-
+    private final Multimap<Key<?>, DataProvider<?,?>> dataProviders = HashMultimap.create();
+    // Every holder type gets its own slot, holding the delegate providers baked
+    // so far in a flat array indexed by SpongeKey#index()
+    private final List<ProviderSlot> providerSlots = new CopyOnWriteArrayList<>();
+    private final ClassValue<ProviderSlot> providersByHolderType = new ClassValue<>() {
         @Override
-        public int hashCode() {
-            return Objects.hash(this.holderType, this.key);
+        protected ProviderSlot computeValue(final Class<?> type) {
+            final ProviderSlot slot = new ProviderSlot(type);
+            DataProviderRegistry.this.providerSlots.add(slot);
+            return slot;
         }
-
-    }
-    private final Multimap<Key<?>, DataProvider<?,?>> dataProviders = HashMultimap.create();
-    private final Map<LookupKey, DataProvider<?,?>> dataProviderCache = new ConcurrentHashMap<>();
-    private final Map<Class<?>, DataProviderLookup> dataProviderLookupCache = new ConcurrentHashMap<>();
+    };
 
     private static boolean filterHolderType(final DataProvider<?,?> provider, final Class<?> holderType) {
         // Filter out data providers of which we know that they will never be relevant.
@@ -97,8 +78,8 @@ private static boolean filterHolderType(final DataProvider<?,?> provider, final
     }
 
     @SuppressWarnings("unchecked")
-    private DataProvider<?,?> loadProvider(final LookupKey key) {
-        return this.buildDelegate((Key<Value<Object>>) key.key, provider -> DataProviderRegistry.filterHolderType(provider, key.holderType));
+    private DataProvider<?,?> loadProvider(final Key<?> key, final Class<?> holderType) {
+        return this.buildDelegate((Key<Value<Object>>) key, provider -> DataProviderRegistry.filterHolderType(provider, holderType));
     }
 
     @SuppressWarnings(value = {"unchecked", "rawtypes"})
@@ -137,7 +118,20 @@ private static <V extends Value<E>, E> DataProvider<V, E> buildDelegateProvider(
      * @return The built lookup
      */
     public DataProviderLookup getProviderLookup(final Class<?> dataHolderType) {
-        return this.dataProviderLookupCache.computeIfAbsent(dataHolderType, this::loadProviderLookup);
+        final ProviderSlot slot = this.providersByHolderType.get(dataHolderType);
+        final @Nullable DataProviderLookup existing = slot.lookup;
+        if (existing != null) {
+            return existing;
+        }
+        final int version = slot.version;
+        final DataProviderLookup lookup = this.loadProviderLookup(dataHolderType);
+        synchronized (slot) {
+            // Only publish if no provider got registered while we were building
+            if (slot.version == version && slot.lookup == null) {
+                slot.lookup = lookup;
+            }
+        }
+        return lookup;
     }
 
     /**
@@ -193,7 +187,19 @@ public Collection<DataProvider<?,?>> getAllProviders(final Class<?> dataHolderTy
      */
     @SuppressWarnings({"unchecked"})
     public <V extends Value<E>, E> DataProvider<V, E> getProvider(final Key<V> key, final Class<?> dataHolderType) {
-        return (DataProvider<V, E>) this.dataProviderCache.computeIfAbsent(new LookupKey(dataHolderType, key), this::loadProvider);
+        final ProviderSlot slot = this.providersByHolderType.get(dataHolderType);
+        final int index = ((SpongeKey<V, E>) key).index();
+        final DataProvider<?, ?>[] providers = slot.providers;
+        if (index < providers.length) {
+            final @Nullable DataProvider<?, ?> provider = providers[index];
+            if (provider != null) {
+                return (DataProvider<V, E>) provider;
+            }
+        }
+        final int version = slot.version;
+        final DataProvider<?, ?> provider = this.loadProvider(key, dataHolderType);
+        slot.publish(version, index, provider);
+        return (DataProvider<V, E>) provider;
     }
 
     /**
@@ -203,8 +209,10 @@ public <V extends Value<E>, E> DataProvider<V, E> getProvider(final Key<V> key,
      */
     public void register(final DataProvider<?,?> provider) {
         this.dataProviders.put(provider.key(), provider);
-        this.dataProviderCache.clear();
-        this.dataProviderLookupCache.clear();
+        // Rebake every holder type on its next lookup
+        for (final ProviderSlot slot : this.providerSlots) {
+            slot.invalidate();
+        }
     }
 
     public void registerDefaultProviders() {
@@ -230,6 +238,36 @@ private void registerDefaultProviders(DataProviderRegistratorBuilder... dataProv
         }
     }
 
+    static final class ProviderSlot {
+
+        private static final DataProvider<?, ?>[] EMPTY = new DataProvider<?, ?>[0];
 
+        final Class<?> holderType;
+        volatile DataProvider<?, ?>[] providers = ProviderSlot.EMPTY;
+        volatile @Nullable DataProviderLookup lookup;
+        volatile int version;
 
+        ProviderSlot(final Class<?> holderType) {
+            this.holderType = holderType;
+        }
+
+        synchronized void publish(final int version, final int index, final DataProvider<?, ?> provider) {
+            if (this.version != version) {
+                // Baked against providers that have since changed, leave it to the next lookup
+                return;
+            }
+            // Copy on write so readers never need to synchronize, the table only grows
+            // once per key and holder type until the next registration
+            final DataProvider<?, ?>[] current = this.providers;
+            final DataProvider<?, ?>[] updated = Arrays.copyOf(current, Math.max(current.length, Math.max(index + 1, SpongeKey.count())));
+            updated[index] = provider;
+            this.providers = updated;
+        }
+
+        synchronized void invalidate() {
+            this.version++;
+            this.providers = ProviderSlot.EMPTY;
+            this.lookup = null;
+        }
+    }
 }
@@ -424,17 +424,34 @@ public void markDirty() {
     public void save() throws IOException {
         synchronized (this) {
             final SpongeUserManager userManager = ((SpongeServer) SpongeCommon.server()).userManager();
-            final LevelStorageSource.LevelStorageAccess storageSource = ((MinecraftServerAccessor) Sponge.server()).accessor$storageSource();
-            final Path p = storageSource.getLevelPath(LevelResource.PLAYER_DATA_DIR).resolve(this.uniqueId() + ".dat");
             this.writeCompound(this.compound);
-            try (final OutputStream out = Files.newOutputStream(p)) {
-                NbtIo.writeCompressed(this.compound, out);
-                userManager.unmarkDirty(this);
-            } catch (final IOException e) {
-                // We log the message here because the error may be swallowed by a completable future.
-                SpongeCommon.logger().warn("Failed to save user file [{}]!", p, e);
-                throw e;
-            }
+            SpongeUserData.writeToFile(this.uniqueId(), this.compound);
+            userManager.unmarkDirty(this);
+        }
+    }
+
+    /**
+     * Writes the current state of this user and returns a copy of it, which
+     * can then be written to disk from another thread.
+     *
+     * @return The copied compound
+     */
+    public CompoundTag snapshotCompound() {
+        synchronized (this) {
+            this.writeCompound(this.compound);
+            return this.compound.copy();
+        }
+    }
+
+    public static void writeToFile(final UUID uniqueId, final CompoundTag compound) throws IOException {
+        final LevelStorageSource.LevelStorageAccess storageSource = ((MinecraftServerAccessor) Sponge.server()).accessor$storageSource();
+        final Path p = storageSource.getLevelPath(LevelResource.PLAYER_DATA_DIR).resolve(uniqueId + ".dat");
+        try (final OutputStream out = Files.newOutputStream(p)) {
+            NbtIo.writeCompressed(compound, out);
+        } catch (final IOException e) {
+            // We log the message here because the error may be swallowed by a completable future.
+            SpongeCommon.logger().warn("Failed to save user file [{}]!", p, e);
+            throw e;
         }
     }
 
@@ -49,6 +49,7 @@ public final class ShouldFire {
 
     public static boolean SPAWN_ENTITY_EVENT = false;
     public static boolean SPAWN_ENTITY_EVENT_CUSTOM = false;
+    public static boolean SPAWN_ENTITY_EVENT_PRE = false;
 
     public static boolean CHANGE_BLOCK_EVENT = false;
     public static boolean CHANGE_BLOCK_EVENT_ALL = false;
@@ -62,6 +63,8 @@ public final class ShouldFire {
 
     public static boolean DESTRUCT_ENTITY_EVENT = false;
 
+    public static boolean HARVEST_ENTITY_EVENT = false;
+
     public static boolean DROP_ITEM_EVENT = false;
     public static boolean DROP_ITEM_EVENT_DESTRUCT = false;
     public static boolean DROP_ITEM_EVENT_DISPENSE = false;
@@ -93,6 +96,7 @@ public final class ShouldFire {
     public static boolean UPDATE_ANVIL_EVENT = false;
 
     public static boolean TICK_BLOCK_EVENT = false;
+    public static boolean SCHEDULE_BLOCK_UPDATE_EVENT = false;
 
     public static boolean IGNITE_ENTITY_EVENT = false;
     public static boolean NOTIFY_NEIGHBOR_BLOCK_EVENT = false;
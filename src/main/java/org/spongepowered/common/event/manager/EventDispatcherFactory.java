@@ -0,0 +1,299 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.manager;
+
+import static org.objectweb.asm.Opcodes.AALOAD;
+import static org.objectweb.asm.Opcodes.ACC_FINAL;
+import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
+import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+import static org.objectweb.asm.Opcodes.ACC_SUPER;
+import static org.objectweb.asm.Opcodes.ACONST_NULL;
+import static org.objectweb.asm.Opcodes.ALOAD;
+import static org.objectweb.asm.Opcodes.ASTORE;
+import static org.objectweb.asm.Opcodes.CHECKCAST;
+import static org.objectweb.asm.Opcodes.GETFIELD;
+import static org.objectweb.asm.Opcodes.GETSTATIC;
+import static org.objectweb.asm.Opcodes.GOTO;
+import static org.objectweb.asm.Opcodes.ICONST_0;
+import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
+import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
+import static org.objectweb.asm.Opcodes.INVOKESTATIC;
+import static org.objectweb.asm.Opcodes.IRETURN;
+import static org.objectweb.asm.Opcodes.PUTFIELD;
+import static org.objectweb.asm.Opcodes.RETURN;
+import static org.objectweb.asm.Opcodes.V11;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+import org.spongepowered.api.event.Cancellable;
+import org.spongepowered.api.event.CauseStackManager;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventListener;
+import org.spongepowered.api.event.Order;
+import org.spongepowered.api.event.impl.AbstractEvent;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.event.gen.LoaderClassWriter;
+import org.spongepowered.common.event.tracking.PhaseContext;
+import org.spongepowered.common.event.tracking.PhaseTracker;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Generates an {@link EventDispatcher} for a baked listener list of a single
+ * event class. The listener loop of {@link SpongeEventManager} is unrolled so
+ * that every listener gets its own (monomorphic) call site, the checks for
+ * {@link AbstractEvent} and {@link Cancellable} are resolved once at generation
+ * time and listeners that are not {@link RegisteredListener#isCauseSensitive()
+ * cause sensitive} are invoked without pushing a cause frame or switching to a
+ * listener phase context.
+ */
+public final class EventDispatcherFactory {
+
+    /**
+     * Methods over 8000 bytes of bytecode are never compiled by the JIT, lists
+     * longer than this use the regular listener loop instead.
+     */
+    static final int MAX_UNROLLED_LISTENERS = 64;
+
+    private static final String REGISTERED_LISTENER = Type.getInternalName(RegisteredListener.class);
+    private static final String REGISTERED_LISTENER_DESCRIPTOR = Type.getDescriptor(RegisteredListener.class);
+    private static final String EVENT_LISTENER = Type.getInternalName(EventListener.class);
+    private static final String EVENT_LISTENER_DESCRIPTOR = Type.getDescriptor(EventListener.class);
+    private static final String EVENT_DESCRIPTOR = Type.getDescriptor(Event.class);
+    private static final String ABSTRACT_EVENT = Type.getInternalName(AbstractEvent.class);
+    private static final String ORDER = Type.getInternalName(Order.class);
+    private static final String ORDER_DESCRIPTOR = Type.getDescriptor(Order.class);
+    private static final String CANCELLABLE = Type.getInternalName(Cancellable.class);
+    private static final String FACTORY = Type.getInternalName(EventDispatcherFactory.class);
+    private static final String LISTENER_FRAME_DESCRIPTOR = Type.getDescriptor(ListenerFrame.class);
+    private static final String DISPATCH_DESCRIPTOR = '(' + EventDispatcherFactory.EVENT_DESCRIPTOR + ")Z";
+    private static final String CONSTRUCTOR_DESCRIPTOR = "([" + EventDispatcherFactory.REGISTERED_LISTENER_DESCRIPTOR
+        + '[' + EventDispatcherFactory.EVENT_LISTENER_DESCRIPTOR + ")V";
+
+    private static final AtomicInteger DISPATCHER_ID = new AtomicInteger();
+
+    private EventDispatcherFactory() {
+    }
+
+    static EventDispatcher create(final Class<?> eventClass, final List<RegisteredListener<?>> listeners) {
+        if (listeners.isEmpty()) {
+            return Cancellable.class.isAssignableFrom(eventClass)
+                ? event -> ((Cancellable) event).isCancelled()
+                : event -> false;
+        }
+        if (listeners.size() > EventDispatcherFactory.MAX_UNROLLED_LISTENERS) {
+            return event -> SpongeEventManager.dispatch(event, listeners);
+        }
+        try {
+            final RegisteredListener<?>[] registered = listeners.toArray(new RegisteredListener<?>[0]);
+            final EventListener<?>[] handlers = new EventListener<?>[registered.length];
+            for (int i = 0; i < registered.length; i++) {
+                handlers[i] = registered[i].listener();
+            }
+            final String name = EventDispatcherFactory.FACTORY + "_" + eventClass.getSimpleName() + '_'
+                + EventDispatcherFactory.DISPATCHER_ID.incrementAndGet();
+            final MethodHandles.Lookup lookup = MethodHandles.lookup().defineHiddenClass(
+                EventDispatcherFactory.generateClass(name, eventClass, registered),
+                true,
+                MethodHandles.Lookup.ClassOption.NESTMATE
+            );
+            return (EventDispatcher) lookup.findConstructor(
+                lookup.lookupClass(),
+                MethodType.methodType(void.class, RegisteredListener[].class, EventListener[].class)
+            ).invoke(registered, handlers);
+        } catch (final Throwable thr) {
+            SpongeCommon.logger().error("Failed to generate event dispatcher for {}, falling back to the listener loop", eventClass.getName(), thr);
+            return event -> SpongeEventManager.dispatch(event, listeners);
+        }
+    }
+
+    private static byte[] generateClass(final String name, final Class<?> eventClass, final RegisteredListener<?>[] listeners) {
+        final boolean abstractEvent = AbstractEvent.class.isAssignableFrom(eventClass);
+        final boolean cancellable = Cancellable.class.isAssignableFrom(eventClass);
+
+        final ClassWriter cw = new LoaderClassWriter(EventDispatcherFactory.class.getClassLoader(),
+            ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
+        MethodVisitor mv;
+
+        cw.visit(V11, ACC_PUBLIC + ACC_FINAL + ACC_SUPER, name, null, "java/lang/Object",
+            new String[] { Type.getInternalName(EventDispatcher.class) });
+
+        for (int i = 0; i < listeners.length; i++) {
+            cw.visitField(ACC_PRIVATE + ACC_FINAL, "registered" + i, EventDispatcherFactory.REGISTERED_LISTENER_DESCRIPTOR, null, null)
+                .visitEnd();
+            cw.visitField(ACC_PRIVATE + ACC_FINAL, "listener" + i, EventDispatcherFactory.EVENT_LISTENER_DESCRIPTOR, null, null)
+                .visitEnd();
+        }
+        {
+            mv = cw.visitMethod(ACC_PUBLIC, "<init>", EventDispatcherFactory.CONSTRUCTOR_DESCRIPTOR, null, null);
+            mv.visitCode();
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitMethodInsn(INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false);
+            for (int i = 0; i < listeners.length; i++) {
+                mv.visitVarInsn(ALOAD, 0);
+                mv.visitVarInsn(ALOAD, 1);
+                mv.visitLdcInsn(i);
+                mv.visitInsn(AALOAD);
+                mv.visitFieldInsn(PUTFIELD, name, "registered" + i, EventDispatcherFactory.REGISTERED_LISTENER_DESCRIPTOR);
+                mv.visitVarInsn(ALOAD, 0);
+                mv.visitVarInsn(ALOAD, 2);
+                mv.visitLdcInsn(i);
+                mv.visitInsn(AALOAD);
+                mv.visitFieldInsn(PUTFIELD, name, "listener" + i, EventDispatcherFactory.EVENT_LISTENER_DESCRIPTOR);
+            }
+            mv.visitInsn(RETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+        {
+            // Locals: 0 = this, 1 = event, 2 = caught throwable, 3 = listener frame
+            mv = cw.visitMethod(ACC_PUBLIC, "dispatch", EventDispatcherFactory.DISPATCH_DESCRIPTOR, null, null);
+            mv.visitCode();
+            @Nullable Order currentOrder = null;
+            for (int i = 0; i < listeners.length; i++) {
+                final RegisteredListener<?> listener = listeners[i];
+                final boolean causeSensitive = listener.isCauseSensitive();
+                final Label start = new Label();
+                final Label end = new Label();
+                final Label handler = new Label();
+                final Label next = new Label();
+                mv.visitTryCatchBlock(start, end, handler, "java/lang/Throwable");
+
+                if (causeSensitive) {
+                    mv.visitInsn(ACONST_NULL);
+                    mv.visitVarInsn(ASTORE, 3);
+                }
+                mv.visitLabel(start);
+                if (causeSensitive) {
+                    mv.visitVarInsn(ALOAD, 0);
+                    mv.visitFieldInsn(GETFIELD, name, "registered" + i, EventDispatcherFactory.REGISTERED_LISTENER_DESCRIPTOR);
+                    mv.visitMethodInsn(INVOKESTATIC, EventDispatcherFactory.FACTORY, "enter",
+                        '(' + EventDispatcherFactory.REGISTERED_LISTENER_DESCRIPTOR + ')' + EventDispatcherFactory.LISTENER_FRAME_DESCRIPTOR, false);
+                    mv.visitVarInsn(ASTORE, 3);
+                }
+                if (abstractEvent && listener.getOrder() != currentOrder) {
+                    currentOrder = listener.getOrder();
+                    mv.visitVarInsn(ALOAD, 1);
+                    mv.visitTypeInsn(CHECKCAST, EventDispatcherFactory.ABSTRACT_EVENT);
+                    mv.visitFieldInsn(GETSTATIC, EventDispatcherFactory.ORDER, currentOrder.name(), EventDispatcherFactory.ORDER_DESCRIPTOR);
+                    mv.visitFieldInsn(PUTFIELD, EventDispatcherFactory.ABSTRACT_EVENT, "currentOrder", EventDispatcherFactory.ORDER_DESCRIPTOR);
+                }
+                mv.visitVarInsn(ALOAD, 0);
+                mv.visitFieldInsn(GETFIELD, name, "listener" + i, EventDispatcherFactory.EVENT_LISTENER_DESCRIPTOR);
+                mv.visitVarInsn(ALOAD, 1);
+                mv.visitMethodInsn(INVOKEINTERFACE, EventDispatcherFactory.EVENT_LISTENER, "handle",
+                    '(' + EventDispatcherFactory.EVENT_DESCRIPTOR + ")V", true);
+                mv.visitLabel(end);
+                mv.visitJumpInsn(GOTO, next);
+
+                mv.visitLabel(handler);
+                mv.visitVarInsn(ASTORE, 2);
+                mv.visitVarInsn(ALOAD, 1);
+                mv.visitVarInsn(ALOAD, 0);
+                mv.visitFieldInsn(GETFIELD, name, "registered" + i, EventDispatcherFactory.REGISTERED_LISTENER_DESCRIPTOR);
+                mv.visitVarInsn(ALOAD, 2);
+                mv.visitMethodInsn(INVOKESTATIC, EventDispatcherFactory.FACTORY, "error",
+                    '(' + EventDispatcherFactory.EVENT_DESCRIPTOR + EventDispatcherFactory.REGISTERED_LISTENER_DESCRIPTOR
+                        + "Ljava/lang/Throwable;)V", false);
+
+                mv.visitLabel(next);
+                if (causeSensitive) {
+                    mv.visitVarInsn(ALOAD, 3);
+                    mv.visitMethodInsn(INVOKESTATIC, EventDispatcherFactory.FACTORY, "exit",
+                        '(' + EventDispatcherFactory.LISTENER_FRAME_DESCRIPTOR + ")V", false);
+                }
+            }
+            if (abstractEvent) {
+                mv.visitVarInsn(ALOAD, 1);
+                mv.visitTypeInsn(CHECKCAST, EventDispatcherFactory.ABSTRACT_EVENT);
+                mv.visitInsn(ACONST_NULL);
+                mv.visitFieldInsn(PUTFIELD, EventDispatcherFactory.ABSTRACT_EVENT, "currentOrder", EventDispatcherFactory.ORDER_DESCRIPTOR);
+            }
+            if (cancellable) {
+                mv.visitVarInsn(ALOAD, 1);
+                mv.visitTypeInsn(CHECKCAST, EventDispatcherFactory.CANCELLABLE);
+                mv.visitMethodInsn(INVOKEINTERFACE, EventDispatcherFactory.CANCELLABLE, "isCancelled", "()Z", true);
+            } else {
+                mv.visitInsn(ICONST_0);
+            }
+            mv.visitInsn(IRETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+        cw.visitEnd();
+
+        return cw.toByteArray();
+    }
+
+    // Called by generated dispatchers
+
+    static ListenerFrame enter(final RegisteredListener<?> listener) {
+        final CauseStackManager.StackFrame frame = PhaseTracker.getCauseStackManager().pushCauseFrame();
+        try {
+            final @Nullable PhaseContext<@NonNull ?> context = SpongeEventManager.createListenerContext(listener.getPlugin());
+            frame.pushCause(listener.getPlugin());
+            if (context != null) {
+                context.buildAndSwitch();
+            }
+            return new ListenerFrame(frame, context);
+        } catch (final Throwable thr) {
+            frame.close();
+            throw thr;
+        }
+    }
+
+    static void exit(final @Nullable ListenerFrame frame) {
+        if (frame != null) {
+            if (frame.context != null) {
+                frame.context.close();
+            }
+            frame.frame.close();
+        }
+    }
+
+    static void error(final Event event, final RegisteredListener<?> listener, final Throwable thr) {
+        SpongeCommon.logger().error("Could not pass {} to {}", event.getClass().getSimpleName(), listener.getPlugin().metadata().id(), thr);
+    }
+
+    static final class ListenerFrame {
+
+        final CauseStackManager.StackFrame frame;
+        final @Nullable PhaseContext<@NonNull ?> context;
+
+        ListenerFrame(final CauseStackManager.StackFrame frame, final @Nullable PhaseContext<@NonNull ?> context) {
+            this.frame = frame;
+            this.context = context;
+        }
+
+    }
+
+}
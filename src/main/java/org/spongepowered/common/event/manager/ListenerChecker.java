@@ -182,7 +182,8 @@ private static class FieldData {
             this.field = field;
         }
 
-        void update(boolean increment) {
+        // Listeners may be (un)registered concurrently
+        synchronized void update(boolean increment) {
             if (increment) {
                 this.listenerCount++;
             } else {
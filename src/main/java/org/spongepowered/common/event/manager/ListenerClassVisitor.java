@@ -33,6 +33,7 @@
 import org.objectweb.asm.AnnotationVisitor;
 import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.Handle;
 import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
@@ -54,6 +55,7 @@
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 public class ListenerClassVisitor extends ClassVisitor {
@@ -63,6 +65,29 @@ public class ListenerClassVisitor extends ClassVisitor {
 
     public static final int ASM_VERSION = Opcodes.ASM9;
 
+    private static final String API_EVENT_PACKAGE = "org/spongepowered/api/event/";
+    private static final Set<String> CAUSE_STACK_OWNERS = Set.of(
+        "org/spongepowered/api/event/CauseStackManager",
+        "org/spongepowered/api/event/CauseStackManager$StackFrame",
+        "org/spongepowered/api/event/EventListener",
+        "org/spongepowered/api/event/EventManager"
+    );
+    private static final Set<String> CAUSE_FREE_OWNERS = Set.of(
+        "java/lang/Object",
+        "java/lang/String",
+        "java/lang/StringBuilder",
+        "java/lang/Boolean",
+        "java/lang/Byte",
+        "java/lang/Short",
+        "java/lang/Integer",
+        "java/lang/Long",
+        "java/lang/Float",
+        "java/lang/Double",
+        "java/lang/Math",
+        "java/util/Objects"
+    );
+    private static final String STRING_CONCAT_FACTORY = "java/lang/invoke/StringConcatFactory";
+
     private static final Logger LOGGER = LogManager.getLogger();
 
     final List<DiscoveredMethod> foundListenerMethods = new LinkedList<>();
@@ -190,6 +215,31 @@ public AnnotationVisitor visitParameterAnnotation(
             return new ListenerAnnotationVisitor(annotation);
         }
 
+        @Override
+        public void visitMethodInsn(
+            final int opcode, final String owner, final String name, final String descriptor, final boolean isInterface
+        ) {
+            // A listener only needs its own cause frame and phase context if it can
+            // observe or extend the current cause stack, which it could do through
+            // any call that is not a plain accessor on the posted event.
+            if (ListenerClassVisitor.CAUSE_FREE_OWNERS.contains(owner)) {
+                return;
+            }
+            if (owner.startsWith(ListenerClassVisitor.API_EVENT_PACKAGE) && !ListenerClassVisitor.CAUSE_STACK_OWNERS.contains(owner)) {
+                return;
+            }
+            this.discoveredMethod.causeSensitive = true;
+        }
+
+        @Override
+        public void visitInvokeDynamicInsn(
+            final String name, final String descriptor, final Handle bootstrapMethodHandle, final Object... bootstrapMethodArguments
+        ) {
+            if (!ListenerClassVisitor.STRING_CONCAT_FACTORY.equals(bootstrapMethodHandle.getOwner())) {
+                this.discoveredMethod.causeSensitive = true;
+            }
+        }
+
     }
 
     static final class ListenerSignatureVisitor extends SignatureVisitor {
@@ -343,6 +393,7 @@ public static final class DiscoveredMethod {
         final ListenerParameter[] parameters;
         final List<ListenerAnnotation> annotations;
         @MonotonicNonNull Listener listenerAnnotation;
+        boolean causeSensitive;
 
         public DiscoveredMethod(
             final Class<?> declaringClass,
@@ -399,6 +450,16 @@ public int access() {
             return this.access;
         }
 
+        /**
+         * Gets whether the listener body may read or extend the current cause
+         * stack, and therefore needs to be invoked within its own cause frame.
+         *
+         * @return Whether the listener is cause sensitive
+         */
+        public boolean causeSensitive() {
+            return this.causeSensitive;
+        }
+
         @Override
         public boolean equals(final @Nullable Object o) {
             if (this == o) {
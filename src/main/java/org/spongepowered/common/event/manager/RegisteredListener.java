@@ -24,7 +24,7 @@
  */
 package org.spongepowered.common.event.manager;
 
-
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.event.Event;
 import org.spongepowered.api.event.EventListener;
 import org.spongepowered.api.event.Order;
@@ -47,14 +47,17 @@
     private final EventListener<? super T> listener;
 
     private final boolean beforeModifications;
+    private final boolean causeSensitive;
 
     RegisteredListener(
-            final PluginContainer plugin, final EventType<T> eventType, final Order order, final EventListener<? super T> listener, final boolean beforeModifications) {
+            final PluginContainer plugin, final EventType<T> eventType, final Order order, final EventListener<? super T> listener,
+            final boolean beforeModifications, final boolean causeSensitive) {
         this.plugin = Objects.requireNonNull(plugin, "plugin");
         this.eventType = Objects.requireNonNull(eventType, "eventType");
         this.order = Objects.requireNonNull(order, "order");
         this.listener = Objects.requireNonNull(listener, "listener");
         this.beforeModifications = beforeModifications;
+        this.causeSensitive = causeSensitive;
     }
 
     public PluginContainer getPlugin() {
@@ -73,6 +76,21 @@ public boolean isBeforeModifications() {
         return this.beforeModifications;
     }
 
+    /**
+     * Gets whether this listener has to be invoked within its own cause
+     * frame and listener phase context. Only listeners which are proven to
+     * not interact with the cause stack are exempt.
+     *
+     * @return Whether the listener is cause sensitive
+     */
+    public boolean isCauseSensitive() {
+        return this.causeSensitive;
+    }
+
+    EventListener<? super T> listener() {
+        return this.listener;
+    }
+
     @Override
     public Object getHandle() {
         if (this.listener instanceof SpongeEventListener) {
@@ -94,12 +112,20 @@ public int compareTo(final RegisteredListener<?> handler) {
 
     public static final class Cache {
 
+        private final Class<?> eventClass;
         private final List<RegisteredListener<?>> listeners;
         private final List<RegisteredListener<?>> beforeModifications = new ArrayList<>();
         private final List<RegisteredListener<?>> afterModifications = new ArrayList<>();
         private final EnumMap<Order, List<RegisteredListener<?>>> listenersByOrder;
 
-        Cache(final List<RegisteredListener<?>> listeners) {
+        // Dispatchers are generated on first use, racing threads may generate
+        // the same dispatcher twice which is harmless.
+        private @Nullable EventDispatcher dispatcher;
+        private @Nullable EventDispatcher beforeModificationsDispatcher;
+        private @Nullable EventDispatcher afterModificationsDispatcher;
+
+        Cache(final Class<?> eventClass, final List<RegisteredListener<?>> listeners) {
+            this.eventClass = eventClass;
             this.listeners = listeners;
 
             this.listenersByOrder = new EnumMap<>(Order.class);
@@ -134,6 +160,30 @@ public List<RegisteredListener<?>> afterModifications() {
             return Collections.unmodifiableList(this.afterModifications);
         }
 
+        public EventDispatcher dispatcher() {
+            @Nullable EventDispatcher dispatcher = this.dispatcher;
+            if (dispatcher == null) {
+                dispatcher = this.dispatcher = EventDispatcherFactory.create(this.eventClass, this.listeners);
+            }
+            return dispatcher;
+        }
+
+        public EventDispatcher beforeModificationsDispatcher() {
+            @Nullable EventDispatcher dispatcher = this.beforeModificationsDispatcher;
+            if (dispatcher == null) {
+                dispatcher = this.beforeModificationsDispatcher = EventDispatcherFactory.create(this.eventClass, this.beforeModifications);
+            }
+            return dispatcher;
+        }
+
+        public EventDispatcher afterModificationsDispatcher() {
+            @Nullable EventDispatcher dispatcher = this.afterModificationsDispatcher;
+            if (dispatcher == null) {
+                dispatcher = this.afterModificationsDispatcher = EventDispatcherFactory.create(this.eventClass, this.afterModifications);
+            }
+            return dispatcher;
+        }
+
     }
 
 }
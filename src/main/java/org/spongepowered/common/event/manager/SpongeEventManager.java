@@ -24,10 +24,6 @@
  */
 package org.spongepowered.common.event.manager;
 
-import com.github.benmanes.caffeine.cache.Caffeine;
-import com.github.benmanes.caffeine.cache.LoadingCache;
-import com.google.common.collect.HashMultimap;
-import com.google.common.collect.Multimap;
 import io.leangen.geantyref.GenericTypeReflector;
 import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -58,11 +54,9 @@
 
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
-import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -71,6 +65,10 @@
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -80,46 +78,38 @@ public abstract class SpongeEventManager implements EventManager {
     private static final NoExceptionClosable NULL_CLOSABLE = new NoExceptionClosable();
 
     public final ListenerChecker checker;
-    private final Object lock;
-    private final Multimap<Class<?>, RegisteredListener<?>> handlersByEvent;
     /**
-     * A cache of all the handlers for an event type for quick event posting.
-     * <p>The cache is currently entirely invalidated if handlers are added or
-     * removed.</p>
+     * Immutable snapshots of the listeners registered per event class. A
+     * snapshot is never modified, registration replaces it through
+     * compare-and-swap.
      */
-    protected final LoadingCache<EventType<?>, RegisteredListener.Cache> handlersCache =
-            Caffeine.newBuilder().initialCapacity(150).build(this::bakeHandlers);
+    private final ConcurrentMap<Class<?>, List<RegisteredListener<?>>> handlersByEvent;
+    /**
+     * The baked handlers of every posted event class, for quick event posting.
+     * <p>Registration only invalidates the slots of the event classes it can
+     * affect, a bake that raced with a registration is discarded when it is
+     * published.</p>
+     */
+    private final ClassValue<HandlerSlot> handlersByClass = new ClassValue<>() {
+        @Override
+        protected HandlerSlot computeValue(final Class<?> type) {
+            final HandlerSlot slot = new HandlerSlot(type);
+            SpongeEventManager.this.handlerSlots.add(slot);
+            return slot;
+        }
+    };
+    private final List<HandlerSlot> handlerSlots;
     private final Set<Object> registeredListeners;
 
+    private final AtomicInteger bakesThisTick = new AtomicInteger();
+    private final AtomicLong totalBakes = new AtomicLong();
+    private volatile int lastTickBakes;
+
     public SpongeEventManager() {
-        this.lock = new Object();
-        this.handlersByEvent = HashMultimap.create();
-        this.registeredListeners = new ReferenceOpenHashSet<>();
+        this.handlersByEvent = new ConcurrentHashMap<>();
+        this.handlerSlots = new CopyOnWriteArrayList<>();
+        this.registeredListeners = Collections.synchronizedSet(new ReferenceOpenHashSet<>());
         this.checker = new ListenerChecker(ShouldFire.class);
-
-        // Caffeine offers no control over the concurrency level of the
-        // ConcurrentHashMap which backs the cache. By default this concurrency
-        // level is 16. We replace the backing map before any use can occur
-        // a new ConcurrentHashMap with a concurrency level of 1
-        try {
-            // Cache impl class is UnboundedLocalLoadingCache which extends
-            // UnboundedLocalManualCache
-
-            // UnboundedLocalManualCache has a field 'cache' with an
-            // UnboundedLocalCache which contains the actual backing map
-            final Field innerCache = this.handlersCache.getClass().getSuperclass().getDeclaredField("cache");
-            innerCache.setAccessible(true);
-            final Object innerCacheValue = innerCache.get(this.handlersCache);
-            final Class<?> innerCacheClass = innerCacheValue.getClass(); // UnboundedLocalCache
-            final Field cacheData = innerCacheClass.getDeclaredField("data");
-            cacheData.setAccessible(true);
-            final ConcurrentHashMap<Class<? extends Event>, RegisteredListener.Cache> newBackingData =
-                    new ConcurrentHashMap<>(150, 0.75f, 1);
-            cacheData.set(innerCacheValue, newBackingData);
-        } catch (final NoSuchFieldException | SecurityException | IllegalArgumentException | IllegalAccessException e) {
-            SpongeCommon.logger().warn("Failed to set event cache backing array, type was " + this.handlersCache.getClass().getName());
-            SpongeCommon.logger().warn("  Caused by: " + e.getClass().getName() + ": " + e.getMessage());
-        }
     }
 
     private static @Nullable String getHandlerErrorOrNull(final ListenerClassVisitor.DiscoveredMethod method) throws
@@ -150,16 +140,18 @@ public SpongeEventManager() {
 
     @SuppressWarnings({"unchecked", "rawtypes"})
     private static <T extends Event> RegisteredListener<T> createRegistration(final PluginContainer plugin, final Type eventType,
-            final Order order, final boolean beforeModifications, final EventListener<? super T> handler) {
+            final Order order, final boolean beforeModifications, final boolean causeSensitive, final EventListener<? super T> handler) {
         @Nullable Type genericType = null;
         final Class<?> erased = GenericTypeReflector.erase(eventType);
         if (GenericEvent.class.isAssignableFrom(erased)) {
             genericType = TypeTokenUtil.typeArgumentFromSupertype(eventType, GenericEvent.class, 0);
         }
-        return new RegisteredListener(plugin, new EventType(erased, genericType), order, handler, beforeModifications);
+        return new RegisteredListener(plugin, new EventType(erased, genericType), order, handler, beforeModifications, causeSensitive);
     }
 
     <T extends Event> RegisteredListener.Cache bakeHandlers(final EventType<T> eventType) {
+        this.bakesThisTick.incrementAndGet();
+        this.totalBakes.incrementAndGet();
         final List<RegisteredListener<?>> handlers = new ArrayList<>();
         final Stream<? extends Class<?>> types = Types.allSuperTypesAndInterfaces(eventType.getType())
                 .map(GenericTypeReflector::erase)
@@ -167,59 +159,65 @@ <T extends Event> RegisteredListener.Cache bakeHandlers(final EventType<T> event
 
         // TODO: Move @Includes and @Excludes from filters to the baking process, this simplifies the generated
         //       filter code and makes the filter baking target more specific handlers.
-        synchronized (this.lock) {
-            for (final Iterator<? extends Class<?>> it = types.iterator(); it.hasNext(); ) {
-                final Class<?> type = it.next();
-                final Collection<RegisteredListener<?>> listeners = this.handlersByEvent.get(type);
-                if (GenericEvent.class.isAssignableFrom(type)) {
-                    final Type genericType = Objects.requireNonNull(eventType.getGenericType());
-                    for (final RegisteredListener<?> listener : listeners) {
-                        final Type genericType1 = Objects.requireNonNull(listener.getEventType().getGenericType());
-                        if (TypeTokenUtil.isAssignable(genericType, genericType1)) {
-                            handlers.add(listener);
-                        }
+        for (final Iterator<? extends Class<?>> it = types.iterator(); it.hasNext(); ) {
+            final Class<?> type = it.next();
+            final @Nullable List<RegisteredListener<?>> listeners = this.handlersByEvent.get(type);
+            if (listeners == null) {
+                continue;
+            }
+            if (GenericEvent.class.isAssignableFrom(type)) {
+                final Type genericType = Objects.requireNonNull(eventType.getGenericType());
+                for (final RegisteredListener<?> listener : listeners) {
+                    final Type genericType1 = Objects.requireNonNull(listener.getEventType().getGenericType());
+                    if (TypeTokenUtil.isAssignable(genericType, genericType1)) {
+                        handlers.add(listener);
                     }
-                } else {
-                    handlers.addAll(listeners);
                 }
+            } else {
+                handlers.addAll(listeners);
             }
         }
 
         Collections.sort(handlers);
-        return new RegisteredListener.Cache(handlers);
+        return new RegisteredListener.Cache(eventType.getType(), handlers);
     }
 
     private void register(final List<RegisteredListener<? extends Event>> handlers) {
-        boolean changed = false;
-
-        synchronized (this.lock) {
-            for (final RegisteredListener<?> handler : handlers) {
-                final Class<?> raw = handler.getEventType().getType();
-                if (this.handlersByEvent.put(raw, handler)) {
-                    changed = true;
-                    this.checker.registerListenerFor(raw);
-                }
-            }
+        if (handlers.isEmpty()) {
+            return;
         }
-
-        if (changed) {
-            this.handlersCache.invalidateAll();
+        final Set<Class<?>> changed = new ReferenceOpenHashSet<>();
+        for (final RegisteredListener<?> handler : handlers) {
+            final Class<?> raw = handler.getEventType().getType();
+            this.addHandler(raw, handler);
+            this.checker.registerListenerFor(raw);
+            changed.add(raw);
         }
+        this.invalidateHandlers(changed);
     }
 
     private void register(final RegisteredListener<? extends Event> handler) {
-        boolean changed = false;
+        final Class<?> raw = handler.getEventType().getType();
+        this.addHandler(raw, handler);
+        this.checker.registerListenerFor(raw);
+        this.invalidateHandlers(Set.of(raw));
+    }
 
-        synchronized (this.lock) {
-            final Class<?> raw = handler.getEventType().getType();
-            if (this.handlersByEvent.put(raw, handler)) {
-                changed = true;
-                this.checker.registerListenerFor(raw);
+    private void addHandler(final Class<?> raw, final RegisteredListener<?> handler) {
+        while (true) {
+            final @Nullable List<RegisteredListener<?>> current = this.handlersByEvent.get(raw);
+            if (current == null) {
+                if (this.handlersByEvent.putIfAbsent(raw, List.of(handler)) == null) {
+                    return;
+                }
+                continue;
+            }
+            final List<RegisteredListener<?>> next = new ArrayList<>(current.size() + 1);
+            next.addAll(current);
+            next.add(handler);
+            if (this.handlersByEvent.replace(raw, current, Collections.unmodifiableList(next))) {
+                return;
             }
-        }
-
-        if (changed) {
-            this.handlersCache.invalidateAll();
         }
     }
 
@@ -228,7 +226,7 @@ private void registerListener(final PluginContainer plugin, final Object listene
         Objects.requireNonNull(plugin, "plugin");
         Objects.requireNonNull(listenerObject, "listener");
 
-        if (this.registeredListeners.contains(listenerObject)) {
+        if (!this.registeredListeners.add(listenerObject)) {
             SpongeCommon.logger().warn("Plugin {} attempted to register an already registered listener ({})", plugin.metadata().id(),
                     listenerObject.getClass().getName());
             Thread.dumpStack();
@@ -245,6 +243,7 @@ private void registerListener(final PluginContainer plugin, final Object listene
             lookup = ListenerLookups.get(handle);
             if (lookup == null) {
                 SpongeCommon.logger().warn("No lookup found for listener {}.", handle.getName());
+                this.registeredListeners.remove(listenerObject);
                 return;
             }
         }
@@ -267,7 +266,7 @@ private void registerListener(final PluginContainer plugin, final Object listene
                     }
 
                     handlers.add(SpongeEventManager.createRegistration(plugin, eventType, listener.order(), listener.beforeModifications(),
-                        handler));
+                        method.causeSensitive(), handler));
                 } else {
                     methodErrors.put(method, error);
                 }
@@ -309,7 +308,6 @@ private void registerListener(final PluginContainer plugin, final Object listene
                     method.getKey().declaringClass().getName(), method.getValue());
         }
 
-        this.registeredListeners.add(listenerObject);
         this.register(handlers);
     }
 
@@ -317,7 +315,7 @@ private void registerListener(final PluginContainer plugin, final Object listene
     public <E extends Event> EventManager registerListener(final EventListenerRegistration<E> registration) {
         Objects.requireNonNull(registration, "registration");
         final RegisteredListener<E> handler = SpongeEventManager.createRegistration(registration.plugin(),
-                registration.eventType(), registration.order(), registration.beforeModifications(), registration.listener());
+                registration.eventType(), registration.order(), registration.beforeModifications(), true, registration.listener());
         this.register(handler);
         return this;
     }
@@ -345,26 +343,91 @@ public SpongeEventManager registerListeners(final PluginContainer plugin, final
     }
 
     private void unregister(final Predicate<RegisteredListener<?>> unregister) {
-        boolean changed = false;
+        final Set<Class<?>> changed = new ReferenceOpenHashSet<>();
+        for (final Class<?> raw : this.handlersByEvent.keySet()) {
+            final List<RegisteredListener<?>> removed = this.removeHandlers(raw, unregister);
+            for (final RegisteredListener<?> handler : removed) {
+                this.checker.unregisterListenerFor(raw);
+                this.registeredListeners.remove(handler.getHandle());
+            }
+            if (!removed.isEmpty()) {
+                changed.add(raw);
+            }
+        }
+        if (!changed.isEmpty()) {
+            this.invalidateHandlers(changed);
+        }
+    }
 
-        synchronized (this.lock) {
-            final Iterator<RegisteredListener<?>> itr = this.handlersByEvent.values().iterator();
-            while (itr.hasNext()) {
-                final RegisteredListener<?> handler = itr.next();
+    private List<RegisteredListener<?>> removeHandlers(final Class<?> raw, final Predicate<RegisteredListener<?>> unregister) {
+        while (true) {
+            final @Nullable List<RegisteredListener<?>> current = this.handlersByEvent.get(raw);
+            if (current == null) {
+                return Collections.emptyList();
+            }
+            final List<RegisteredListener<?>> removed = new ArrayList<>();
+            final List<RegisteredListener<?>> next = new ArrayList<>(current.size());
+            for (final RegisteredListener<?> handler : current) {
                 if (unregister.test(handler)) {
-                    itr.remove();
-                    changed = true;
-                    this.checker.unregisterListenerFor(handler.getEventType().getType());
-                    this.registeredListeners.remove(handler.getHandle());
+                    removed.add(handler);
+                } else {
+                    next.add(handler);
                 }
             }
+            if (removed.isEmpty()) {
+                return removed;
+            }
+            final boolean swapped = next.isEmpty()
+                    ? this.handlersByEvent.remove(raw, current)
+                    : this.handlersByEvent.replace(raw, current, Collections.unmodifiableList(next));
+            if (swapped) {
+                return removed;
+            }
         }
+    }
 
-        if (changed) {
-            this.handlersCache.invalidateAll();
+    /**
+     * Invalidates the baked handlers of every posted event class that is a
+     * subtype of one of the given event classes, the handlers of all other
+     * event classes can not have been affected by the change.
+     */
+    private void invalidateHandlers(final Set<Class<?>> changed) {
+        for (final HandlerSlot slot : this.handlerSlots) {
+            for (final Class<?> type : changed) {
+                if (type.isAssignableFrom(slot.eventClass)) {
+                    slot.invalidate();
+                    break;
+                }
+            }
         }
     }
 
+    /**
+     * Rolls over the per tick baking statistics, called at the start of
+     * every server tick.
+     */
+    public void updateTickMetrics() {
+        this.lastTickBakes = this.bakesThisTick.getAndSet(0);
+    }
+
+    /**
+     * Gets how many listener lists were (re-)baked during the last tick.
+     *
+     * @return The bakes of the last tick
+     */
+    public int lastTickBakes() {
+        return this.lastTickBakes;
+    }
+
+    /**
+     * Gets how many listener lists were (re-)baked since startup.
+     *
+     * @return The total amount of bakes
+     */
+    public long totalBakes() {
+        return this.totalBakes.get();
+    }
+
     @Override
     public SpongeEventManager unregisterListeners(final Object obj) {
         if (obj instanceof PluginContainer) {
@@ -379,17 +442,45 @@ public SpongeEventManager unregisterListeners(final Object obj) {
     @SuppressWarnings({"unchecked", "rawtypes"})
     protected RegisteredListener.Cache getHandlerCache(final Event event) {
         final Class<? extends Event> eventClass = Objects.requireNonNull(event, "event").getClass();
-        final EventType<? extends Event> eventType;
+        final HandlerSlot slot = this.handlersByClass.get(eventClass);
         if (event instanceof GenericEvent) {
-            eventType = new EventType(eventClass, Objects.requireNonNull(((GenericEvent<?>) event).paramType().getType()));
-        } else {
-            eventType = new EventType(eventClass, null);
+            final Type genericType = Objects.requireNonNull(((GenericEvent<?>) event).paramType().getType());
+            final RegisteredListener.@Nullable Cache cache = slot.genericCaches.get(genericType);
+            if (cache != null) {
+                return cache;
+            }
+            final int version = slot.version.get();
+            final RegisteredListener.Cache baked = this.bakeHandlers(new EventType(eventClass, genericType));
+            final RegisteredListener.@Nullable Cache existing = slot.genericCaches.putIfAbsent(genericType, baked);
+            if (existing != null) {
+                return existing;
+            }
+            if (slot.version.get() != version) {
+                // A registration raced with the bake, don't keep a possibly stale list around
+                slot.genericCaches.remove(genericType, baked);
+            }
+            return baked;
+        }
+        final RegisteredListener.@Nullable Cache cache = slot.cache;
+        if (cache != null) {
+            return cache;
+        }
+        final int version = slot.version.get();
+        final RegisteredListener.Cache baked = this.bakeHandlers(new EventType(eventClass, null));
+        slot.cache = baked;
+        if (slot.version.get() != version) {
+            // A registration raced with the bake, don't keep a possibly stale list around
+            slot.cache = null;
         }
-        return this.handlersCache.get(eventType);
+        return baked;
     }
 
-    @SuppressWarnings({"unchecked", "rawtypes"})
     protected final boolean post(final Event event, final List<RegisteredListener<?>> handlers) {
+        return SpongeEventManager.dispatch(event, handlers);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static boolean dispatch(final Event event, final List<RegisteredListener<?>> handlers) {
         for (final RegisteredListener handler : handlers) {
             try (
                     final CauseStackManager.StackFrame frame = PhaseTracker.getCauseStackManager().pushCauseFrame();
@@ -432,7 +523,7 @@ public boolean post(final Event event) {
             // Allow the client thread by default so devs can actually
             // call their own events inside the init events. Only allowing
             // this as long that there is no server available
-            return this.post(event, this.getHandlerCache(event).getListeners());
+            return this.getHandlerCache(event).dispatcher().dispatch(event);
         }
     }
 
@@ -453,6 +544,26 @@ protected final NoExceptionClosable preparePost(final Event event) {
         return SpongeEventManager.NULL_CLOSABLE;
     }
 
+    static final class HandlerSlot {
+
+        final Class<?> eventClass;
+        final AtomicInteger version = new AtomicInteger();
+        volatile RegisteredListener.@Nullable Cache cache;
+        final Map<Type, RegisteredListener.Cache> genericCaches = new ConcurrentHashMap<>();
+
+        HandlerSlot(final Class<?> eventClass) {
+            this.eventClass = eventClass;
+        }
+
+        void invalidate() {
+            // The version must be bumped before the caches are cleared, see getHandlerCache
+            this.version.incrementAndGet();
+            this.cache = null;
+            this.genericCaches.clear();
+        }
+
+    }
+
     protected static class NoExceptionClosable implements AutoCloseable {
 
         NoExceptionClosable() {
@@ -200,6 +200,19 @@ default boolean doesBlockEventTracking(final C context) {
         return true;
     }
 
+    /**
+     * Gets whether block changes need to be captured as transactions in this
+     * state even when nothing is listening for the events they produce, usually
+     * because {@link #postBlockTransactionApplication(PhaseContext, BlockChange, BlockTransactionReceipt)}
+     * performs changes of its own, such as tracking creators and notifiers.
+     *
+     * @param context The context
+     * @return True if block changes are always to be captured
+     */
+    default boolean requiresBlockCapturing(final C context) {
+        return false;
+    }
+
     /**
      * Gets whether this state fires {@link org.spongepowered.api.event.entity.CollideEntityEvent}s.
      * This is used for firing the events and for related optimizations.
@@ -36,6 +36,7 @@
 import org.spongepowered.api.event.EventContextKeys;
 import org.spongepowered.api.world.server.ServerLocation;
 import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
+import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.tracking.context.transaction.TransactionalCaptureSupplier;
 import org.spongepowered.common.util.MemoizedSupplier;
 import org.spongepowered.common.util.Preconditions;
@@ -156,6 +157,56 @@ public boolean allowsBulkEntityCaptures() {
         return this.allowsBulkEntityCaptures;
     }
 
+    /**
+     * Gets whether block changes, and the block entity and block event changes
+     * accompanying them, are to be captured as transactions. Capturing is
+     * skipped when nothing could observe the resulting events: no listeners
+     * are registered for them, the change is not a side effect of an already
+     * captured transaction that may yet be cancelled, and the state does not
+     * {@link #requiresBlockCapturing() require} them.
+     *
+     * @return True if block changes are to be captured
+     */
+    public boolean capturesBlockChanges() {
+        return ShouldFire.CHANGE_BLOCK_EVENT_ALL
+            || ShouldFire.CHANGE_BLOCK_EVENT_POST
+            // Entities spawned as a side effect of a block change are thrown as its drops
+            || ShouldFire.SPAWN_ENTITY_EVENT
+            || this.isCapturingSideEffect()
+            || this.requiresBlockCapturing();
+    }
+
+    public boolean capturesEntitySpawns() {
+        return ShouldFire.SPAWN_ENTITY_EVENT
+            || this.isCapturingSideEffect()
+            // Spawned entities are tracked to the creator, notifier or player of this context
+            || this.creator != null
+            || this.notifier != null
+            || this.source instanceof ServerPlayer;
+    }
+
+    public boolean capturesBlockDrops() {
+        return ShouldFire.DROP_ITEM_EVENT_DESTRUCT || ShouldFire.CHANGE_BLOCK_EVENT_ALL || this.isCapturingSideEffect();
+    }
+
+    public boolean capturesEntityDrops() {
+        return ShouldFire.HARVEST_ENTITY_EVENT || ShouldFire.DROP_ITEM_EVENT_DESTRUCT || this.isCapturingSideEffect();
+    }
+
+    public boolean capturesNeighborNotifications() {
+        return ShouldFire.NOTIFY_NEIGHBOR_BLOCK_EVENT || this.isCapturingSideEffect();
+    }
+
+    public boolean capturesScheduledUpdates() {
+        return ShouldFire.SCHEDULE_BLOCK_UPDATE_EVENT || this.isCapturingSideEffect();
+    }
+
+    private boolean isCapturingSideEffect() {
+        // Anything logged here is absorbed by the transaction owning the side effect,
+        // and has to be restored along with it should its event be cancelled.
+        return this.transactor != null && this.transactor.isProcessingSideEffect();
+    }
+
     public P buildAndSwitch() {
         this.isCompleted = true;
         if (SpongeConfigs.getCommon().get().phaseTracker.generateStackTracePerPhase) {
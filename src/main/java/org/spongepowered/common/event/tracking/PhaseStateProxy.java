@@ -141,6 +141,10 @@ default boolean doesBlockEventTracking() {
         return this.getState().doesBlockEventTracking(this.asContext());
     }
 
+    default boolean requiresBlockCapturing() {
+        return this.getState().requiresBlockCapturing(this.asContext());
+    }
+
     /**
      * Gets whether this state fires {@link org.spongepowered.api.event.entity.CollideEntityEvent}s.
      * This is used for firing the events and for related optimizations.
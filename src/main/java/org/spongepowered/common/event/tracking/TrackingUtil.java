@@ -476,7 +476,41 @@ public static String phaseStateToString(final String type, final @Nullable Strin
     }
 
     public static SpongeBlockSnapshot createPooledSnapshot(final net.minecraft.world.level.block.state.BlockState state, final BlockPos pos,
-        final BlockChangeFlag updateFlag, final int limit, final net.minecraft.world.level.block.entity.@Nullable BlockEntity blockEntity,
+        final BlockChangeFlag updateFlag, final net.minecraft.world.level.block.entity.@Nullable BlockEntity blockEntity,
+        final Supplier<ServerLevel> worldSupplier,
+        final Supplier<Optional<UUID>> creatorSupplier,
+        final Supplier<Optional<UUID>> notifierSupplier
+    ) {
+        final SpongeBlockSnapshot.BuilderImpl builder = TrackingUtil.createPooledSnapshotBuilder(state, pos, updateFlag, worldSupplier,
+            creatorSupplier, notifierSupplier);
+        if (blockEntity != null) {
+            TrackingUtil.addTileEntityToBuilder(blockEntity, builder);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Creates a snapshot like {@link #createPooledSnapshot}, but only
+     * serializes the block entity once the snapshot's block entity data is
+     * read. Only use this where the block entity is not mutated afterwards,
+     * or call {@link SpongeBlockSnapshot#captureBlockEntity()} before it is.
+     */
+    public static SpongeBlockSnapshot createDeferredSnapshot(final net.minecraft.world.level.block.state.BlockState state, final BlockPos pos,
+        final BlockChangeFlag updateFlag, final net.minecraft.world.level.block.entity.@Nullable BlockEntity blockEntity,
+        final Supplier<ServerLevel> worldSupplier,
+        final Supplier<Optional<UUID>> creatorSupplier,
+        final Supplier<Optional<UUID>> notifierSupplier
+    ) {
+        final SpongeBlockSnapshot.BuilderImpl builder = TrackingUtil.createPooledSnapshotBuilder(state, pos, updateFlag, worldSupplier,
+            creatorSupplier, notifierSupplier);
+        if (blockEntity != null) {
+            builder.deferredBlockEntity(blockEntity);
+        }
+        return builder.build();
+    }
+
+    private static SpongeBlockSnapshot.BuilderImpl createPooledSnapshotBuilder(final net.minecraft.world.level.block.state.BlockState state,
+        final BlockPos pos, final BlockChangeFlag updateFlag,
         final Supplier<ServerLevel> worldSupplier,
         final Supplier<Optional<UUID>> creatorSupplier,
         final Supplier<Optional<UUID>> notifierSupplier
@@ -488,10 +522,7 @@ public static SpongeBlockSnapshot createPooledSnapshot(final net.minecraft.world
                 .position(VecHelper.toVector3i(pos));
         creatorSupplier.get().ifPresent(builder::creator);
         notifierSupplier.get().ifPresent(builder::notifier);
-        if (blockEntity != null) {
-            TrackingUtil.addTileEntityToBuilder(blockEntity, builder);
-        }
         builder.flag(updateFlag);
-        return builder.build();
+        return builder;
     }
 }
@@ -95,7 +95,6 @@
 import org.spongepowered.common.event.tracking.phase.tick.EntityTickContext;
 import org.spongepowered.common.inventory.adapter.InventoryAdapter;
 import org.spongepowered.common.item.util.ItemStackUtil;
-import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.world.BlockChange;
 import org.spongepowered.common.world.SpongeBlockChangeFlag;
 import org.spongepowered.common.world.volume.VolumeStreamUtils;
@@ -125,6 +124,14 @@ interface TransactionSink {
 
     EffectTransactor pushEffect(final ResultingTransactionBySideEffect effect);
 
+    /**
+     * Gets the {@link PhaseContext} transactions are being logged for, used to
+     * skip logging transactions that no listener would observe.
+     *
+     * @return The phase context
+     */
+    PhaseContext<@NonNull ?> phaseContext();
+
     default ChangeBlock logBlockChange(final SpongeBlockSnapshot originalBlockSnapshot, final BlockState newState,
         final BlockChangeFlag flags
     ) {
@@ -140,6 +147,9 @@ default void logBlockEvent(
         final BlockState state, final TrackedWorldBridge serverWorld, final BlockPos pos,
         final TrackableBlockEventDataBridge blockEvent
     ) {
+        if (!this.phaseContext().capturesBlockChanges()) {
+            return;
+        }
         final WeakReference<ServerLevel> worldRef = new WeakReference<>((ServerLevel) serverWorld);
         final Supplier<ServerLevel> worldSupplier = () -> Objects.requireNonNull(worldRef.get(), "ServerWorld dereferenced");
         final @Nullable BlockEntity tileEntity = ((ServerLevel) serverWorld).getBlockEntity(pos);
@@ -147,7 +157,6 @@ default void logBlockEvent(
             state,
             pos,
             BlockChangeFlags.NONE,
-            Constants.World.DEFAULT_BLOCK_CHANGE_LIMIT,
             tileEntity,
             worldSupplier,
             Optional::empty, Optional::empty
@@ -158,17 +167,19 @@ default void logBlockEvent(
     }
 
     @SuppressWarnings("ConstantConditions")
-    default EffectTransactor logBlockDrops(
+    default @Nullable EffectTransactor logBlockDrops(
         final Level serverWorld, final BlockPos pos, final BlockState state,
         final @Nullable BlockEntity tileEntity
     ) {
+        if (!this.phaseContext().capturesBlockDrops()) {
+            return null;
+        }
         final WeakReference<ServerLevel> worldRef = new WeakReference<>((ServerLevel) serverWorld);
         final Supplier<ServerLevel> worldSupplier = () -> Objects.requireNonNull(worldRef.get(), "ServerWorld dereferenced");
         final SpongeBlockSnapshot original = TrackingUtil.createPooledSnapshot(
             state,
             pos,
             BlockChangeFlags.NONE,
-            Constants.World.DEFAULT_BLOCK_CHANGE_LIMIT,
             tileEntity,
             worldSupplier,
             Optional::empty, Optional::empty
@@ -181,6 +192,9 @@ default EffectTransactor logBlockDrops(
 
     @SuppressWarnings({"ConstantConditions", "unchecked"})
     default <T> void logScheduledUpdate(final ServerLevel serverWorld, final ScheduledTick<T> data) {
+        if (!this.phaseContext().capturesScheduledUpdates()) {
+            return;
+        }
         final WeakReference<ServerLevel> worldRef = new WeakReference<>(serverWorld);
         final WeakReference<ScheduledTick<T>> dataRef = new WeakReference<>(data);
         final Supplier<ServerLevel> worldSupplier = () -> Objects.requireNonNull(worldRef.get(), "ServerWorld dereferenced");
@@ -204,6 +218,9 @@ default void logEntitySpawn(
         final PhaseContext<@NonNull ?> current, final TrackedWorldBridge serverWorld,
         final Entity entityIn
     ) {
+        if (!current.capturesEntitySpawns()) {
+            return;
+        }
         final WeakReference<ServerLevel> worldRef = new WeakReference<>((ServerLevel) serverWorld);
         final Supplier<ServerLevel> worldSupplier = () -> Objects.requireNonNull(worldRef.get(), "ServerWorld dereferenced");
         final Supplier<SpawnType> contextualType = current.getSpawnTypeForTransaction(entityIn);
@@ -225,7 +242,7 @@ default boolean logTileReplacement(
         final BlockPos pos, final @Nullable BlockEntity existing, final @Nullable BlockEntity proposed,
         final Supplier<ServerLevel> worldSupplier
     ) {
-        if (proposed == null) {
+        if (proposed == null || !this.phaseContext().capturesBlockChanges()) {
             return false;
         }
         this.logTransaction(new ReplaceBlockEntity(pos, existing, proposed, worldSupplier));
@@ -250,7 +267,7 @@ default AddTileEntity createTileAdditionTransaction(final BlockEntity tileentity
     }
 
     default boolean logTileRemoval(final @Nullable BlockEntity tileentity, final Supplier<ServerLevel> worldSupplier) {
-        if (tileentity == null) {
+        if (tileentity == null || !this.phaseContext().capturesBlockChanges()) {
             return false;
         }
         this.logTransaction(new RemoveBlockEntity(tileentity, worldSupplier));
@@ -258,6 +275,9 @@ default boolean logTileRemoval(final @Nullable BlockEntity tileentity, final Sup
     }
 
     default @Nullable EffectTransactor ensureEntityDropTransactionEffect(final Entity entity) {
+        if (!this.phaseContext().capturesEntityDrops()) {
+            return null;
+        }
         final EntityPerformingDropsTransaction transaction = new EntityPerformingDropsTransaction(entity);
         this.logTransaction(transaction);
         if (transaction.recorded()) {
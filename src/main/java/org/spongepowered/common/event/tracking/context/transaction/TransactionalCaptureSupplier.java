@@ -104,10 +104,25 @@ public EffectTransactor pushEffect(final ResultingTransactionBySideEffect effect
         return effectTransactor;
     }
 
+    @Override
+    public PhaseContext<@NonNull ?> phaseContext() {
+        return this.context;
+    }
+
     void popEffect(final EffectTransactor transactor) {
         this.effect = transactor.previousEffect;
     }
 
+    /**
+     * Gets whether a side effect of an already recorded transaction is being
+     * processed, in which case newly logged transactions become its children.
+     *
+     * @return True if a side effect is being processed
+     */
+    public boolean isProcessingSideEffect() {
+        return this.effect != null;
+    }
+
     @SuppressWarnings("DeprecatedIsStillUsed")
     @Deprecated
     @Override
@@ -40,7 +40,6 @@
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.TrackingUtil;
 import org.spongepowered.common.event.tracking.context.transaction.GameTransaction;
-import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.util.PrettyPrinter;
 import org.spongepowered.common.world.BlockChange;
 
@@ -74,16 +73,14 @@ protected void captureState() {
             this.originalState,
             this.affectedPosition,
             BlockChangeFlags.NONE,
-            Constants.World.DEFAULT_BLOCK_CHANGE_LIMIT,
             this.added,
             this.worldSupplier,
             Optional::empty, Optional::empty
         );
-        final SpongeBlockSnapshot existing = TrackingUtil.createPooledSnapshot(
+        final SpongeBlockSnapshot existing = TrackingUtil.createDeferredSnapshot(
             this.originalState,
             this.affectedPosition,
             BlockChangeFlags.NONE,
-            Constants.World.DEFAULT_BLOCK_CHANGE_LIMIT,
             existingTile,
             this.worldSupplier,
             Optional::empty,
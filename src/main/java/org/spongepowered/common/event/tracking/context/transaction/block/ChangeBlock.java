@@ -83,7 +83,7 @@ public SpongeBlockChangeFlag getBlockChangeFlag() {
         return this.blockChangeFlag;
     }
 
-    public void populateChunkEffects(final ChunkPipeline.Builder builder) {
+    public static void populateChunkEffects(final ChunkPipeline.Builder builder) {
 
         builder.addEffect(SetBlockToChunkSectionEffect.getInstance());
         builder.addEffect(UpdateHeightMapEffect.getInstance());
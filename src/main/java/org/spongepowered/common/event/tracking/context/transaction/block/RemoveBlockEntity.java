@@ -39,7 +39,6 @@
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.TrackingUtil;
 import org.spongepowered.common.event.tracking.context.transaction.GameTransaction;
-import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.util.PrettyPrinter;
 import org.spongepowered.common.world.BlockChange;
 import org.spongepowered.math.vector.Vector3i;
@@ -66,11 +65,11 @@ public RemoveBlockEntity(final BlockEntity removed, final Supplier<ServerLevel>
     @Override
     protected void captureState() {
         super.captureState();
-        final SpongeBlockSnapshot snapshot = TrackingUtil.createPooledSnapshot(
+        // The removed block entity is detached from the world, so nothing mutates it any further
+        final SpongeBlockSnapshot snapshot = TrackingUtil.createDeferredSnapshot(
             this.originalState,
             this.affectedPosition,
             BlockChangeFlags.NONE,
-            Constants.World.DEFAULT_BLOCK_CHANGE_LIMIT,
             this.removed,
             this.levelSupplier,
             Optional::empty, Optional::empty
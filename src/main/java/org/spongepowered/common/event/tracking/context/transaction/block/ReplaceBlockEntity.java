@@ -40,7 +40,6 @@
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.TrackingUtil;
 import org.spongepowered.common.event.tracking.context.transaction.GameTransaction;
-import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.util.PrettyPrinter;
 import org.spongepowered.common.world.BlockChange;
 
@@ -68,11 +67,10 @@ public ReplaceBlockEntity(final BlockPos pos, final @Nullable BlockEntity existi
     protected void captureState() {
         super.captureState();
         final BlockState currentState = this.worldSupplier.get().getBlockState(this.affectedPosition);
-        final SpongeBlockSnapshot snapshot = TrackingUtil.createPooledSnapshot(
+        final SpongeBlockSnapshot snapshot = TrackingUtil.createDeferredSnapshot(
             currentState,
             this.affectedPosition,
             BlockChangeFlags.NONE,
-            Constants.World.DEFAULT_BLOCK_CHANGE_LIMIT,
             this.removed,
             this.worldSupplier,
             Optional::empty, Optional::empty
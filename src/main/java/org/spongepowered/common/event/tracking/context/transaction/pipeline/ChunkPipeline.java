@@ -55,7 +55,8 @@ public final class ChunkPipeline implements BlockPipeline {
     private final @Nullable Supplier<LevelChunkSection> sectionSupplier;
     private final boolean wasEmpty;
     private final List<ResultingTransactionBySideEffect> chunkEffects;
-    final ChangeBlock transaction;
+    final @Nullable ChangeBlock transaction;
+    private final @Nullable SpongeBlockChangeFlag flag;
 
     public static ChunkPipeline nullReturn(final LevelChunk chunk, final ServerLevel world) {
         return new ChunkPipeline(chunk, world);
@@ -70,6 +71,7 @@ private ChunkPipeline(final LevelChunk chunk, final ServerLevel world) {
         this.wasEmpty = true;
         this.chunkEffects = Collections.emptyList();
         this.transaction = null;
+        this.flag = null;
     }
 
     ChunkPipeline(final Builder builder) {
@@ -79,6 +81,7 @@ private ChunkPipeline(final LevelChunk chunk, final ServerLevel world) {
         this.sectionSupplier = builder.sectionSupplier;
         this.wasEmpty = Objects.requireNonNull(builder.sectionSupplier).get().hasOnlyAir();
         this.transaction = builder.transaction;
+        this.flag = builder.flag;
     }
 
     public Supplier<LevelChunk> getChunkSupplier() {
@@ -112,12 +115,19 @@ public LevelChunkSection getAffectedSection() {
         }
         final ServerLevel serverWorld = this.serverWorld.get();
         final int oldOpacity = currentState.getLightBlock(serverWorld, pos);
-        final SpongeBlockChangeFlag flag = this.transaction.getBlockChangeFlag();
+        final SpongeBlockChangeFlag flag = Objects.requireNonNull(this.flag, "BlockChangeFlag is null in ChunkPipeline");
         final @Nullable BlockEntity existing = this.chunkSupplier.get().getBlockEntity(pos, LevelChunk.EntityCreationType.CHECK);
         PipelineCursor formerState = new PipelineCursor(currentState, oldOpacity, pos, existing, (Entity) null, limit);
+        if (this.transaction != null && existing != null) {
+            // Any of the side effects may change the block entity, such as the
+            // old block's onRemove emptying a container, so capture it up front.
+            // The original snapshot is also the cause of spawn, drop and
+            // neighbor notification events, so it may be read by any listener.
+            this.transaction.original.captureBlockEntity();
+        }
 
         for (final ResultingTransactionBySideEffect effect : this.chunkEffects) {
-            try (final EffectTransactor ignored = context.getTransactor().pushEffect(effect)) {
+            try (final @Nullable EffectTransactor ignored = this.pushEffect(context, effect)) {
                 final EffectResult result = effect.effect.processSideEffect(
                     this,
                     formerState,
@@ -137,6 +147,17 @@ public LevelChunkSection getAffectedSection() {
         return null;
     }
 
+    /**
+     * Pushes the side effect onto the {@link ChangeBlock} transaction this
+     * pipeline was kicked off with, if the change was logged as one at all.
+     */
+    @Nullable EffectTransactor pushEffect(final PhaseContext<?> context, final ResultingTransactionBySideEffect effect) {
+        if (this.transaction == null) {
+            return null;
+        }
+        return context.getTransactor().pushEffect(effect);
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -153,10 +174,25 @@ public static final class Builder {
         @Nullable Supplier<LevelChunkSection> sectionSupplier;
         boolean wasSectionEmpty;
         @MonotonicNonNull ChangeBlock transaction;
+        @MonotonicNonNull SpongeBlockChangeFlag flag;
         List<ResultingTransactionBySideEffect> effects;
 
         public Builder kickOff(final ChangeBlock transaction) {
             this.transaction = Objects.requireNonNull(transaction, "ChangeBlock transaction cannot be null!");
+            this.flag = transaction.getBlockChangeFlag();
+            return this;
+        }
+
+        /**
+         * Starts the pipeline without a {@link ChangeBlock} transaction, for
+         * changes that nothing would observe, such that the side effects are
+         * processed without being recorded.
+         *
+         * @param flag The block change flag
+         * @return This builder, for chaining
+         */
+        public Builder untracked(final SpongeBlockChangeFlag flag) {
+            this.flag = Objects.requireNonNull(flag, "BlockChangeFlag cannot be null!");
             return this;
         }
         public Builder addEffect(final ProcessingSideEffect effect) {
@@ -208,7 +244,7 @@ public ChunkPipeline build() {
             if (this.effects == null) {
                 this.effects = Collections.emptyList();
             }
-            Objects.requireNonNull(this.transaction, "ChangeBlock transaction must have been recorded!");
+            Objects.requireNonNull(this.flag, "ChangeBlock transaction or BlockChangeFlag must have been provided!");
             return new ChunkPipeline(this);
         }
 
@@ -102,7 +102,7 @@ public boolean processEffects(final PhaseContext<?> context, final BlockState cu
         PipelineCursor formerState = new PipelineCursor(oldState, oldOpacity, pos, existing, destroyer, limit);
 
         for (final ResultingTransactionBySideEffect effect : this.worldEffects) {
-            try (final EffectTransactor ignored = context.getTransactor().pushEffect(effect)) {
+            try (final @Nullable EffectTransactor ignored = this.chunkPipeline.pushEffect(context, effect)) {
                 final EffectResult result = effect.effect.processSideEffect(
                     this,
                     formerState,
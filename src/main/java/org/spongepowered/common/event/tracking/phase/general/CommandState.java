@@ -64,6 +64,12 @@ public BiConsumer<CauseStackManager.StackFrame, CommandPhaseContext> getFrameMod
         return this.COMMAND_MODIFIER;
     }
 
+    @Override
+    public boolean requiresBlockCapturing(final CommandPhaseContext context) {
+        // Changed blocks are tracked to the player running the command, if any
+        return PhaseTracker.getCauseStackManager().currentCause().first(Player.class).isPresent();
+    }
+
     @Override
     public void postBlockTransactionApplication(
         final CommandPhaseContext context, final BlockChange blockChange,
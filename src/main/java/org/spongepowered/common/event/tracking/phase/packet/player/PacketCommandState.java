@@ -67,6 +67,12 @@ public BiConsumer<CauseStackManager.StackFrame, PlayerCommandPhaseContext> getFr
         return this.COMMAND_MODIFIER;
     }
 
+    @Override
+    public boolean requiresBlockCapturing(final PlayerCommandPhaseContext context) {
+        // Changed blocks are tracked to the player running the command, if any
+        return PhaseTracker.getCauseStackManager().currentCause().first(Player.class).isPresent();
+    }
+
     @Override
     public void postBlockTransactionApplication(
         final PlayerCommandPhaseContext context, final BlockChange blockChange,
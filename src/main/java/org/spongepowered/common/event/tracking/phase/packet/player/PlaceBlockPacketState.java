@@ -85,6 +85,12 @@ public void populateContext(final net.minecraft.server.level.ServerPlayer player
         context.handUsed(handType);
     }
 
+    @Override
+    public boolean requiresBlockCapturing(final BasicPacketContext context) {
+        // Placed blocks are tracked to the player placing them
+        return true;
+    }
+
     @Override
     public void postBlockTransactionApplication(
         final BasicPacketContext context, final BlockChange blockChange,
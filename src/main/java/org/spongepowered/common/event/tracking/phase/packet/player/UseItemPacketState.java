@@ -89,6 +89,12 @@ public void populateContext(
         context.handUsed(handType);
     }
 
+    @Override
+    public boolean requiresBlockCapturing(final BasicPacketContext context) {
+        // Changed blocks are tracked to the player using the item
+        return true;
+    }
+
     @Override
     public void postBlockTransactionApplication(
         final BasicPacketContext context, final BlockChange blockChange,
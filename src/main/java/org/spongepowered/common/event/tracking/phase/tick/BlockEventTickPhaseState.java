@@ -82,6 +82,12 @@ public void associateNeighborStateNotifier(
         });
     }
 
+    @Override
+    public boolean requiresBlockCapturing(final BlockEventTickContext context) {
+        // Changed blocks keep the creator and notifier tracked at their position
+        return context.getCreator().isPresent() || context.getNotifier().isPresent();
+    }
+
     @Override
     public void postBlockTransactionApplication(
         final BlockEventTickContext context, final BlockChange blockChange,
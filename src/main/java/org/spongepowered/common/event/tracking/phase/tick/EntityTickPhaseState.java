@@ -122,6 +122,12 @@ protected EntityTickContext createNewContext(final PhaseTracker tracker) {
         return new EntityTickContext(this, tracker);
     }
 
+    @Override
+    public boolean requiresBlockCapturing(final EntityTickContext context) {
+        // Broken blocks may detach hanging entities from the ticking entity
+        return true;
+    }
+
     @Override
     public void postBlockTransactionApplication(
         final EntityTickContext context, final BlockChange blockChange,
@@ -93,6 +93,12 @@ public boolean doesBlockEventTracking(final T context) {
         return context.allowsBlockEvents();
     }
 
+    @Override
+    public boolean requiresBlockCapturing(final T context) {
+        // Changed blocks inherit the notifier of the ticking block
+        return context.getNotifier().isPresent();
+    }
+
 
     @Override
     public void appendNotifierToBlockEvent(
@@ -30,6 +30,7 @@
 import org.spongepowered.api.map.MapCanvas;
 import org.spongepowered.api.map.color.MapColor;
 import org.spongepowered.api.map.color.MapColorTypes;
+import org.spongepowered.common.bridge.world.storage.MapItemSavedDataBridge;
 import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.util.MapUtil;
 
@@ -47,8 +48,44 @@ public SpongeMapByteCanvas(final byte[] canvas) {
     }
 
     public void applyToMapData(final MapItemSavedData mapData) {
-        mapData.colors = this.canvas.clone();
-        mapData.setDirty();
+        SpongeMapByteCanvas.applyDelta(mapData, this.canvas);
+    }
+
+    /**
+     * Copies the given pixels onto the map, marking only the rectangle
+     * bounding the changed pixels as dirty, so that holders of the map are
+     * sent that region instead of the whole canvas.
+     *
+     * @param mapData The map data to update
+     * @param canvas The new pixels
+     */
+    static void applyDelta(final MapItemSavedData mapData, final byte[] canvas) {
+        final byte[] colors = mapData.colors;
+        int minX = Constants.Map.MAP_PIXELS;
+        int minY = Constants.Map.MAP_PIXELS;
+        int maxX = -1;
+        int maxY = -1;
+        for (int y = 0, pos = 0; y < Constants.Map.MAP_PIXELS; y++) {
+            for (int x = 0; x < Constants.Map.MAP_PIXELS; x++, pos++) {
+                if (colors[pos] != canvas[pos]) {
+                    minX = Math.min(minX, x);
+                    maxX = Math.max(maxX, x);
+                    minY = Math.min(minY, y);
+                    maxY = y;
+                }
+            }
+        }
+        if (maxY < 0) {
+            return;
+        }
+        final int width = maxX - minX + 1;
+        for (int y = minY; y <= maxY; y++) {
+            final int pos = y * Constants.Map.MAP_PIXELS + minX;
+            System.arraycopy(canvas, pos, colors, pos, width);
+        }
+        // Marking the corners grows each holder's dirty region to the whole rectangle
+        ((MapItemSavedDataBridge) mapData).bridge$setColorsDirty(minX, minY);
+        ((MapItemSavedDataBridge) mapData).bridge$setColorsDirty(maxX, maxY);
     }
 
     @Override
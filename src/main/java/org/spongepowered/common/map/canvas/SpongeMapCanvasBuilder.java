@@ -25,12 +25,11 @@
 package org.spongepowered.common.map.canvas;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
-import org.spongepowered.api.Sponge;
 import org.spongepowered.api.data.persistence.DataView;
 import org.spongepowered.api.map.MapCanvas;
 import org.spongepowered.api.map.color.MapColor;
-import org.spongepowered.api.registry.RegistryTypes;
 import org.spongepowered.common.map.color.SpongeMapColor;
+import org.spongepowered.common.map.color.SpongeMapColorPalette;
 import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.util.MapUtil;
 
@@ -39,8 +38,6 @@
 import java.awt.image.BufferedImage;
 import java.awt.image.DataBufferInt;
 import java.util.Arrays;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Objects;
 
 public final class SpongeMapCanvasBuilder implements MapCanvas.Builder {
@@ -103,31 +100,67 @@ public MapCanvas.Builder reset() {
 
     @Override
     public MapCanvas.Builder fromImage(final Image image) {
-        Objects.requireNonNull(image, "image cannot be null");
-        if (image.getWidth(null) != Constants.Map.MAP_PIXELS || image.getHeight(null) != Constants.Map.MAP_PIXELS) {
-            throw new IllegalArgumentException("image size was invalid!");
-        }
-        final BufferedImage bufferedImage = this.createBufferedImage(image);
-        final int[] pixels = ((DataBufferInt) bufferedImage.getRaster().getDataBuffer()).getData();
-        // Get the color palette we are working with
-        final Map<Integer, SpongeMapColor> palette = new HashMap<>();
-        Sponge.game().registry(RegistryTypes.MAP_COLOR_TYPE).stream().forEach(color -> {
-            Sponge.game().registry(RegistryTypes.MAP_SHADE).stream().forEach(shade -> {
-                final SpongeMapColor spongeMapColor = new SpongeMapColor(color, shade);
-                palette.put(spongeMapColor.color().rgb(), spongeMapColor);
-            });
-        });
+        final int[] pixels = this.mapSizedPixels(image);
+        final SpongeMapColorPalette palette = SpongeMapColorPalette.get();
         final byte[] canvas = this.getCanvas();
         for (int i = 0; i < pixels.length; i++) {
-            final SpongeMapColor color = palette.get(pixels[i]);
-            if (color == null) {
+            final int pixel = palette.exactPixel(pixels[i]);
+            if (pixel == SpongeMapColorPalette.NO_MATCH) {
                 throw new IllegalArgumentException("Can not find a matching color for rgb value: " + Integer.toHexString(pixels[i]) + ". The MapCanvas will have painted all pixels up to this point.");
             }
-            canvas[i] = color.getMCColor();
+            canvas[i] = (byte) pixel;
         }
         return this;
     }
 
+    /**
+     * Paints the given image using the closest map color for each pixel,
+     * instead of requiring every pixel to match a map color exactly.
+     *
+     * @param image The image, which must be the size of a map
+     * @param dither Whether to apply Floyd-Steinberg dithering
+     * @return This builder, for chaining
+     */
+    public MapCanvas.Builder fromImage(final Image image, final boolean dither) {
+        final int[] pixels = this.mapSizedPixels(image);
+        SpongeMapCanvasBuilder.quantize(pixels, Constants.Map.MAP_PIXELS, Constants.Map.MAP_PIXELS, dither, this.getCanvas());
+        return this;
+    }
+
+    /**
+     * Converts an image spanning a wall of maps in a single pass, using the
+     * closest map color for each pixel. Dithering error carries across the
+     * edges between maps, so seams don't show.
+     *
+     * @param image The image, whose sides must be multiples of the map size
+     * @param dither Whether to apply Floyd-Steinberg dithering
+     * @return The canvases, indexed by row and then column
+     */
+    public static MapCanvas[][] fromImageGrid(final Image image, final boolean dither) {
+        Objects.requireNonNull(image, "image cannot be null");
+        final int width = image.getWidth(null);
+        final int height = image.getHeight(null);
+        if (width <= 0 || height <= 0 || width % Constants.Map.MAP_PIXELS != 0 || height % Constants.Map.MAP_PIXELS != 0) {
+            throw new IllegalArgumentException("image size was invalid!");
+        }
+        final int[] pixels = ((DataBufferInt) SpongeMapCanvasBuilder.createBufferedImage(image).getRaster().getDataBuffer()).getData();
+        final byte[] converted = new byte[width * height];
+        SpongeMapCanvasBuilder.quantize(pixels, width, height, dither, converted);
+
+        final MapCanvas[][] canvases = new MapCanvas[height / Constants.Map.MAP_PIXELS][width / Constants.Map.MAP_PIXELS];
+        for (int row = 0; row < canvases.length; row++) {
+            for (int column = 0; column < canvases[row].length; column++) {
+                final byte[] canvas = new byte[Constants.Map.MAP_SIZE];
+                int from = row * Constants.Map.MAP_PIXELS * width + column * Constants.Map.MAP_PIXELS;
+                for (int y = 0; y < Constants.Map.MAP_PIXELS; y++, from += width) {
+                    System.arraycopy(converted, from, canvas, y * Constants.Map.MAP_PIXELS, Constants.Map.MAP_PIXELS);
+                }
+                canvases[row][column] = new SpongeMapByteCanvas(canvas);
+            }
+        }
+        return canvases;
+    }
+
     @Override
     public MapCanvas.Builder fromContainer(final DataView container) {
         Objects.requireNonNull(container, "container cannot be null");
@@ -147,7 +180,61 @@ public MapCanvas build() {
         return new SpongeMapByteCanvas(this.canvas.clone());
     }
 
-    private BufferedImage createBufferedImage(final Image image) {
+    private int[] mapSizedPixels(final Image image) {
+        Objects.requireNonNull(image, "image cannot be null");
+        if (image.getWidth(null) != Constants.Map.MAP_PIXELS || image.getHeight(null) != Constants.Map.MAP_PIXELS) {
+            throw new IllegalArgumentException("image size was invalid!");
+        }
+        return ((DataBufferInt) SpongeMapCanvasBuilder.createBufferedImage(image).getRaster().getDataBuffer()).getData();
+    }
+
+    private static void quantize(final int[] pixels, final int width, final int height, final boolean dither, final byte[] out) {
+        final SpongeMapColorPalette palette = SpongeMapColorPalette.get();
+        if (!dither) {
+            for (int i = 0; i < out.length; i++) {
+                final int rgb = pixels[i];
+                out[i] = palette.nearestPixel((rgb >> 16) & 0xFF, (rgb >> 8) & 0xFF, rgb & 0xFF);
+            }
+            return;
+        }
+        // Floyd-Steinberg error diffusion. Errors are kept in sixteenths, per channel,
+        // for the current and the next row, padded by a pixel on either side.
+        int[] current = new int[(width + 2) * 3];
+        int[] next = new int[(width + 2) * 3];
+        int i = 0;
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++, i++) {
+                final int rgb = pixels[i];
+                final int e = (x + 1) * 3;
+                final int r = SpongeMapCanvasBuilder.clampChannel(((rgb >> 16) & 0xFF) + current[e] / 16);
+                final int g = SpongeMapCanvasBuilder.clampChannel(((rgb >> 8) & 0xFF) + current[e + 1] / 16);
+                final int b = SpongeMapCanvasBuilder.clampChannel((rgb & 0xFF) + current[e + 2] / 16);
+                final byte pixel = palette.nearestPixel(r, g, b);
+                out[i] = pixel;
+                final int mapped = palette.rgb(pixel);
+                SpongeMapCanvasBuilder.diffuse(current, next, e, r - ((mapped >> 16) & 0xFF));
+                SpongeMapCanvasBuilder.diffuse(current, next, e + 1, g - ((mapped >> 8) & 0xFF));
+                SpongeMapCanvasBuilder.diffuse(current, next, e + 2, b - (mapped & 0xFF));
+            }
+            final int[] done = current;
+            current = next;
+            next = done;
+            Arrays.fill(next, 0);
+        }
+    }
+
+    private static void diffuse(final int[] current, final int[] next, final int index, final int error) {
+        current[index + 3] += error * 7;
+        next[index - 3] += error * 3;
+        next[index] += error * 5;
+        next[index + 3] += error;
+    }
+
+    private static int clampChannel(final int value) {
+        return Math.max(0, Math.min(255, value));
+    }
+
+    private static BufferedImage createBufferedImage(final Image image) {
         if (image instanceof BufferedImage) {
             final BufferedImage bufferedImage = (BufferedImage) image;
             // If its not TYPE_INT_RGB, we need to convert anyway.
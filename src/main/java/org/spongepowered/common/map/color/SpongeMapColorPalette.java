@@ -0,0 +1,141 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.map.color;
+
+import it.unimi.dsi.fastutil.ints.Int2IntMap;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.map.color.MapColorType;
+import org.spongepowered.api.map.color.MapColorTypes;
+import org.spongepowered.api.map.color.MapShade;
+import org.spongepowered.api.registry.RegistryTypes;
+
+/**
+ * Lookup tables between RGB values and map pixel values, built once from
+ * the map color and shade registries.
+ *
+ * <p>Nearest color lookups go through a table indexed by the top
+ * {@value #LUT_BITS} bits of each channel, so converting an image costs a
+ * single array read per pixel.</p>
+ */
+public final class SpongeMapColorPalette {
+
+    public static final int NO_MATCH = -1;
+
+    private static final int LUT_BITS = 5;
+    private static final int LUT_SHIFT = 8 - SpongeMapColorPalette.LUT_BITS;
+    private static final int LUT_MASK = (1 << SpongeMapColorPalette.LUT_BITS) - 1;
+
+    private static volatile @MonotonicNonNull SpongeMapColorPalette instance;
+
+    private final Int2IntMap exact;
+    private final int[] rgbByPixel;
+    private final byte[] nearest;
+
+    private SpongeMapColorPalette() {
+        this.exact = new Int2IntOpenHashMap();
+        this.exact.defaultReturnValue(SpongeMapColorPalette.NO_MATCH);
+        this.rgbByPixel = new int[256];
+        final MapColorType none = MapColorTypes.NONE.get();
+        final int[] candidates = new int[256];
+        int candidateCount = 0;
+        for (final MapColorType type : Sponge.game().registry(RegistryTypes.MAP_COLOR_TYPE).stream().toList()) {
+            for (final MapShade shade : Sponge.game().registry(RegistryTypes.MAP_SHADE).stream().toList()) {
+                final SpongeMapColor color = new SpongeMapColor(type, shade);
+                final int pixel = Byte.toUnsignedInt(color.getMCColor());
+                final int rgb = color.color().rgb();
+                this.exact.put(rgb, pixel);
+                this.rgbByPixel[pixel] = rgb;
+                // Transparent pixels are only ever picked by an exact match
+                if (type != none) {
+                    candidates[candidateCount++] = pixel;
+                }
+            }
+        }
+        this.nearest = new byte[1 << (SpongeMapColorPalette.LUT_BITS * 3)];
+        final int half = 1 << (SpongeMapColorPalette.LUT_SHIFT - 1);
+        for (int index = 0; index < this.nearest.length; index++) {
+            final int r = ((index >> (SpongeMapColorPalette.LUT_BITS * 2)) << SpongeMapColorPalette.LUT_SHIFT) | half;
+            final int g = (((index >> SpongeMapColorPalette.LUT_BITS) & SpongeMapColorPalette.LUT_MASK) << SpongeMapColorPalette.LUT_SHIFT) | half;
+            final int b = ((index & SpongeMapColorPalette.LUT_MASK) << SpongeMapColorPalette.LUT_SHIFT) | half;
+            int best = 0;
+            int bestDistance = Integer.MAX_VALUE;
+            for (int i = 0; i < candidateCount; i++) {
+                final int candidate = this.rgbByPixel[candidates[i]];
+                final int dr = ((candidate >> 16) & 0xFF) - r;
+                final int dg = ((candidate >> 8) & 0xFF) - g;
+                final int db = (candidate & 0xFF) - b;
+                final int distance = dr * dr + dg * dg + db * db;
+                if (distance < bestDistance) {
+                    bestDistance = distance;
+                    best = candidates[i];
+                }
+            }
+            this.nearest[index] = (byte) best;
+        }
+    }
+
+    public static SpongeMapColorPalette get() {
+        SpongeMapColorPalette palette = SpongeMapColorPalette.instance;
+        if (palette == null) {
+            synchronized (SpongeMapColorPalette.class) {
+                palette = SpongeMapColorPalette.instance;
+                if (palette == null) {
+                    palette = SpongeMapColorPalette.instance = new SpongeMapColorPalette();
+                }
+            }
+        }
+        return palette;
+    }
+
+    /**
+     * Gets the pixel value whose color is exactly the given RGB value.
+     *
+     * @param rgb The RGB value
+     * @return The unsigned pixel value, or {@link #NO_MATCH}
+     */
+    public int exactPixel(final int rgb) {
+        return this.exact.get(rgb & 0xFFFFFF);
+    }
+
+    /**
+     * Gets the opaque pixel value closest in color to the given RGB value.
+     *
+     * @param r The red component, 0-255
+     * @param g The green component, 0-255
+     * @param b The blue component, 0-255
+     * @return The pixel value
+     */
+    public byte nearestPixel(final int r, final int g, final int b) {
+        return this.nearest[((r >> SpongeMapColorPalette.LUT_SHIFT) << (SpongeMapColorPalette.LUT_BITS * 2))
+                | ((g >> SpongeMapColorPalette.LUT_SHIFT) << SpongeMapColorPalette.LUT_BITS)
+                | (b >> SpongeMapColorPalette.LUT_SHIFT)];
+    }
+
+    public int rgb(final byte pixel) {
+        return this.rgbByPixel[Byte.toUnsignedInt(pixel)];
+    }
+}
@@ -24,7 +24,6 @@
  */
 package org.spongepowered.common.network;
 
-import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.network.protocol.common.ClientboundCustomPayloadPacket;
 import net.minecraft.network.protocol.common.ServerboundCustomPayloadPacket;
 import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
@@ -35,8 +34,8 @@
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.network.EngineConnectionSide;
-import org.spongepowered.api.network.channel.ChannelBuf;
 import org.spongepowered.api.network.channel.packet.Packet;
+import org.spongepowered.common.network.channel.FramedPayload;
 import org.spongepowered.common.network.channel.SpongeChannelPayload;
 
 import java.lang.invoke.MethodHandle;
@@ -73,11 +72,11 @@ public static net.minecraft.network.protocol.Packet<?> createLoginPayloadRequest
         return new ClientboundCustomQueryPacket(transactionId, payload);
     }
 
-    public static net.minecraft.network.protocol.Packet<?> createPlayPayload(final CustomPacketPayload.Type<? extends CustomPacketPayload> channel, final ChannelBuf payload, final EngineConnectionSide<?> side) {
+    public static net.minecraft.network.protocol.Packet<?> createPlayPayload(final CustomPacketPayload.Type<? extends CustomPacketPayload> channel, final FramedPayload payload, final EngineConnectionSide<?> side) {
         if (side == EngineConnectionSide.CLIENT) {
-            return new ServerboundCustomPayloadPacket(SpongeChannelPayload.fromType(channel, (b) -> b.writeBytes((FriendlyByteBuf) payload).slice()));
+            return new ServerboundCustomPayloadPacket(SpongeChannelPayload.fromType(channel, payload));
         } else if (side == EngineConnectionSide.SERVER) {
-            return new ClientboundCustomPayloadPacket(SpongeChannelPayload.fromType(channel, (b) -> b.writeBytes((FriendlyByteBuf) payload).slice()));
+            return new ClientboundCustomPayloadPacket(SpongeChannelPayload.fromType(channel, payload));
         } else {
             throw new UnsupportedOperationException();
         }
@@ -24,6 +24,7 @@
  */
 package org.spongepowered.common.network.channel;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.buffer.UnpooledByteBufAllocator;
@@ -33,20 +34,38 @@ public final class ChannelBufferAllocator {
 
     public static final ChannelBufferAllocator UNPOOLED = new ChannelBufferAllocator(UnpooledByteBufAllocator.DEFAULT);
 
-    public static final ChannelBufferAllocator POOLED = new ChannelBufferAllocator(PooledByteBufAllocator.DEFAULT);
+    /**
+     * Payloads end up being copied into the outbound buffer of the
+     * connection, which is direct, so they are allocated direct as well.
+     */
+    public static final ChannelBufferAllocator POOLED = new ChannelBufferAllocator(PooledByteBufAllocator.DEFAULT, true);
 
     private final ByteBufAllocator allocator;
+    private final boolean directByDefault;
 
     public ChannelBufferAllocator(final ByteBufAllocator allocator) {
+        this(allocator, false);
+    }
+
+    public ChannelBufferAllocator(final ByteBufAllocator allocator, final boolean directByDefault) {
         this.allocator = allocator;
+        this.directByDefault = directByDefault;
+    }
+
+    ByteBuf allocate() {
+        return this.directByDefault ? this.allocator.directBuffer() : this.allocator.buffer();
+    }
+
+    ByteBuf allocate(final int initialCapacity) {
+        return this.directByDefault ? this.allocator.directBuffer(initialCapacity) : this.allocator.buffer(initialCapacity);
     }
 
     public ChannelBuf buffer() {
-        return ChannelBuffers.wrap(this.allocator.buffer());
+        return ChannelBuffers.wrap(this.allocate());
     }
 
     public ChannelBuf buffer(final int initialCapacity) {
-        return ChannelBuffers.wrap(this.allocator.buffer(initialCapacity));
+        return ChannelBuffers.wrap(this.allocate(initialCapacity));
     }
 
     public ChannelBuf heapBuffer() {
@@ -29,6 +29,8 @@
 import net.minecraft.network.FriendlyByteBuf;
 import org.spongepowered.api.network.channel.ChannelBuf;
 
+import java.util.function.Consumer;
+
 public final class ChannelBuffers {
 
     public static ChannelBuf wrap(final ByteBuf buf) {
@@ -43,10 +45,40 @@ public static boolean release(final ChannelBuf buf) {
         return ((ByteBuf) buf).release();
     }
 
+    /**
+     * Allocates a buffer and lets the encoder write into it. The buffer is
+     * released if the encoder fails, so only an encoded buffer is returned.
+     *
+     * @param allocator The allocator to allocate the buffer with
+     * @param encoder The encoder that writes the payload
+     * @return The encoded buffer
+     */
+    public static ChannelBuf encode(final ChannelBufferAllocator allocator, final Consumer<ChannelBuf> encoder) {
+        final ChannelBuf buf = allocator.buffer();
+        try {
+            encoder.accept(buf);
+        } catch (final Throwable ex) {
+            ChannelBuffers.release(buf);
+            throw ex;
+        }
+        return buf;
+    }
+
     public static void write(final ChannelBuf target, final ChannelBuf source) {
         ((FriendlyByteBuf) target).writeBytes((FriendlyByteBuf) source);
     }
 
+    /**
+     * Copies the readable bytes of the payload into the target buffer without
+     * consuming them, framing the same payload again yields the same bytes.
+     *
+     * @param target The buffer to write to
+     * @param payload The payload to write
+     */
+    public static void writeTo(final ByteBuf target, final ByteBuf payload) {
+        target.writeBytes(payload, payload.readerIndex(), payload.readableBytes());
+    }
+
     private ChannelBuffers() {
     }
 }
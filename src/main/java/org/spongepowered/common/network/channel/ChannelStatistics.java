@@ -0,0 +1,102 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.network.channel;
+
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tracks how much a {@link SpongeChannel} encodes and sends.
+ */
+public final class ChannelStatistics {
+
+    private final LongAdder encodes = new LongAdder();
+    private final LongAdder encodeNanos = new LongAdder();
+    private final LongAdder packets = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+
+    /**
+     * Records a payload that was encoded once and sent to the given
+     * number of connections.
+     *
+     * @param size The size of the encoded payload, in bytes
+     * @param encodeNanos The time spent encoding the payload
+     * @param targets The number of connections the payload was sent to
+     */
+    public void record(final int size, final long encodeNanos, final int targets) {
+        this.encodes.increment();
+        this.encodeNanos.add(encodeNanos);
+        this.packets.add(targets);
+        this.bytes.add((long) size * targets);
+    }
+
+    /**
+     * Gets the number of payloads that were encoded.
+     *
+     * @return The number of encoded payloads
+     */
+    public long encodes() {
+        return this.encodes.sum();
+    }
+
+    /**
+     * Gets the total time spent encoding payloads, in nanoseconds.
+     *
+     * @return The total encode time
+     */
+    public long encodeNanos() {
+        return this.encodeNanos.sum();
+    }
+
+    /**
+     * Gets the number of packets that were sent, a broadcast payload
+     * counts once for every connection it was sent to.
+     *
+     * @return The number of sent packets
+     */
+    public long packets() {
+        return this.packets.sum();
+    }
+
+    /**
+     * Gets the number of payload bytes that were sent.
+     *
+     * @return The number of sent bytes
+     */
+    public long bytes() {
+        return this.bytes.sum();
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", ChannelStatistics.class.getSimpleName() + "[", "]")
+                .add("encodes=" + this.encodes())
+                .add("encodeTime=" + TimeUnit.NANOSECONDS.toMillis(this.encodeNanos()) + "ms")
+                .add("packets=" + this.packets())
+                .add("bytes=" + this.bytes())
+                .toString();
+    }
+}
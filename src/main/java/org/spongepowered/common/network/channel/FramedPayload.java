@@ -0,0 +1,86 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.network.channel;
+
+import io.netty.buffer.ByteBuf;
+import net.minecraft.network.FriendlyByteBuf;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * A payload that is framed into a single packet and released as soon as
+ * it was framed. That is when the packet is encoded or, on in-memory
+ * connections that hand packets over as they are, when the handler on the
+ * other end reads it.
+ */
+public final class FramedPayload implements Consumer<FriendlyByteBuf> {
+
+    private final ByteBuf payload;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    public FramedPayload(final ByteBuf payload) {
+        this.payload = payload;
+    }
+
+    /**
+     * Copies the readable bytes of the payload into the target buffer and
+     * releases the payload. It can only be framed once.
+     *
+     * @param target The buffer to write to
+     */
+    @Override
+    public void accept(final FriendlyByteBuf target) {
+        try {
+            ChannelBuffers.writeTo(target, this.payload);
+        } finally {
+            this.release();
+        }
+    }
+
+    /**
+     * Called once the packet that frames this payload was sent or failed.
+     * A packet that was handed over to a handler as is leaves the release
+     * to that handler, unless it failed.
+     *
+     * @param failure The reason the packet failed, if it did
+     * @param handedOver Whether the packet is handed over without encoding
+     */
+    public void sent(final @Nullable Throwable failure, final boolean handedOver) {
+        if (failure != null || !handedOver) {
+            this.release();
+        }
+    }
+
+    /**
+     * Releases the payload, unless it was already released.
+     */
+    public void release() {
+        if (this.released.compareAndSet(false, true)) {
+            this.payload.release();
+        }
+    }
+}
@@ -24,16 +24,23 @@
  */
 package org.spongepowered.common.network.channel;
 
+import io.netty.buffer.ByteBuf;
 import net.minecraft.network.Connection;
 import net.minecraft.network.PacketSendListener;
 import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
 import net.minecraft.util.thread.BlockableEventLoop;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.network.EngineConnection;
 import org.spongepowered.api.network.EngineConnectionSide;
+import org.spongepowered.api.network.channel.ChannelBuf;
+import org.spongepowered.common.network.PacketUtil;
 import org.spongepowered.common.network.SpongeEngineConnection;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
@@ -49,6 +56,39 @@ public static void sendTo(final EngineConnection connection, final Packet<?> pac
         networkManager.send(packet, listener == null ? null : new SpongePacketSendListener(connection.side(), listener));
     }
 
+    /**
+     * Sends a packet that frames the given payload. The payload is released
+     * once it was framed or the packet failed. In-memory connections hand
+     * play packets over without encoding them, so there the payload is kept
+     * until the handler on the other end read it.
+     *
+     * @param connection The connection to send the packet to
+     * @param packet The packet to send
+     * @param payload The payload that is framed by the packet
+     * @param listener The listener to notify once the packet is sent or failed
+     */
+    public static void sendTo(final EngineConnection connection, final Packet<?> packet, final FramedPayload payload,
+            final @Nullable Consumer<@Nullable Throwable> listener) {
+        final boolean handedOver = ((SpongeEngineConnection) connection).connection().isMemoryConnection()
+                && !ConnectionUtil.isLoginPhase(connection);
+        PacketSender.sendTo(connection, packet, throwable -> {
+            payload.sent(throwable, handedOver);
+            if (listener != null) {
+                listener.accept(throwable);
+            }
+        });
+    }
+
+    public static void sendTo(final EngineConnection connection, final Packet<?> packet, final FramedPayload payload, final CompletableFuture<Void> future) {
+        PacketSender.sendTo(connection, packet, payload, throwable -> {
+            if (throwable == null) {
+                future.complete(null);
+            } else {
+                future.completeExceptionally(throwable);
+            }
+        });
+    }
+
     public static void sendTo(final EngineConnection connection, final Packet<?> packet, final CompletableFuture<Void> future) {
         PacketSender.sendTo(connection, packet, throwable -> {
             if (throwable == null) {
@@ -59,6 +99,40 @@ public static void sendTo(final EngineConnection connection, final Packet<?> pac
         });
     }
 
+    /**
+     * Sends an encoded play payload to all the given connections. Every
+     * connection frames its own retained duplicate of the payload, so it is
+     * only encoded once. The duplicates are released like any other framed
+     * payload, the payload itself is released before returning.
+     *
+     * @param connections The connections to send the payload to
+     * @param type The type of the payload
+     * @param payload The encoded payload
+     * @return The send futures, in the iteration order of the connections
+     */
+    public static List<CompletableFuture<Void>> sendPlayPayloadTo(final Collection<? extends EngineConnection> connections,
+            final CustomPacketPayload.Type<? extends CustomPacketPayload> type, final ChannelBuf payload) {
+        final List<CompletableFuture<Void>> futures = new ArrayList<>(connections.size());
+        try {
+            for (final EngineConnection connection : connections) {
+                final FramedPayload duplicate = new FramedPayload(((ByteBuf) payload).retainedDuplicate());
+                final CompletableFuture<Void> future = new CompletableFuture<>();
+                final Packet<?> mcPacket;
+                try {
+                    mcPacket = PacketUtil.createPlayPayload(type, duplicate, connection.side());
+                } catch (final Throwable ex) {
+                    duplicate.release();
+                    throw ex;
+                }
+                PacketSender.sendTo(connection, mcPacket, duplicate, future);
+                futures.add(future);
+            }
+        } finally {
+            ChannelBuffers.release(payload);
+        }
+        return futures;
+    }
+
     public static final class SpongePacketSendListener implements PacketSendListener {
         private final BlockableEventLoop<?> executor;
         private final Consumer<@Nullable  Throwable> listener;
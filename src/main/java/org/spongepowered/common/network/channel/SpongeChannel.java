@@ -60,6 +60,7 @@ public abstract class SpongeChannel implements Channel {
     private final Logger logger;
     private final int type;
     private final CustomPacketPayload.Type<SpongeChannelPayload> payloadType;
+    private final ChannelStatistics statistics = new ChannelStatistics();
 
     private volatile ChannelExceptionHandler<EngineConnectionState> exceptionHandler =
             ChannelExceptionHandler.logEverything().suppress(ChannelNotSupportedException.class);
@@ -84,6 +85,10 @@ public CustomPacketPayload.Type<SpongeChannelPayload> payloadType() {
         return this.payloadType;
     }
 
+    public ChannelStatistics statistics() {
+        return this.statistics;
+    }
+
     @Override
     public SpongeChannelManager manager() {
         return this.manager;
@@ -104,6 +109,7 @@ public void setExceptionHandler(final ChannelExceptionHandler<EngineConnectionSt
     public String toString() {
         return new StringJoiner(", ", SpongeChannel.class.getSimpleName() + "[", "]")
                 .add("key=" + this.key)
+                .add("statistics=" + this.statistics)
                 .toString();
     }
 
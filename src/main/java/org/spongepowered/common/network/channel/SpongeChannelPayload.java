@@ -24,7 +24,6 @@
  */
 package org.spongepowered.common.network.channel;
 
-import io.netty.buffer.ByteBuf;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
@@ -41,8 +40,8 @@ public static StreamCodec<FriendlyByteBuf, SpongeChannelPayload> streamCodec(fin
             SpongeChannelPayload::write, (buffer) -> {
                 final int readableBytes = buffer.readableBytes();
                 if (readableBytes >= 0 && readableBytes <= maxPayloadSize) {
-                    final ByteBuf payload = buffer.readBytes(readableBytes);
-                    return SpongeChannelPayload.fromType(type, (b) -> b.writeBytes(payload.slice()));
+                    // Released once the handler read it
+                    return SpongeChannelPayload.fromType(type, new FramedPayload(buffer.readBytes(readableBytes)));
                 }
                 throw new IllegalArgumentException("Payload may not be larger than " + maxPayloadSize + " bytes");
             });
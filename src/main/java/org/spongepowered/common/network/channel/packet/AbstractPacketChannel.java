@@ -86,15 +86,12 @@ public Collection<PacketBinding<?>> bindings() {
     }
 
     protected void encodePayload(final ChannelBuf payload, final Packet packet) {
-        final ChannelBuf packetContent = this.manager().getBufferAllocator().buffer();
+        // The payload is discarded on failure, so the packet can be written into it directly
         try {
-            this.encodePayloadUnsafe(packetContent, packet);
-            ChannelBuffers.write(payload, packetContent);
+            this.encodePayloadUnsafe(payload, packet);
         } catch (final Throwable ex) {
             ChannelBuffers.release(payload);
             throw ex;
-        } finally {
-            ChannelBuffers.release(packetContent);
         }
     }
 
@@ -24,6 +24,7 @@
  */
 package org.spongepowered.common.network.channel.packet;
 
+import io.netty.buffer.ByteBuf;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.network.protocol.login.custom.CustomQueryPayload;
 import net.minecraft.resources.ResourceLocation;
@@ -47,6 +48,7 @@
 import org.spongepowered.common.network.channel.ChannelBuffers;
 import org.spongepowered.common.network.channel.ChannelExceptionUtil;
 import org.spongepowered.common.network.channel.ConnectionUtil;
+import org.spongepowered.common.network.channel.FramedPayload;
 import org.spongepowered.common.network.channel.PacketSender;
 import org.spongepowered.common.network.channel.SpongeChannelManager;
 import org.spongepowered.common.network.channel.TransactionResult;
@@ -220,8 +222,9 @@ public CompletableFuture<Void> sendTo(final EngineConnection connection, final P
                 return future;
             }
 
-            final net.minecraft.network.protocol.Packet<?> mcPacket = PacketUtil.createPlayPayload(SpongeBasicPacketChannel.this.payloadType(), payload, connection.side());
-            PacketSender.sendTo(connection, mcPacket, future);
+            final FramedPayload framed = new FramedPayload((ByteBuf) payload);
+            final net.minecraft.network.protocol.Packet<?> mcPacket = PacketUtil.createPlayPayload(SpongeBasicPacketChannel.this.payloadType(), framed, connection.side());
+            PacketSender.sendTo(connection, mcPacket, framed, future);
             return future;
         }
     };
@@ -257,6 +260,9 @@ private ChannelBuf encodeLoginPayload(final int opcode, final Packet packet) {
             loginPayload.writeVarInt(payload.available() + 1);
             loginPayload.writeByte((byte) opcode);
             ChannelBuffers.write(loginPayload, payload);
+        } catch (final Throwable ex) {
+            ChannelBuffers.release(loginPayload);
+            throw ex;
         } finally {
             ChannelBuffers.release(payload);
         }
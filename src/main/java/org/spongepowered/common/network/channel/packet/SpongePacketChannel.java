@@ -24,6 +24,7 @@
  */
 package org.spongepowered.common.network.channel.packet;
 
+import io.netty.buffer.ByteBuf;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.network.protocol.login.custom.CustomQueryPayload;
 import net.minecraft.resources.ResourceLocation;
@@ -42,13 +43,18 @@
 import org.spongepowered.api.network.channel.packet.RequestPacketHandler;
 import org.spongepowered.common.network.PacketUtil;
 import org.spongepowered.common.network.SpongeEngineConnection;
+import org.spongepowered.common.network.channel.ChannelBuffers;
 import org.spongepowered.common.network.channel.ConnectionUtil;
+import org.spongepowered.common.network.channel.FramedPayload;
 import org.spongepowered.common.network.channel.PacketSender;
 import org.spongepowered.common.network.channel.SpongeChannelManager;
 import org.spongepowered.common.network.channel.TransactionResult;
 import org.spongepowered.common.network.channel.TransactionStore;
 import org.spongepowered.common.util.Constants;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
@@ -107,6 +113,7 @@ private <P extends RequestPacket<R>, R extends Packet> void sendRequestPacketTo(
         final EngineConnectionSide<?> side = connection.side();
 
         final ChannelBuf payload = this.manager().getBufferAllocator().buffer();
+        final FramedPayload framed = new FramedPayload((ByteBuf) payload);
         final Supplier<net.minecraft.network.protocol.Packet<?>> mcPacketSupplier;
 
         if (isLoginPhase) {
@@ -114,9 +121,7 @@ private <P extends RequestPacket<R>, R extends Packet> void sendRequestPacketTo(
                 payload.writeString(this.key().formatted());
                 payload.writeVarLong(SpongePacketChannel.packTypeAndValue(SpongePacketChannel.TYPE_REQUEST, transactionId));
                 payload.writeVarInt(binding.opcode());
-                mcPacketSupplier = () -> PacketUtil.createLoginPayloadResponse(var1 -> {
-                    var1.writeBytes((FriendlyByteBuf) payload);
-                }, Constants.Channels.LOGIN_PAYLOAD_TRANSACTION_ID);
+                mcPacketSupplier = () -> PacketUtil.createLoginPayloadResponse(framed::accept, Constants.Channels.LOGIN_PAYLOAD_TRANSACTION_ID);
             } else {
                 payload.writeVarLong(SpongePacketChannel.packTypeAndValue(SpongePacketChannel.TYPE_REQUEST, binding.opcode()));
                 final ResourceKey key = this.key();
@@ -128,19 +133,20 @@ public ResourceLocation id() {
 
                     @Override
                     public void write(FriendlyByteBuf var1) {
-                        var1.writeBytes((FriendlyByteBuf) payload);
+                        framed.accept(var1);
                     }
                 }, transactionId);
             }
         } else {
             payload.writeVarLong(SpongePacketChannel.packTypeAndValue(SpongePacketChannel.TYPE_REQUEST, transactionId));
             payload.writeVarInt(binding.opcode());
-            mcPacketSupplier = () -> PacketUtil.createPlayPayload(this.payloadType(), payload, side);
+            mcPacketSupplier = () -> PacketUtil.createPlayPayload(this.payloadType(), framed, side);
         }
 
         try {
-            this.encodePayload(payload, packet);
+            this.encodePayloadUnsafe(payload, packet);
         } catch (final Throwable ex) {
+            framed.release();
             this.handleException(connection, state, ex, future);
             return;
         }
@@ -151,7 +157,7 @@ public void write(FriendlyByteBuf var1) {
         }
 
         final net.minecraft.network.protocol.Packet<?> mcPacket = mcPacketSupplier.get();
-        PacketSender.sendTo(connection, mcPacket, throwable -> {
+        PacketSender.sendTo(connection, mcPacket, framed, throwable -> {
             if (throwable != null) {
                 this.handleException(connection, state, throwable, future);
                 // Failed before it could reach the client, so complete it
@@ -172,6 +178,7 @@ private <P extends RequestPacket<R>, R extends Packet> void sendResponsePacketTo
         final EngineConnectionSide<?> side = connection.side();
 
         final ChannelBuf payload = this.manager().getBufferAllocator().buffer();
+        final FramedPayload framed = new FramedPayload((ByteBuf) payload);
         final Supplier<net.minecraft.network.protocol.Packet<?>> mcPacketSupplier;
 
         if (packet == null || requestBinding instanceof SpongeFixedTransactionalPacketBinding) {
@@ -179,9 +186,7 @@ private <P extends RequestPacket<R>, R extends Packet> void sendResponsePacketTo
             if (isLoginPhase) {
                 if (side == EngineConnectionSide.CLIENT) {
                     payload.writeVarLong(SpongePacketChannel.packTypeAndValue(type, 0));
-                    mcPacketSupplier = () -> PacketUtil.createLoginPayloadResponse(var1 -> {
-                        var1.writeBytes((FriendlyByteBuf) payload);
-                    }, transactionId);
+                    mcPacketSupplier = () -> PacketUtil.createLoginPayloadResponse(framed::accept, transactionId);
                 } else {
                     payload.writeVarLong(SpongePacketChannel.packTypeAndValue(type, transactionId));
                     final ResourceKey key = this.key();
@@ -193,13 +198,13 @@ public ResourceLocation id() {
 
                         @Override
                         public void write(FriendlyByteBuf var1) {
-                            var1.writeBytes((FriendlyByteBuf) payload);
+                            framed.accept(var1);
                         }
                     }, Constants.Channels.LOGIN_PAYLOAD_TRANSACTION_ID);
                 }
             } else {
                 payload.writeVarLong(SpongePacketChannel.packTypeAndValue(type, transactionId));
-                mcPacketSupplier = () -> PacketUtil.createPlayPayload(this.payloadType(), payload, side);
+                mcPacketSupplier = () -> PacketUtil.createPlayPayload(this.payloadType(), framed, side);
             }
         } else {
             // Dynamic opcode
@@ -207,9 +212,7 @@ public void write(FriendlyByteBuf var1) {
             if (isLoginPhase) {
                 if (side == EngineConnectionSide.CLIENT) {
                     payload.writeVarLong(SpongePacketChannel.packTypeAndValue(SpongePacketChannel.TYPE_DYNAMIC_RESPONSE, opcode));
-                    mcPacketSupplier = () -> PacketUtil.createLoginPayloadResponse(var1 -> {
-                        var1.writeBytes((FriendlyByteBuf) payload);
-                    }, transactionId);
+                    mcPacketSupplier = () -> PacketUtil.createLoginPayloadResponse(framed::accept, transactionId);
                 } else {
                     payload.writeVarLong(SpongePacketChannel.packTypeAndValue(SpongePacketChannel.TYPE_DYNAMIC_RESPONSE, transactionId));
                     payload.writeVarInt(opcode);
@@ -222,28 +225,29 @@ public ResourceLocation id() {
 
                         @Override
                         public void write(FriendlyByteBuf var1) {
-                            var1.writeBytes((FriendlyByteBuf) payload);
+                            framed.accept(var1);
                         }
                     }, Constants.Channels.LOGIN_PAYLOAD_TRANSACTION_ID);
                 }
             } else {
                 payload.writeVarLong(SpongePacketChannel.packTypeAndValue(SpongePacketChannel.TYPE_DYNAMIC_RESPONSE, transactionId));
                 payload.writeVarInt(opcode);
-                mcPacketSupplier = () -> PacketUtil.createPlayPayload(this.payloadType(), payload, side);
+                mcPacketSupplier = () -> PacketUtil.createPlayPayload(this.payloadType(), framed, side);
             }
         }
 
         if (packet != null) {
             try {
-                this.encodePayload(payload, packet);
+                this.encodePayloadUnsafe(payload, packet);
             } catch (final Throwable ex) {
+                framed.release();
                 this.handleException(connection, state, new ChannelIOException("Failed to encode request response", ex), null);
                 return;
             }
         }
 
         final net.minecraft.network.protocol.Packet<?> mcPacket = mcPacketSupplier.get();
-        PacketSender.sendTo(connection, mcPacket);
+        PacketSender.sendTo(connection, mcPacket, framed, (Consumer) null);
     }
 
     private <P extends Packet> void sendNormalPacketTo(final EngineConnection connection, final P packet, final CompletableFuture<Void> future) {
@@ -254,15 +258,14 @@ private <P extends Packet> void sendNormalPacketTo(final EngineConnection connec
         final EngineConnectionSide<?> side = connection.side();
 
         final ChannelBuf payload = this.manager().getBufferAllocator().buffer();
+        final FramedPayload framed = new FramedPayload((ByteBuf) payload);
         final Supplier<net.minecraft.network.protocol.Packet<?>> mcPacketSupplier;
 
         if (isLoginPhase) {
             if (side == EngineConnectionSide.CLIENT) {
                 payload.writeString(this.key().formatted());
                 payload.writeVarLong(SpongePacketChannel.packTypeAndValue(SpongePacketChannel.TYPE_NORMAL, binding.opcode()));
-                mcPacketSupplier = () -> PacketUtil.createLoginPayloadResponse(var1 -> {
-                    var1.writeBytes((FriendlyByteBuf) payload);
-                }, Constants.Channels.LOGIN_PAYLOAD_TRANSACTION_ID);
+                mcPacketSupplier = () -> PacketUtil.createLoginPayloadResponse(framed::accept, Constants.Channels.LOGIN_PAYLOAD_TRANSACTION_ID);
             } else {
                 payload.writeVarLong(SpongePacketChannel.packTypeAndValue(SpongePacketChannel.TYPE_NORMAL, binding.opcode()));
                 final int transactionId = ConnectionUtil.getTransactionStore(connection).nextId();
@@ -275,24 +278,27 @@ public ResourceLocation id() {
 
                     @Override
                     public void write(FriendlyByteBuf var1) {
-                        var1.writeBytes((FriendlyByteBuf) payload);
+                        framed.accept(var1);
                     }
                 }, transactionId);
             }
         } else {
             payload.writeVarLong(SpongePacketChannel.packTypeAndValue(SpongePacketChannel.TYPE_NORMAL, binding.opcode()));
-            mcPacketSupplier = () -> PacketUtil.createPlayPayload(this.payloadType(), payload, side);
+            mcPacketSupplier = () -> PacketUtil.createPlayPayload(this.payloadType(), framed, side);
         }
 
+        final long start = System.nanoTime();
         try {
-            this.encodePayload(payload, packet);
+            this.encodePayloadUnsafe(payload, packet);
         } catch (final Throwable ex) {
+            framed.release();
             future.completeExceptionally(ex);
             return;
         }
+        this.statistics().record(((ByteBuf) payload).readableBytes(), System.nanoTime() - start, 1);
 
         final net.minecraft.network.protocol.Packet<?> mcPacket = mcPacketSupplier.get();
-        PacketSender.sendTo(connection, mcPacket, future);
+        PacketSender.sendTo(connection, mcPacket, framed, future);
     }
 
     @Override
@@ -328,6 +334,59 @@ public CompletableFuture<Void> sendTo(final EngineConnection connection, final P
         return future;
     }
 
+    /**
+     * Sends the packet to all the given connections. The packet is encoded
+     * once and shared by every connection in the play phase, request packets
+     * and connections in the login phase are sent one by one.
+     *
+     * @param connections The connections to send the packet to
+     * @param packet The packet to send
+     * @return A future that completes once the packet was sent to every connection
+     */
+    public CompletableFuture<Void> sendToAll(final Collection<? extends EngineConnection> connections, final Packet packet) {
+        Objects.requireNonNull(connections, "connections");
+        Objects.requireNonNull(packet, "packet");
+
+        final List<CompletableFuture<?>> futures = new ArrayList<>(connections.size());
+        final List<EngineConnection> targets = new ArrayList<>(connections.size());
+        for (final EngineConnection connection : connections) {
+            if (packet instanceof RequestPacket || ConnectionUtil.isLoginPhase(connection)) {
+                // Transaction ids and login payloads differ for every connection
+                futures.add(this.sendTo(connection, packet));
+                continue;
+            }
+            final EngineConnectionState state = (EngineConnectionState) ((SpongeEngineConnection) connection).connection().getPacketListener();
+            final CompletableFuture<Void> future = new CompletableFuture<>();
+            if (this.checkSupported(connection, state, future)) {
+                targets.add(connection);
+            } else {
+                futures.add(future);
+            }
+        }
+
+        if (!targets.isEmpty()) {
+            final SpongePacketBinding<Packet> binding = (SpongePacketBinding) this.requireBinding(packet.getClass());
+            final ChannelBuf payload = this.manager().getBufferAllocator().buffer();
+            payload.writeVarLong(SpongePacketChannel.packTypeAndValue(SpongePacketChannel.TYPE_NORMAL, binding.opcode()));
+
+            final long start = System.nanoTime();
+            try {
+                this.encodePayloadUnsafe(payload, packet);
+            } catch (final Throwable ex) {
+                ChannelBuffers.release(payload);
+                futures.add(CompletableFuture.failedFuture(ex));
+                return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+            }
+            this.statistics().record(((ByteBuf) payload).readableBytes(), System.nanoTime() - start, targets.size());
+            try {
+                futures.addAll(PacketSender.sendPlayPayloadTo(targets, this.payloadType(), payload));
+            } catch (final Throwable ex) {
+                futures.add(CompletableFuture.failedFuture(ex));
+            }
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+    }
+
     private void handleResponsePacket(final EngineConnection connection, final EngineConnectionState state, final int transactionId, final @Nullable ChannelBuf payload,
             final int dynamicOpcode) {
         final TransactionStore store = ConnectionUtil.getTransactionStore(connection);
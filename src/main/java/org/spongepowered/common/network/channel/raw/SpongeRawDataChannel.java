@@ -31,6 +31,7 @@
 import org.spongepowered.api.network.channel.raw.RawDataChannel;
 import org.spongepowered.api.network.channel.raw.handshake.RawHandshakeDataChannel;
 import org.spongepowered.api.network.channel.raw.play.RawPlayDataChannel;
+import org.spongepowered.common.network.channel.ChannelBuffers;
 import org.spongepowered.common.network.channel.SpongeChannel;
 import org.spongepowered.common.network.channel.SpongeChannelManager;
 import org.spongepowered.common.network.channel.TransactionResult;
@@ -72,8 +73,6 @@ protected void handleTransactionResponse(final EngineConnection connection, fina
     }
 
     ChannelBuf encodePayload(final Consumer<ChannelBuf> payload) {
-        final ChannelBuf buf = this.manager().getBufferAllocator().buffer();
-        payload.accept(buf);
-        return buf;
+        return ChannelBuffers.encode(this.manager().getBufferAllocator(), payload);
     }
 }
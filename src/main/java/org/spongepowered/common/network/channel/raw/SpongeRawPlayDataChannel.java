@@ -24,6 +24,7 @@
  */
 package org.spongepowered.common.network.channel.raw;
 
+import io.netty.buffer.ByteBuf;
 import net.minecraft.network.protocol.Packet;
 import org.spongepowered.api.network.EngineConnection;
 import org.spongepowered.api.network.EngineConnectionState;
@@ -34,10 +35,13 @@
 import org.spongepowered.common.network.SpongeEngineConnection;
 import org.spongepowered.common.network.channel.ConcurrentMultimap;
 import org.spongepowered.common.network.channel.ConnectionUtil;
+import org.spongepowered.common.network.channel.FramedPayload;
 import org.spongepowered.common.network.channel.PacketSender;
 import org.spongepowered.common.network.channel.SpongeChannel;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
@@ -98,6 +102,7 @@ public CompletableFuture<Void> sendTo(final EngineConnection connection, final C
         final EngineConnectionState state = (EngineConnectionState) ((SpongeEngineConnection) connection).connection().getPacketListener();
 
         final CompletableFuture<Void> future = new CompletableFuture<>();
+        final long start = System.nanoTime();
         final ChannelBuf payload;
         try {
             payload = this.parent.encodePayload(consumer);
@@ -105,12 +110,53 @@ public CompletableFuture<Void> sendTo(final EngineConnection connection, final C
             this.parent.handleException(connection, state, ex, future);
             return future;
         }
+        this.parent.statistics().record(((ByteBuf) payload).readableBytes(), System.nanoTime() - start, 1);
 
-        final Packet<?> mcPacket = PacketUtil.createPlayPayload(this.parent.payloadType(), payload, connection.side());
-        PacketSender.sendTo(connection, mcPacket, future);
+        final FramedPayload framed = new FramedPayload((ByteBuf) payload);
+        final Packet<?> mcPacket = PacketUtil.createPlayPayload(this.parent.payloadType(), framed, connection.side());
+        PacketSender.sendTo(connection, mcPacket, framed, future);
         return future;
     }
 
+    /**
+     * Sends the payload to all the given connections. The payload is only
+     * encoded once and shared by every connection.
+     *
+     * @param connections The connections to send the payload to
+     * @param consumer The consumer that writes the payload
+     * @return A future that completes once the payload was sent to every connection
+     */
+    public CompletableFuture<Void> sendToAll(final Collection<? extends EngineConnection> connections, final Consumer<ChannelBuf> consumer) {
+        Objects.requireNonNull(connections, "connections");
+        Objects.requireNonNull(consumer, "payload");
+
+        for (final EngineConnection connection : connections) {
+            ConnectionUtil.checkPlayPhase(connection);
+        }
+        if (connections.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        final long start = System.nanoTime();
+        final ChannelBuf payload;
+        try {
+            payload = this.parent.encodePayload(consumer);
+        } catch (final Throwable ex) {
+            final List<CompletableFuture<Void>> futures = new ArrayList<>(connections.size());
+            for (final EngineConnection connection : connections) {
+                final EngineConnectionState state = (EngineConnectionState) ((SpongeEngineConnection) connection).connection().getPacketListener();
+                final CompletableFuture<Void> future = new CompletableFuture<>();
+                this.parent.handleException(connection, state, ex, future);
+                futures.add(future);
+            }
+            return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+        }
+        this.parent.statistics().record(((ByteBuf) payload).readableBytes(), System.nanoTime() - start, connections.size());
+
+        final List<CompletableFuture<Void>> futures = PacketSender.sendPlayPayloadTo(connections, this.parent.payloadType(), payload);
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+    }
+
     private <S extends EngineConnectionState> Collection<RawPlayDataHandler<? super S>> getHandlers(final S state) {
         return (Collection) SpongeChannel.getResponseHandlers(state, this.handlers.get());
     }
@@ -0,0 +1,143 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.common.SpongeCommon;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs the asynchronous tasks of a single plugin on a shared executor while
+ * limiting how many of them may execute at once. Tasks over the limit are
+ * queued, the scheduler thread never blocks on a plugin.
+ */
+public final class PluginTaskExecutor {
+
+    private final String pluginId;
+    private final Executor executor;
+    private final int concurrencyLimit;
+
+    private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicLong completed = new AtomicLong();
+
+    PluginTaskExecutor(final String pluginId, final Executor executor, final int concurrencyLimit) {
+        this.pluginId = pluginId;
+        this.executor = executor;
+        this.concurrencyLimit = concurrencyLimit;
+    }
+
+    void execute(final Runnable runnable) {
+        this.queued.incrementAndGet();
+        this.queue.add(runnable);
+        this.drain();
+    }
+
+    private void drain() {
+        while (true) {
+            final int current = this.running.get();
+            if (this.concurrencyLimit > 0 && current >= this.concurrencyLimit) {
+                // A running task will drain the queue once it completes
+                return;
+            }
+            if (this.queue.isEmpty()) {
+                return;
+            }
+            if (!this.running.compareAndSet(current, current + 1)) {
+                continue;
+            }
+            final @Nullable Runnable next = this.queue.poll();
+            if (next == null) {
+                // Another thread took the task, give back the slot and check
+                // again in case a task was added in the meantime.
+                this.running.decrementAndGet();
+                continue;
+            }
+            this.queued.decrementAndGet();
+            try {
+                this.executor.execute(() -> this.run(next));
+            } catch (final RejectedExecutionException e) {
+                this.running.decrementAndGet();
+                this.discardQueued(e);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Discards every task that is still queued along with the rejected one.
+     * The executor only rejects tasks once the scheduler is shut down, so
+     * none of them would ever run.
+     *
+     * @param cause The rejection of the last task
+     */
+    private void discardQueued(final RejectedExecutionException cause) {
+        int discarded = 1;
+        while (this.queue.poll() != null) {
+            this.queued.decrementAndGet();
+            discarded++;
+        }
+        SpongeCommon.logger().warn("Discarded {} asynchronous task(s) of plugin '{}' as the scheduler no longer accepts tasks",
+            discarded, this.pluginId, cause);
+    }
+
+    private void run(final Runnable runnable) {
+        try {
+            runnable.run();
+        } finally {
+            this.running.decrementAndGet();
+            this.completed.incrementAndGet();
+            this.drain();
+        }
+    }
+
+    public String pluginId() {
+        return this.pluginId;
+    }
+
+    public int concurrencyLimit() {
+        return this.concurrencyLimit;
+    }
+
+    public int queued() {
+        return this.queued.get();
+    }
+
+    public int running() {
+        return this.running.get();
+    }
+
+    public long completed() {
+        return this.completed.get();
+    }
+
+}
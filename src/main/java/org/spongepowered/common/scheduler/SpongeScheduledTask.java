@@ -42,6 +42,8 @@ public final class SpongeScheduledTask implements ScheduledTask {
     private final String name;
 
     private long timestamp;
+    // The timestamp at which the task is due in its execution queue
+    private long queuedTimestamp;
     private ScheduledTaskState state;
     private boolean isCancelled = false;
 
@@ -78,6 +80,9 @@ public String name() {
     public boolean cancel() {
         final boolean success = this.state() == ScheduledTaskState.RUNNING
                 || this.state() == ScheduledTaskState.EXECUTING;
+        // Register the cancellation before the state flips, so the ticking
+        // thread can never discard the task before it is counted
+        this.scheduler.onTaskCancelled(this);
         this.state = ScheduledTaskState.CANCELED;
         this.isCancelled = true;
         return success;
@@ -110,6 +115,14 @@ long nextExecutionTimestamp() {
         return this.timestamp + this.task.delay;
     }
 
+    long queuedTimestamp() {
+        return this.queuedTimestamp;
+    }
+
+    void setQueuedTimestamp(final long queuedTimestamp) {
+        this.queuedTimestamp = queuedTimestamp;
+    }
+
     ScheduledTaskState state() {
         return this.state;
     }
@@ -37,14 +37,19 @@
 import org.spongepowered.common.launch.Launch;
 import org.spongepowered.plugin.PluginContainer;
 
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Future;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.TimeUnit;
@@ -61,8 +66,21 @@ public abstract class SpongeScheduler implements Scheduler {
 
     private final String tag;
 
-    // The simple queue of all pending (and running) ScheduledTasks
+    private static final Comparator<SpongeScheduledTask> EXECUTION_ORDER = Comparator.comparingLong(SpongeScheduledTask::queuedTimestamp);
+    private static final int MIN_PURGE_THRESHOLD = 64;
+
+    // All pending (and running) ScheduledTasks, indexed for lookups
     private final Map<UUID, SpongeScheduledTask> tasks = new ConcurrentHashMap<>();
+    private final Map<String, Set<SpongeScheduledTask>> tasksByPlugin = new ConcurrentHashMap<>();
+    // Tasks waiting to be (re-)queued, these may be added from any thread
+    private final Queue<SpongeScheduledTask> pendingTasks = new ConcurrentLinkedQueue<>();
+    // Queued tasks ordered by their next execution, one queue per timestamp
+    // type. These are only ever accessed by the ticking thread.
+    private final PriorityQueue<SpongeScheduledTask> tickBasedQueue = new PriorityQueue<>(SpongeScheduler.EXECUTION_ORDER);
+    private final PriorityQueue<SpongeScheduledTask> timeBasedQueue = new PriorityQueue<>(SpongeScheduler.EXECUTION_ORDER);
+    // Cancelled tasks stay queued until they are due, unless too many pile up.
+    // Tasks leave this set whenever the ticking thread discards them.
+    private final Set<SpongeScheduledTask> cancelledTasks = ConcurrentHashMap.newKeySet();
     private long sequenceNumber = 0L;
 
     SpongeScheduler(final String tag) {
@@ -93,6 +111,8 @@ protected long timestamp(final boolean tickBased) {
     protected void addTask(final SpongeScheduledTask task) {
         task.setTimestamp(this.timestamp(task.task.tickBasedDelay));
         this.tasks.put(task.uniqueId(), task);
+        this.tasksByPlugin.computeIfAbsent(task.task.plugin().metadata().id(), id -> ConcurrentHashMap.newKeySet()).add(task);
+        this.pendingTasks.add(task);
     }
 
     /**
@@ -102,6 +122,23 @@ protected void addTask(final SpongeScheduledTask task) {
      */
     private void removeTask(final SpongeScheduledTask task) {
         this.tasks.remove(task.uniqueId());
+        final @Nullable Set<SpongeScheduledTask> pluginTasks = this.tasksByPlugin.get(task.task.plugin().metadata().id());
+        if (pluginTasks != null) {
+            pluginTasks.remove(task);
+        }
+    }
+
+    /**
+     * Removes a cancelled task from the task map, it will be dropped from
+     * the execution queue once it would have been due.
+     *
+     * @param task The cancelled task
+     */
+    void onTaskCancelled(final SpongeScheduledTask task) {
+        if (this.tasks.containsKey(task.uniqueId())) {
+            this.removeTask(task);
+            this.cancelledTasks.add(task);
+        }
     }
 
     @Override
@@ -134,18 +171,11 @@ public Set<ScheduledTask> tasks() {
     @Override
     public Set<ScheduledTask> tasks(final PluginContainer plugin) {
         final String testOwnerId = Objects.requireNonNull(plugin, "plugin").metadata().id();
-
-        final Set<ScheduledTask> allTasks = this.tasks();
-        final Iterator<ScheduledTask> it = allTasks.iterator();
-
-        while (it.hasNext()) {
-            final String taskOwnerId = it.next().task().plugin().metadata().id();
-            if (!testOwnerId.equals(taskOwnerId)) {
-                it.remove();
-            }
+        final @Nullable Set<SpongeScheduledTask> pluginTasks = this.tasksByPlugin.get(testOwnerId);
+        if (pluginTasks == null) {
+            return new HashSet<>();
         }
-
-        return allTasks;
+        return new HashSet<>(pluginTasks);
     }
 
     @Override
@@ -176,18 +206,84 @@ public SpongeScheduledTask submit(Task task, String name) {
     }
 
     /**
-     * Process all tasks in the map.
+     * Process all tasks that are due.
      */
     final void runTick() {
         this.preTick();
         try {
-            this.tasks.values().forEach(this::processTask);
+            this.queuePendingTasks();
+            this.processDueTasks(this.tickBasedQueue, true);
+            this.processDueTasks(this.timeBasedQueue, false);
             this.postTick();
         } finally {
             this.finallyPostTick();
         }
     }
 
+    /**
+     * Moves all pending tasks into the execution queues. May only be called
+     * by the ticking thread.
+     */
+    private void queuePendingTasks() {
+        @Nullable SpongeScheduledTask task;
+        while ((task = this.pendingTasks.poll()) != null) {
+            if (task.state() == SpongeScheduledTask.ScheduledTaskState.CANCELED) {
+                this.cancelledTasks.remove(task);
+                continue;
+            }
+            // The next execution uses the delay until the task first ran,
+            // and the interval afterwards.
+            final boolean tickBased = task.state().isActive ? task.task.tickBasedInterval : task.task.tickBasedDelay;
+            task.setQueuedTimestamp(task.nextExecutionTimestamp());
+            (tickBased ? this.tickBasedQueue : this.timeBasedQueue).add(task);
+        }
+
+        final int cancelled = this.cancelledTasks.size();
+        if (cancelled > SpongeScheduler.MIN_PURGE_THRESHOLD && cancelled > (this.tickBasedQueue.size() + this.timeBasedQueue.size()) / 2) {
+            this.tickBasedQueue.removeIf(this::discardIfCancelled);
+            this.timeBasedQueue.removeIf(this::discardIfCancelled);
+        }
+    }
+
+    private boolean discardIfCancelled(final SpongeScheduledTask task) {
+        if (task.state() != SpongeScheduledTask.ScheduledTaskState.CANCELED) {
+            return false;
+        }
+        this.cancelledTasks.remove(task);
+        return true;
+    }
+
+    private void processDueTasks(final PriorityQueue<SpongeScheduledTask> queue, final boolean tickBased) {
+        // This moment is 'now'
+        final long now = this.timestamp(tickBased);
+        @Nullable SpongeScheduledTask task;
+        while ((task = queue.peek()) != null && task.queuedTimestamp() <= now) {
+            queue.poll();
+            this.processTask(task);
+        }
+    }
+
+    /**
+     * Gets the time in nanoseconds until the next queued task is due. May only
+     * be called by the ticking thread.
+     *
+     * @return The time until the next task is due, or {@link Long#MAX_VALUE}
+     *     if no task is queued
+     */
+    protected final long timeUntilNextTask() {
+        this.queuePendingTasks();
+        long timeout = Long.MAX_VALUE;
+        final @Nullable SpongeScheduledTask nextTickBased = this.tickBasedQueue.peek();
+        if (nextTickBased != null) {
+            timeout = Math.min(timeout, nextTickBased.queuedTimestamp() - this.timestamp(true));
+        }
+        final @Nullable SpongeScheduledTask nextTimeBased = this.timeBasedQueue.peek();
+        if (nextTimeBased != null) {
+            timeout = Math.min(timeout, nextTimeBased.queuedTimestamp() - this.timestamp(false));
+        }
+        return Math.max(timeout, 0);
+    }
+
     /**
      * Fired when the scheduler begins to tick, before any tasks are processed.
      */
@@ -208,53 +304,31 @@ protected void finallyPostTick() {
     }
 
     /**
-     * Processes the task.
+     * Processes a task which is due.
      *
      * @param task The task to process
      */
     private void processTask(final SpongeScheduledTask task) {
-        // If the task is now slated to be cancelled, we just remove it as if it
-        // no longer exists.
-        if (task.state() == SpongeScheduledTask.ScheduledTaskState.CANCELED) {
-            this.removeTask(task);
-            return;
-        }
-        // If the task is already being processed, we wait for the previous
-        // occurrence to terminate.
-        if (task.state() == SpongeScheduledTask.ScheduledTaskState.EXECUTING) {
+        // If the task was cancelled while queued, it is already gone from the
+        // task map and we just drop it.
+        if (this.discardIfCancelled(task)) {
             return;
         }
-        final long threshold;
-        final boolean tickBased;
-        // Figure out if we start a delayed Task after threshold ticks or, start
-        // it after the interval (interval) of the repeating task parameter.
-        if (task.state() == SpongeScheduledTask.ScheduledTaskState.WAITING) {
-            threshold = task.task.delay;
-            tickBased = task.task.tickBasedDelay;
-        } else if (task.state() == SpongeScheduledTask.ScheduledTaskState.RUNNING) {
-            threshold = task.task.interval;
-            tickBased = task.task.tickBasedInterval;
-        } else {
-            threshold = Long.MAX_VALUE;
-            tickBased = false;
-        }
-        // This moment is 'now'
-        final long now = this.timestamp(tickBased);
-        // So, if the current time minus the timestamp of the task is greater
-        // than the delay to wait before starting the task, then start the task.
-        // Repeating tasks get a reset-timestamp each time they are set RUNNING
-        // If the task has a interval of 0 (zero) this task will not repeat, and
-        // is removed after we start it.
-        if (threshold <= (now - task.timestamp())) {
-            task.setState(SpongeScheduledTask.ScheduledTaskState.SWITCHING);
-            // It is always interval here because that's the only thing that matters
-            // at this point.
-            task.setTimestamp(this.timestamp(task.task.tickBasedInterval));
-            this.startTask(task);
-            // If task is one time shot, remove it from the map.
-            if (task.task.interval == 0L) {
-                this.removeTask(task);
-            }
+        // Tasks are only queued again once their previous execution has
+        // terminated. Repeating tasks get a reset-timestamp each time they
+        // are started. If the task has a interval of 0 (zero) this task will
+        // not repeat, and is removed after we start it.
+        task.setState(SpongeScheduledTask.ScheduledTaskState.SWITCHING);
+        // It is always interval here because that's the only thing that matters
+        // at this point.
+        task.setTimestamp(this.timestamp(task.task.tickBasedInterval));
+        this.startTask(task);
+        // If task is one time shot, remove it from the map.
+        if (task.task.interval == 0L) {
+            this.removeTask(task);
+            // It is never queued again, so a cancellation that raced the
+            // removal must not be left counted.
+            this.cancelledTasks.remove(task);
         }
     }
 
@@ -264,7 +338,7 @@ private void processTask(final SpongeScheduledTask task) {
      * @param task The task to start
      */
     private void startTask(final SpongeScheduledTask task) {
-        this.executeRunnable(() -> {
+        this.executeRunnable(task.task().plugin(), () -> {
             task.setState(SpongeScheduledTask.ScheduledTaskState.EXECUTING);
             try (final @Nullable PhaseContext<@NonNull ?> context = this.createContext(task, task.task().plugin())) {
                 if (context != null) {
@@ -279,6 +353,13 @@ private void startTask(final SpongeScheduledTask task) {
             } finally {
                 if (!task.isCancelled()) {
                     task.setState(SpongeScheduledTask.ScheduledTaskState.RUNNING);
+                    if (task.task.interval != 0L) {
+                        // Queue the next execution, which will be picked up
+                        // on the next tick at the earliest.
+                        this.pendingTasks.add(task);
+                    }
+                } else {
+                    this.cancelledTasks.remove(task);
                 }
                 this.onTaskCompletion(task);
             }
@@ -299,7 +380,7 @@ protected void onTaskCompletion(final SpongeScheduledTask task) {
         // no-op for sync methods.
     }
 
-    protected void executeRunnable(final Runnable runnable) {
+    protected void executeRunnable(final PluginContainer plugin, final Runnable runnable) {
         runnable.run();
     }
 
@@ -47,6 +47,7 @@
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * A subject data implementation storing all contained data in memory.
@@ -59,10 +60,13 @@
  */
 public class MemorySubjectData implements SubjectData {
 
+    private static final AtomicLong GLOBAL_VERSION = new AtomicLong();
+
     protected final Subject subject;
     protected final ConcurrentMap<Set<Context>, Map<String, String>> options = new ConcurrentHashMap<>();
     protected final ConcurrentMap<Set<Context>, NodeTree> permissions = new ConcurrentHashMap<>();
     protected final ConcurrentMap<Set<Context>, List<SubjectReference>> parents = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
 
     /**
      * Creates a new subject data instance, using the provided service to
@@ -82,6 +86,35 @@ protected void onUpdate() {
         // Do nothing - users of the class will override.
     }
 
+    /**
+     * Marks this data as mutated, invalidating any resolved permission
+     * depending on it, and calls {@link #onUpdate()}.
+     */
+    protected final void markUpdated() {
+        this.version.incrementAndGet();
+        MemorySubjectData.GLOBAL_VERSION.incrementAndGet();
+        this.onUpdate();
+    }
+
+    /**
+     * Gets the version of this data, which changes each time it is mutated.
+     *
+     * @return The version
+     */
+    public long version() {
+        return this.version.get();
+    }
+
+    /**
+     * Gets a version shared by all memory subject data, which changes each
+     * time any instance is mutated.
+     *
+     * @return The global version
+     */
+    public static long globalVersion() {
+        return MemorySubjectData.GLOBAL_VERSION.get();
+    }
+
     @Override
     public Subject subject() {
         return this.subject;
@@ -142,7 +175,7 @@ public CompletableFuture<Boolean> setPermission(Set<Context> contexts, final Str
                 }
             }
         }
-        this.onUpdate();
+        this.markUpdated();
         return CompletableFuture.completedFuture(true);
     }
 
@@ -176,7 +209,7 @@ public CompletableFuture<Boolean> setPermissions(Set<Context> contexts, final Ma
                     throw new IllegalStateException("Unhandled enum state " + method);
             }
         }
-        this.onUpdate();
+        this.markUpdated();
         return CompletableFuture.completedFuture(true);
     }
 
@@ -217,7 +250,7 @@ public CompletableFuture<Boolean> setFallbackPermissionValue(Set<Context> contex
                 }
             }
         }
-        this.onUpdate();
+        this.markUpdated();
         return CompletableFuture.completedFuture(true);
     }
 
@@ -237,7 +270,7 @@ public CompletableFuture<Boolean> clearFallbackPermissionValues() {
                 }
             }
         }
-        this.onUpdate();
+        this.markUpdated();
         return CompletableFuture.completedFuture(anyUpdated);
     }
 
@@ -246,7 +279,7 @@ public CompletableFuture<Boolean> clearPermissions() {
         final boolean wasEmpty = this.permissions.isEmpty();
         this.permissions.clear();
         if (!wasEmpty) {
-            this.onUpdate();
+            this.markUpdated();
         }
         return CompletableFuture.completedFuture(!wasEmpty);
     }
@@ -255,7 +288,7 @@ public CompletableFuture<Boolean> clearPermissions() {
     public CompletableFuture<Boolean> clearPermissions(final Set<Context> context) {
         final boolean changed = this.permissions.remove(Objects.requireNonNull(context, "context")) != null;
         if (changed) {
-            this.onUpdate();
+            this.markUpdated();
         }
         return CompletableFuture.completedFuture(changed);
     }
@@ -302,7 +335,7 @@ public CompletableFuture<Boolean> setParents(Set<Context> contexts, final List<?
                     throw new IllegalStateException("Unhandled enum state " + method);
             }
         }
-        this.onUpdate();
+        this.markUpdated();
         return CompletableFuture.completedFuture(true);
     }
 
@@ -323,7 +356,7 @@ public CompletableFuture<Boolean> addParent(Set<Context> contexts, final Subject
                     .build();
 
             if (this.updateCollection(this.parents, contexts, oldParents, newParents)) {
-                this.onUpdate();
+                this.markUpdated();
                 return CompletableFuture.completedFuture(true);
             }
         }
@@ -354,7 +387,7 @@ public CompletableFuture<Boolean> removeParent(Set<Context> contexts, final Subj
             newParents.remove(parent);
 
             if (this.updateCollection(this.parents, contexts, oldParents, ImmutableList.copyOf(newParents))) {
-                this.onUpdate();
+                this.markUpdated();
                 return CompletableFuture.completedFuture(true);
             }
         }
@@ -365,7 +398,7 @@ public CompletableFuture<Boolean> clearParents() {
         final boolean wasEmpty = this.parents.isEmpty();
         this.parents.clear();
         if (!wasEmpty) {
-            this.onUpdate();
+            this.markUpdated();
         }
         return CompletableFuture.completedFuture(!wasEmpty);
     }
@@ -374,7 +407,7 @@ public CompletableFuture<Boolean> clearParents() {
     public CompletableFuture<Boolean> clearParents(final Set<Context> contexts) {
         final boolean changed = this.parents.remove(Objects.requireNonNull(contexts, "contexts")) != null;
         if (changed) {
-            this.onUpdate();
+            this.markUpdated();
         }
         return CompletableFuture.completedFuture(changed);
     }
@@ -402,7 +435,7 @@ public CompletableFuture<Boolean> setOption(Set<Context> contexts, final String
             }
 
             if ((origMap = this.options.putIfAbsent(contexts, Collections.singletonMap(key.toLowerCase(), value))) == null) {
-                this.onUpdate();
+                this.markUpdated();
                 return CompletableFuture.completedFuture(true);
             }
         }
@@ -419,7 +452,7 @@ public CompletableFuture<Boolean> setOption(Set<Context> contexts, final String
             }
             newMap = ImmutableMap.copyOf(newMap);
         } while (!this.options.replace(contexts, origMap, newMap));
-        this.onUpdate();
+        this.markUpdated();
         return CompletableFuture.completedFuture(true);
     }
 
@@ -449,7 +482,7 @@ public CompletableFuture<Boolean> setOptions(Set<Context> contexts, final Map<St
                     throw new IllegalStateException("Unhandled enum state " + method);
             }
         }
-        this.onUpdate();
+        this.markUpdated();
         return CompletableFuture.completedFuture(true);
     }
 
@@ -458,7 +491,7 @@ public CompletableFuture<Boolean> clearOptions() {
         final boolean wasEmpty = this.options.isEmpty();
         this.options.clear();
         if (!wasEmpty) {
-            this.onUpdate();
+            this.markUpdated();
         }
         return CompletableFuture.completedFuture(!wasEmpty);
     }
@@ -467,7 +500,7 @@ public CompletableFuture<Boolean> clearOptions() {
     public CompletableFuture<Boolean> clearOptions(final Set<Context> contexts) {
         final boolean ret = this.options.remove(Objects.requireNonNull(contexts, "contexts")) != null;
         if (ret) {
-            this.onUpdate();
+            this.markUpdated();
         }
         return CompletableFuture.completedFuture(ret);
     }
@@ -484,6 +517,7 @@ public CompletableFuture<Boolean> copyFrom(final SubjectData other, final Transf
             this.permissions.clear();
             this.parents.clear();
             this.options.clear();
+            this.version.incrementAndGet();
         }
 
         otherPerms.forEach((ctx, permissions) -> this.setPermissions(ctx, permissions, method));
@@ -0,0 +1,156 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.service.server.permission;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.util.Tristate;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * A permission value resolved by a subject, along with the version of every
+ * {@link MemorySubjectData} consulted while resolving it, including that of
+ * its ancestors. The value stays valid for as long as none of them change.
+ */
+final class ResolvedPermission {
+
+    private static final ThreadLocal<@Nullable Recorder> RECORDER = new ThreadLocal<>();
+
+    final Tristate value;
+    private final MemorySubjectData[] dependencies;
+    private final long[] versions;
+    private final long stamp;
+    private final boolean incomplete;
+
+    private ResolvedPermission(final Tristate value, final MemorySubjectData[] dependencies, final long[] versions, final long stamp,
+        final boolean incomplete) {
+        this.value = value;
+        this.dependencies = dependencies;
+        this.versions = versions;
+        this.stamp = stamp;
+        this.incomplete = incomplete;
+    }
+
+    /**
+     * Resolves a value, recording the subject data it depends on. If this
+     * happens as part of resolving another value, such as a child resolving
+     * through its parents, the dependencies are passed on to that one too.
+     *
+     * @param resolver The resolver of the value
+     * @param stamp Any state besides subject data the value depends on
+     * @return The resolved permission
+     */
+    static ResolvedPermission resolve(final Supplier<Tristate> resolver, final long stamp) {
+        final @Nullable Recorder outer = ResolvedPermission.RECORDER.get();
+        final Recorder recorder = new Recorder();
+        ResolvedPermission.RECORDER.set(recorder);
+        final Tristate value;
+        try {
+            value = resolver.get();
+        } finally {
+            ResolvedPermission.RECORDER.set(outer);
+        }
+        final ResolvedPermission resolved = new ResolvedPermission(value,
+            Arrays.copyOf(recorder.dependencies, recorder.size), Arrays.copyOf(recorder.versions, recorder.size), stamp,
+            recorder.incomplete);
+        if (outer != null) {
+            resolved.recordInto(outer);
+        }
+        return resolved;
+    }
+
+    /**
+     * Records that the value currently being resolved depends on the given
+     * data, as it is at this moment.
+     *
+     * @param data The subject data
+     */
+    static void recordDependency(final MemorySubjectData data) {
+        final @Nullable Recorder recorder = ResolvedPermission.RECORDER.get();
+        if (recorder != null) {
+            recorder.add(data, data.version());
+        }
+    }
+
+    /**
+     * Records that the value currently being resolved skipped a parent that
+     * has not loaded yet, so it must not be reused once resolved.
+     */
+    static void markIncomplete() {
+        final @Nullable Recorder recorder = ResolvedPermission.RECORDER.get();
+        if (recorder != null) {
+            recorder.incomplete = true;
+        }
+    }
+
+    boolean isValid(final long stamp) {
+        if (this.incomplete || this.stamp != stamp) {
+            return false;
+        }
+        for (int i = 0; i < this.dependencies.length; i++) {
+            if (this.dependencies[i].version() != this.versions[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Records the dependencies of this cached value into the value currently
+     * being resolved, if any.
+     */
+    void recordDependencies() {
+        final @Nullable Recorder recorder = ResolvedPermission.RECORDER.get();
+        if (recorder != null) {
+            this.recordInto(recorder);
+        }
+    }
+
+    private void recordInto(final Recorder recorder) {
+        recorder.incomplete |= this.incomplete;
+        for (int i = 0; i < this.dependencies.length; i++) {
+            recorder.add(this.dependencies[i], this.versions[i]);
+        }
+    }
+
+    private static final class Recorder {
+
+        MemorySubjectData[] dependencies = new MemorySubjectData[8];
+        long[] versions = new long[8];
+        int size;
+        boolean incomplete;
+
+        void add(final MemorySubjectData data, final long version) {
+            if (this.size == this.dependencies.length) {
+                this.dependencies = Arrays.copyOf(this.dependencies, this.size * 2);
+                this.versions = Arrays.copyOf(this.versions, this.size * 2);
+            }
+            this.dependencies[this.size] = data;
+            this.versions[this.size] = version;
+            this.size++;
+        }
+    }
+}
@@ -34,11 +34,19 @@
 import org.spongepowered.api.util.Tristate;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 public abstract class SpongeBaseSubject implements Subject {
 
+    private static final int MAX_CACHED_PERMISSIONS = 2048;
+
+    // Resolution ignores contexts in this service, so values are cached by node alone
+    private final Map<String, ResolvedPermission> permissionCache = new ConcurrentHashMap<>();
+    private volatile @Nullable SubjectReference reference;
+
     public abstract PermissionService service();
 
     @Override
@@ -56,7 +64,16 @@ public Optional<?> associatedObject() {
 
     @Override
     public SubjectReference asSubjectReference() {
-        return this.service().newSubjectReference(this.containingCollection().identifier(), this.identifier());
+        @Nullable SubjectReference reference = this.reference;
+        if (reference == null) {
+            reference = this.service().newSubjectReference(this.containingCollection().identifier(), this.identifier());
+            if (reference instanceof SpongeSubjectReference) {
+                // Already resolved, parents referring to this subject never need a lookup
+                ((SpongeSubjectReference) reference).complete(this);
+            }
+            this.reference = reference;
+        }
+        return reference;
     }
 
     @Override
@@ -72,20 +89,60 @@ public boolean hasPermission(final String permission, final Set<Context> context
 
     @Override
     public Tristate permissionValue(final String permission, final @Nullable Cause cause) {
+        final long stamp = this.permissionCacheStamp();
+        final @Nullable ResolvedPermission cached = this.permissionCache.get(permission);
+        if (cached != null && cached.isValid(stamp)) {
+            cached.recordDependencies();
+            return cached.value;
+        }
+        final ResolvedPermission resolved = ResolvedPermission.resolve(() -> this.resolvePermissionValue(permission), stamp);
+        if (this.permissionCache.size() >= SpongeBaseSubject.MAX_CACHED_PERMISSIONS) {
+            this.permissionCache.clear();
+        }
+        this.permissionCache.put(permission, resolved);
+        return resolved.value;
+    }
+
+    /**
+     * Resolves the value of a permission for this subject, bypassing the
+     * cache. Any {@link MemorySubjectData} consulted must go through
+     * {@link #dataPermissionValue(MemorySubjectData, String)} so that the
+     * cached value is invalidated when it changes.
+     *
+     * @param permission The permission
+     * @return The value
+     */
+    protected Tristate resolvePermissionValue(final String permission) {
         return this.dataPermissionValue(this.transientSubjectData(), permission);
     }
 
+    /**
+     * Gets a stamp of any state besides subject data that permission values
+     * of this subject depend on, cached values resolved with a different
+     * stamp are discarded.
+     *
+     * @return The stamp
+     */
+    protected long permissionCacheStamp() {
+        return 0;
+    }
+
     @Override
     public final Tristate permissionValue(final String permission, final Set<Context> contexts) {
         return this.permissionValue(permission, (Cause) null);
     }
 
     protected Tristate dataPermissionValue(final MemorySubjectData subject, final String permission) {
+        ResolvedPermission.recordDependency(subject);
         Tristate res = subject.nodeTree(SubjectData.GLOBAL_CONTEXT).get(permission);
 
         if (res == Tristate.UNDEFINED) {
             for (final SubjectReference parent : subject.parents(SubjectData.GLOBAL_CONTEXT)) {
-                res = parent.resolve().join().permissionValue(permission, (Cause) null);
+                final @Nullable Subject resolved = SpongeBaseSubject.resolveParent(parent);
+                if (resolved == null) {
+                    continue;
+                }
+                res = resolved.permissionValue(permission, (Cause) null);
                 if (res != Tristate.UNDEFINED) {
                     return res;
                 }
@@ -115,12 +172,37 @@ public final List<? extends SubjectReference> parents(final Set<Context> context
         return this.parents((Cause) null);
     }
 
+    /**
+     * Gets a parent subject without blocking on it. A parent that is still
+     * loading is skipped, and the value being resolved is not cached so that
+     * it is resolved again once the parent is available.
+     *
+     * @param parent The parent reference
+     * @return The parent, if loaded
+     */
+    private static @Nullable Subject resolveParent(final SubjectReference parent) {
+        final @Nullable Subject resolved;
+        if (parent instanceof SpongeSubjectReference) {
+            resolved = ((SpongeSubjectReference) parent).resolveNow();
+        } else {
+            resolved = parent.resolve().getNow(null);
+        }
+        if (resolved == null) {
+            ResolvedPermission.markIncomplete();
+        }
+        return resolved;
+    }
+
     protected Optional<String> dataOptionValue(final MemorySubjectData subject, final String option) {
         Optional<String> res = Optional.ofNullable(subject.options(SubjectData.GLOBAL_CONTEXT).get(option));
 
         if (!res.isPresent()) {
             for (final SubjectReference parent : subject.parents(SubjectData.GLOBAL_CONTEXT)) {
-                res = parent.resolve().join().option(option, (Cause) null);
+                final @Nullable Subject resolved = SpongeBaseSubject.resolveParent(parent);
+                if (resolved == null) {
+                    continue;
+                }
+                res = resolved.option(option, (Cause) null);
                 if (res.isPresent()) {
                     return res;
                 }
@@ -24,6 +24,8 @@
  */
 package org.spongepowered.common.service.server.permission;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.collect.ImmutableMap;
 import org.spongepowered.api.service.permission.NodeTree;
 import org.spongepowered.api.util.Tristate;
@@ -37,6 +39,10 @@
 public final class SpongeNodeTree implements NodeTree {
 
     private static final Pattern NODE_SPLIT = Pattern.compile("\\.");
+    // Permission checks repeat the same handful of nodes, so split them once
+    private static final Cache<String, String[]> NODE_PATHS = Caffeine.newBuilder()
+        .maximumSize(4096)
+        .build();
     private final Node rootNode;
 
     SpongeNodeTree(final Tristate value) {
@@ -48,9 +54,19 @@ public final class SpongeNodeTree implements NodeTree {
         this.rootNode = rootNode;
     }
 
+    private static String[] path(final String node) {
+        return SpongeNodeTree.NODE_PATHS.get(node, key -> {
+            final String[] parts = SpongeNodeTree.NODE_SPLIT.split(key.toLowerCase(), -1);
+            for (int i = 0; i < parts.length; i++) {
+                parts[i] = parts[i].intern();
+            }
+            return parts;
+        });
+    }
+
     <T> void populate(final Map<String, T> values, final Function<T, Tristate> converter) {
         for (final Map.Entry<String, T> value : values.entrySet()) {
-            final String[] parts = SpongeNodeTree.NODE_SPLIT.split(value.getKey().toLowerCase(), -1);
+            final String[] parts = SpongeNodeTree.path(value.getKey());
             Node currentNode = this.rootNode;
             for (final String part : parts) {
                 if (currentNode.children.containsKey(part)) {
@@ -67,7 +83,7 @@ <T> void populate(final Map<String, T> values, final Function<T, Tristate> conve
 
     @Override
     public Tristate get(final String node) {
-        final String[] parts = SpongeNodeTree.NODE_SPLIT.split(node.toLowerCase(), -1);
+        final String[] parts = SpongeNodeTree.path(node);
         Node currentNode = this.rootNode;
         Tristate lastUndefinedVal = Tristate.UNDEFINED;
         for (String str : parts) {
@@ -116,7 +132,7 @@ private void populateMap(final ImmutableMap.Builder<String, Boolean> values, fin
 
     @Override
     public NodeTree withValue(final String node, final Tristate value) {
-        final String[] parts = SpongeNodeTree.NODE_SPLIT.split(node.toLowerCase(), -1);
+        final String[] parts = SpongeNodeTree.path(node);
         final Node newRoot = new Node(new HashMap<>(this.rootNode.children));
         Node newPtr = newRoot;
         Node currentPtr = this.rootNode;
@@ -26,14 +26,19 @@
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.event.Cause;
 import org.spongepowered.api.service.permission.Subject;
 import org.spongepowered.api.service.permission.SubjectCollection;
+import org.spongepowered.api.service.permission.SubjectData;
 import org.spongepowered.api.service.permission.SubjectReference;
 import org.spongepowered.api.util.Tristate;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -71,7 +76,9 @@ public SubjectReference newSubjectReference(final String subjectIdentifier) {
 
     @Override
     public CompletableFuture<Subject> loadSubject(final String identifier) {
-        return CompletableFuture.completedFuture(this.get(identifier));
+        final SpongeSubject subject = this.get(identifier);
+        this.prefetchParents(Collections.singleton(subject));
+        return CompletableFuture.completedFuture(subject);
     }
 
     @Override
@@ -86,11 +93,74 @@ public CompletableFuture<Boolean> hasSubject(final String identifier) {
 
     @Override
     public CompletableFuture<Map<String, ? extends Subject>> loadSubjects(final Iterable<String> identifiers) {
-        final Map<String, Subject> ret = new HashMap<>();
+        final Map<String, CompletableFuture<Subject>> futures = new HashMap<>();
         for (final String id : identifiers) {
-            ret.put(id, this.get(id));
+            futures.computeIfAbsent(id, this::loadSubject);
+        }
+        return CompletableFuture.allOf(futures.values().toArray(new CompletableFuture<?>[0]))
+            .thenApply(v -> {
+                final ImmutableMap.Builder<String, Subject> ret = ImmutableMap.builder();
+                futures.forEach((id, future) -> ret.put(id, future.join()));
+                return ret.build();
+            });
+    }
+
+    /**
+     * Starts loading the parents of the given subjects that are not loaded
+     * yet, in one batch per collection, so that permission checks don't have
+     * to wait for them later.
+     *
+     * @param subjects The subjects
+     */
+    protected void prefetchParents(final Collection<? extends SpongeBaseSubject> subjects) {
+        final Map<String, Map<String, List<SpongeSubjectReference>>> byCollection = new HashMap<>();
+        for (final SpongeBaseSubject subject : subjects) {
+            SpongeSubjectCollection.collectUnloaded(subject.transientSubjectData(), byCollection);
+            if (subject.subjectData() instanceof MemorySubjectData && subject.subjectData() != subject.transientSubjectData()) {
+                SpongeSubjectCollection.collectUnloaded((MemorySubjectData) subject.subjectData(), byCollection);
+            }
+        }
+        byCollection.forEach((collectionId, references) -> {
+            final CompletableFuture<Map<String, ? extends Subject>> loading;
+            try {
+                loading = this.service.get(collectionId).loadSubjects(references.keySet());
+            } catch (final RuntimeException e) {
+                // The references are claimed, so they have to be released or they'd stay pending forever
+                SpongeSubjectCollection.failAll(references, e);
+                return;
+            }
+            loading.whenComplete((loaded, failure) -> {
+                if (failure != null) {
+                    SpongeSubjectCollection.failAll(references, failure);
+                    return;
+                }
+                references.forEach((id, waiting) -> {
+                    final @Nullable Subject parent = loaded.get(id);
+                    for (final SpongeSubjectReference reference : waiting) {
+                        if (parent != null) {
+                            reference.complete(parent);
+                        } else {
+                            reference.fail(new IllegalStateException("Subject " + id + " was not loaded"));
+                        }
+                    }
+                });
+            });
+        });
+    }
+
+    private static void failAll(final Map<String, List<SpongeSubjectReference>> references, final Throwable failure) {
+        references.values().forEach(waiting -> waiting.forEach(reference -> reference.fail(failure)));
+    }
+
+    private static void collectUnloaded(final MemorySubjectData data, final Map<String, Map<String, List<SpongeSubjectReference>>> byCollection) {
+        for (final SubjectReference parent : data.parents(SubjectData.GLOBAL_CONTEXT)) {
+            // Claim first, so that a cycle of parents can't be fetched over and over
+            if (parent instanceof SpongeSubjectReference && ((SpongeSubjectReference) parent).claimLoad() != null) {
+                byCollection.computeIfAbsent(parent.collectionIdentifier(), k -> new HashMap<>())
+                    .computeIfAbsent(parent.subjectIdentifier(), k -> new ArrayList<>())
+                    .add((SpongeSubjectReference) parent);
+            }
         }
-        return CompletableFuture.completedFuture(ImmutableMap.copyOf(ret));
     }
 
     @Override
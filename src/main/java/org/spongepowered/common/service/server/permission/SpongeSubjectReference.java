@@ -28,13 +28,16 @@
 import org.spongepowered.api.service.permission.Subject;
 import org.spongepowered.api.service.permission.SubjectReference;
 
+import java.lang.ref.WeakReference;
 import java.util.concurrent.CompletableFuture;
 
 public class SpongeSubjectReference implements SubjectReference {
     private final SpongePermissionService service;
     private final String collectionId;
     private final String subjectId;
-    private @Nullable SpongeSubject cache;
+    // Weakly held so references kept in subject data don't pin unloaded subjects
+    private volatile @Nullable WeakReference<Subject> cache;
+    private volatile @Nullable CompletableFuture<Subject> pending;
 
     public SpongeSubjectReference(final SpongePermissionService service, final String collectionId, final String subjectId) {
         this.service = service;
@@ -53,13 +56,93 @@ public String subjectIdentifier() {
     }
 
     @Override
-    public synchronized CompletableFuture<Subject> resolve() {
-        // lazily load
-        if (this.cache == null) {
-            this.cache = this.service.get(this.collectionId).get(this.subjectId);
+    public CompletableFuture<Subject> resolve() {
+        final @Nullable Subject cached = this.cached();
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
         }
+        final @Nullable CompletableFuture<Subject> pending = this.pending;
+        if (pending != null) {
+            return pending;
+        }
+        return this.load();
+    }
+
+    /**
+     * Gets the referenced subject without waiting for it to load. If it has
+     * not been loaded yet, loading is started and {@code null} is returned
+     * unless it completes right away.
+     *
+     * @return The subject, if loaded
+     */
+    public @Nullable Subject resolveNow() {
+        final @Nullable Subject cached = this.cached();
+        if (cached != null) {
+            return cached;
+        }
+        return this.resolve().getNow(null);
+    }
+
+    /**
+     * Claims the load of the referenced subject, unless it is already loaded
+     * or being loaded. The caller is responsible for then passing the loaded
+     * subject to {@link #complete(Subject)}, or the failure to
+     * {@link #fail(Throwable)}.
+     *
+     * @return The future of the claimed load, or null if not claimed
+     */
+    synchronized @Nullable CompletableFuture<Subject> claimLoad() {
+        if (this.pending != null || this.cached() != null) {
+            return null;
+        }
+        final CompletableFuture<Subject> pending = new CompletableFuture<>();
+        this.pending = pending;
+        return pending;
+    }
+
+    void complete(final Subject subject) {
+        this.cache = new WeakReference<>(subject);
+        final @Nullable CompletableFuture<Subject> pending = this.pending;
+        this.pending = null;
+        if (pending != null) {
+            pending.complete(subject);
+        }
+    }
+
+    void fail(final Throwable failure) {
+        final @Nullable CompletableFuture<Subject> pending = this.pending;
+        this.pending = null;
+        if (pending != null) {
+            pending.completeExceptionally(failure);
+        }
+    }
 
-        return CompletableFuture.completedFuture(this.cache);
+    private @Nullable Subject cached() {
+        final @Nullable WeakReference<Subject> cache = this.cache;
+        return cache == null ? null : cache.get();
+    }
+
+    private CompletableFuture<Subject> load() {
+        final @Nullable CompletableFuture<Subject> claimed = this.claimLoad();
+        if (claimed == null) {
+            return this.resolve();
+        }
+        final CompletableFuture<Subject> loading;
+        try {
+            loading = this.service.get(this.collectionId).loadSubject(this.subjectId);
+        } catch (final RuntimeException e) {
+            // Release the claim, otherwise every later resolve would wait on it forever
+            this.fail(e);
+            return claimed;
+        }
+        loading.whenComplete((subject, failure) -> {
+            if (failure == null) {
+                this.complete(subject);
+            } else {
+                this.fail(failure);
+            }
+        });
+        return claimed;
     }
 
 }
@@ -124,8 +124,14 @@ public PermissionService service() {
     }
 
     @Override
-    public Tristate permissionValue(final String permission, final Cause cause) {
-        Tristate ret = super.permissionValue(permission, cause);
+    protected long permissionCacheStamp() {
+        // The op level decides both the parent group and the final fallback
+        return Sponge.isServerAvailable() ? this.getOpLevel() : -1;
+    }
+
+    @Override
+    protected Tristate resolvePermissionValue(final String permission) {
+        Tristate ret = super.resolvePermissionValue(permission);
         if (ret == Tristate.UNDEFINED) {
             ret = this.dataPermissionValue(this.collection.defaults().subjectData(), permission);
         }
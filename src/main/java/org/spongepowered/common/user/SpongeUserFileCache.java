@@ -25,21 +25,33 @@
 package org.spongepowered.common.user;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.profile.GameProfile;
 import org.spongepowered.common.SpongeCommon;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardWatchEventKinds;
 import java.nio.file.WatchEvent;
 import java.nio.file.WatchKey;
 import java.nio.file.WatchService;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -53,18 +65,40 @@
  * While one could achieve the same with other
  * relevant caches, the file system is always the
  * source of truth.
+ *
+ * The known users and their last known names are
+ * persisted next to the player data directory, so
+ * that the directory only has to be listed again
+ * when it changed while the server was not watching
+ * it. Listing it happens in the background, in the
+ * meantime the persisted index keeps answering.
  */
 final class SpongeUserFileCache {
 
+    private static final String INDEX_FILE_NAME = "sponge_user_index.bin";
+    private static final int INDEX_VERSION = 1;
+    /** Stands in for users we do not know a name for, as the concurrent maps cannot hold nulls */
+    private static final String UNKNOWN_NAME = "";
+
     private final Supplier<Path> path;
+    private final Function<UUID, @Nullable String> nameLookup;
+    private final Executor scanExecutor;
 
-    private Set<UUID> knownUniqueIds = new HashSet<>();
+    // Replaced wholesale after a listing or loading the persisted index, which are built
+    // without holding the lock so lookups keep being answered in the meantime.
+    private volatile UserIndex index = new UserIndex();
+    private volatile boolean indexDirty = false;
+    private long indexedDirectoryModified = -1;
+    // Changes picked up while the directory is being listed, replayed over the listing
+    private @Nullable Map<UUID, Boolean> scanJournal = null;
 
     private @Nullable WatchService watchService = null;
     private @Nullable WatchKey watchKey = null;
 
-    SpongeUserFileCache(final Supplier<Path> path) {
+    SpongeUserFileCache(final Supplier<Path> path, final Function<UUID, @Nullable String> nameLookup, final Executor scanExecutor) {
         this.path = path;
+        this.nameLookup = nameLookup;
+        this.scanExecutor = scanExecutor;
     }
 
     public void init() {
@@ -80,7 +114,12 @@ public void init() {
             return;
         }
 
-        this.scanFiles(path);
+        if (this.index.knownUsers.isEmpty() && this.loadIndex(path) && this.indexedDirectoryModified == SpongeUserFileCache.getLastModified(path)) {
+            // Nothing changed since the index was written, only pick up what happened since we started watching.
+            this.pollFilesystemWatcher(true);
+            return;
+        }
+        this.scanExecutor.execute(() -> this.scanFiles(path));
     }
 
     private void scanFiles(final Path path) {
@@ -88,15 +127,49 @@ private void scanFiles(final Path path) {
             return;
         }
 
+        synchronized (this) {
+            this.scanJournal = new HashMap<>();
+        }
+        final Set<UUID> found;
         try (final Stream<Path> list = Files.list(path)) {
-            this.knownUniqueIds = list.map(SpongeUserFileCache::getUniqueIdFromPath)
+            found = list.map(SpongeUserFileCache::getUniqueIdFromPath)
                 .filter(Objects::nonNull)
                 .collect(Collectors.toSet());
         } catch (final IOException e) {
             SpongeCommon.logger().error("Failed to get player files", e);
+            synchronized (this) {
+                this.scanJournal = null;
+            }
             return;
         }
 
+        // Names are looked up while building the new index, outside the lock
+        final UserIndex current = this.index;
+        final UserIndex fresh = new UserIndex();
+        for (final UUID uuid : found) {
+            final @Nullable String knownName = current.knownUsers.get(uuid);
+            fresh.put(uuid, knownName == null ? this.nameLookup.apply(uuid) : knownName);
+        }
+
+        synchronized (this) {
+            final @Nullable Map<UUID, Boolean> journal = this.scanJournal;
+            this.scanJournal = null;
+            if (journal != null) {
+                // Whatever the watcher saw while we were listing is more recent than the listing itself,
+                // and it already put the names of created users into the current index.
+                final UserIndex latest = this.index;
+                journal.forEach((uuid, created) -> {
+                    if (created) {
+                        fresh.put(uuid, latest.knownUsers.get(uuid));
+                    } else {
+                        fresh.remove(uuid);
+                    }
+                });
+            }
+            this.index = fresh;
+            this.indexDirty = true;
+        }
+
         this.pollFilesystemWatcher(true);
     }
 
@@ -104,7 +177,7 @@ private void pollFilesystemWatcher() {
         this.pollFilesystemWatcher(false);
     }
 
-    private void pollFilesystemWatcher(final boolean initialPoll) {
+    private synchronized void pollFilesystemWatcher(final boolean initialPoll) {
         if (this.watchKey == null || !this.watchKey.isValid()) {
             if (!initialPoll) {
                 // Reboot this if it's somehow failed.
@@ -119,7 +192,8 @@ private void pollFilesystemWatcher(final boolean initialPoll) {
         for (final WatchEvent<?> event : this.watchKey.pollEvents()) {
             if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
                 if (!initialPoll) {
-                    this.scanFiles(this.path.get());
+                    final Path path = this.path.get();
+                    this.scanExecutor.execute(() -> this.scanFiles(path));
                 } else {
                     this.watchKey.cancel();
                 }
@@ -151,27 +225,157 @@ private void pollFilesystemWatcher(final boolean initialPoll) {
             }
 
             // It will only be create or delete here.
-            if (kind == StandardWatchEventKinds.ENTRY_CREATE) {
-                this.knownUniqueIds.add(uuid);
+            final boolean created = kind == StandardWatchEventKinds.ENTRY_CREATE;
+            if (created) {
+                if (!this.index.knownUsers.containsKey(uuid)) {
+                    this.put(uuid, this.nameLookup.apply(uuid));
+                }
             } else {
-                this.knownUniqueIds.remove(uuid);
+                this.remove(uuid);
+            }
+            if (this.scanJournal != null) {
+                this.scanJournal.put(uuid, created);
             }
         }
     }
 
-    public void userCreated(final UUID uniqueId) {
+    public void userCreated(final UUID uniqueId, final @Nullable String name) {
         this.pollFilesystemWatcher();
-        this.knownUniqueIds.add(uniqueId);
+        synchronized (this) {
+            this.put(uniqueId, name);
+            if (this.scanJournal != null) {
+                this.scanJournal.put(uniqueId, true);
+            }
+        }
     }
 
     public boolean contains(final UUID uniqueId) {
         this.pollFilesystemWatcher();
-        return this.knownUniqueIds.contains(uniqueId);
+        if (this.index.knownUsers.containsKey(uniqueId)) {
+            return true;
+        }
+        // The watcher delivers events asynchronously, so a file written just now may not have
+        // been reported yet. A single file check is still far cheaper than any rescan.
+        if (Files.exists(this.path.get().resolve(uniqueId + ".dat"))) {
+            this.userCreated(uniqueId, this.nameLookup.apply(uniqueId));
+            return true;
+        }
+        return false;
     }
 
     public Stream<UUID> knownUUIDs() {
         this.pollFilesystemWatcher();
-        return this.knownUniqueIds.stream();
+        return this.index.knownUsers.keySet().stream();
+    }
+
+    public Stream<GameProfile> knownProfiles() {
+        this.pollFilesystemWatcher();
+        return this.index.knownUsers.entrySet().stream().map(SpongeUserFileCache::toProfile);
+    }
+
+    /**
+     * Gets the profiles of all known users whose last known name starts
+     * with the given prefix, ignoring case.
+     *
+     * @param prefix The name prefix
+     * @return The matching profiles
+     */
+    public Stream<GameProfile> profilesMatching(final String prefix) {
+        this.pollFilesystemWatcher();
+        final String lowerPrefix = prefix.toLowerCase(Locale.ROOT);
+        final UserIndex index = this.index;
+        return index.usersByName.subMap(lowerPrefix, true, lowerPrefix + Character.MAX_VALUE, true).values().stream()
+            .flatMap(Set::stream)
+            .map(uuid -> {
+                final @Nullable String name = index.knownUsers.get(uuid);
+                return name == null ? null : SpongeUserFileCache.toProfile(Map.entry(uuid, name));
+            })
+            .filter(Objects::nonNull);
+    }
+
+    private static GameProfile toProfile(final Map.Entry<UUID, String> entry) {
+        return entry.getValue().isEmpty() ? GameProfile.of(entry.getKey()) : GameProfile.of(entry.getKey(), entry.getValue());
+    }
+
+    private void put(final UUID uniqueId, final @Nullable String name) {
+        if (this.index.put(uniqueId, name)) {
+            this.indexDirty = true;
+        }
+    }
+
+    private void remove(final UUID uniqueId) {
+        if (this.index.remove(uniqueId)) {
+            this.indexDirty = true;
+        }
+    }
+
+    private boolean loadIndex(final Path path) {
+        final Path indexFile = path.resolveSibling(SpongeUserFileCache.INDEX_FILE_NAME);
+        try (final DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile)))) {
+            if (in.readInt() != SpongeUserFileCache.INDEX_VERSION) {
+                return false;
+            }
+            final long directoryModified = in.readLong();
+            final int count = in.readInt();
+            final UserIndex loaded = new UserIndex();
+            for (int i = 0; i < count; i++) {
+                final UUID uuid = new UUID(in.readLong(), in.readLong());
+                loaded.put(uuid, in.readUTF());
+            }
+            synchronized (this) {
+                this.index = loaded;
+                this.indexedDirectoryModified = directoryModified;
+                this.indexDirty = false;
+            }
+            return true;
+        } catch (final NoSuchFileException e) {
+            return false;
+        } catch (final IOException e) {
+            SpongeCommon.logger().warn("Could not read the user index {}, the player data will be rescanned", indexFile, e);
+            return false;
+        }
+    }
+
+    /**
+     * Writes the index out if it changed, or if the player data directory
+     * changed since it was last written.
+     */
+    public void saveIndexIfChanged() {
+        final Path path = this.path.get();
+        if (this.watchKey == null || !Files.isDirectory(path)) {
+            return;
+        }
+        this.pollFilesystemWatcher();
+        final long directoryModified = SpongeUserFileCache.getLastModified(path);
+        final Map<UUID, String> snapshot;
+        synchronized (this) {
+            if (this.scanJournal != null || (!this.indexDirty && directoryModified == this.indexedDirectoryModified)) {
+                // Either nothing to do or still listing, in which case the next save will catch up
+                return;
+            }
+            snapshot = new HashMap<>(this.index.knownUsers);
+            this.indexDirty = false;
+            this.indexedDirectoryModified = directoryModified;
+        }
+
+        final Path indexFile = path.resolveSibling(SpongeUserFileCache.INDEX_FILE_NAME);
+        final Path tempFile = path.resolveSibling(SpongeUserFileCache.INDEX_FILE_NAME + ".tmp");
+        try {
+            try (final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                out.writeInt(SpongeUserFileCache.INDEX_VERSION);
+                out.writeLong(directoryModified);
+                out.writeInt(snapshot.size());
+                for (final Map.Entry<UUID, String> entry : snapshot.entrySet()) {
+                    out.writeLong(entry.getKey().getMostSignificantBits());
+                    out.writeLong(entry.getKey().getLeastSignificantBits());
+                    out.writeUTF(entry.getValue());
+                }
+            }
+            Files.move(tempFile, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException e) {
+            SpongeCommon.logger().warn("Could not write the user index {}", indexFile, e);
+            this.indexDirty = true;
+        }
     }
 
     public void shutdownWatcher() {
@@ -190,6 +394,14 @@ public void shutdownWatcher() {
         }
     }
 
+    private static long getLastModified(final Path path) {
+        try {
+            return Files.getLastModifiedTime(path).toMillis();
+        } catch (final IOException e) {
+            return -1;
+        }
+    }
+
     private static @Nullable UUID getUniqueIdFromPath(final Path path) {
         return SpongeUserFileCache.getUniqueIdFromPath(path.getFileName().toString());
     }
@@ -206,6 +418,52 @@ public void shutdownWatcher() {
         }
     }
 
+    /**
+     * The known users, along with their last known names indexed for
+     * prefix lookups.
+     */
+    private static final class UserIndex {
+
+        final Map<UUID, String> knownUsers = new ConcurrentHashMap<>();
+        final ConcurrentNavigableMap<String, Set<UUID>> usersByName = new ConcurrentSkipListMap<>();
+
+        boolean put(final UUID uniqueId, final @Nullable String name) {
+            final String newName = name == null ? SpongeUserFileCache.UNKNOWN_NAME : name;
+            final @Nullable String oldName = this.knownUsers.get(uniqueId);
+            if (oldName != null && (oldName.equals(newName) || newName.isEmpty())) {
+                // Never forget a name just because the current lookup does not know it
+                return false;
+            }
+            if (oldName != null) {
+                this.unindexName(uniqueId, oldName);
+            }
+            this.knownUsers.put(uniqueId, newName);
+            if (!newName.isEmpty()) {
+                this.usersByName.computeIfAbsent(newName.toLowerCase(Locale.ROOT), n -> ConcurrentHashMap.newKeySet()).add(uniqueId);
+            }
+            return true;
+        }
+
+        boolean remove(final UUID uniqueId) {
+            final @Nullable String oldName = this.knownUsers.remove(uniqueId);
+            if (oldName == null) {
+                return false;
+            }
+            this.unindexName(uniqueId, oldName);
+            return true;
+        }
+
+        private void unindexName(final UUID uniqueId, final String name) {
+            if (name.isEmpty()) {
+                return;
+            }
+            this.usersByName.computeIfPresent(name.toLowerCase(Locale.ROOT), (n, uuids) -> {
+                uuids.remove(uniqueId);
+                return uuids.isEmpty() ? null : uuids;
+            });
+        }
+    }
+
     /**
      * Filters that sequences of CREATE -> DELETE
      * or DELETE -> CREATE do not raise changes.
@@ -27,6 +27,7 @@
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import net.minecraft.nbt.CompoundTag;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.world.level.storage.PlayerDataStorage;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -48,8 +49,10 @@
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -72,16 +75,25 @@ public final class SpongeUserManager implements UserManager {
             .expireAfterAccess(1, TimeUnit.HOURS)
             .build();
     private final Set<SpongeUserData> dirtyUsers = ConcurrentHashMap.newKeySet();
+    // The latest queued write for each user, writes run in order on the user data thread
+    private final Map<UUID, CompletableFuture<Void>> pendingWrites = new ConcurrentHashMap<>();
 
     private final MinecraftServer server;
     private final ExecutorService executorService = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
             .setDaemon(true)
             .setNameFormat("Sponge-User-Data-Loader")
             .build());
+    // Listing the player data directory can take a while, loads and writes must not queue up behind it
+    private final ExecutorService scanExecutorService = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+            .setDaemon(true)
+            .setNameFormat("Sponge-User-File-Scanner")
+            .build());
 
     public SpongeUserManager(final MinecraftServer server) {
         this.server = server;
-        this.userFileCache = new SpongeUserFileCache(this::getSaveHandlerDirectory);
+        this.userFileCache = new SpongeUserFileCache(this::getSaveHandlerDirectory,
+                uuid -> this.server.getProfileCache().get(uuid).map(com.mojang.authlib.GameProfile::getName).orElse(null),
+                this.scanExecutorService);
     }
 
     public void init() {
@@ -158,7 +170,8 @@ public CompletableFuture<Optional<User>> load(final GameProfile profile) {
     @Override
     public Stream<GameProfile> streamAll() {
         final GameProfileCache cache = ((Server) this.server).gameProfileManager().cache();
-        return this.userFileCache.knownUUIDs().map(x -> cache.findById(x).orElseGet(() -> GameProfile.of(x)));
+        return this.userFileCache.knownProfiles()
+                .map(x -> x.name().isPresent() ? x : cache.findById(x.uniqueId()).orElse(x));
     }
 
     @Override
@@ -217,20 +230,12 @@ public CompletableFuture<Boolean> forceSave(final UUID uuid) {
 
     @Override
     public boolean exists(final UUID playerUuid) {
-        if (this.userCache.getIfPresent(playerUuid) == null) {
-            // Does the file exist?
-            final @Nullable Path path = this.getPlayerDataFile(playerUuid);
-            return path != null && Files.exists(path);
-        }
-        return true;
+        return this.userCache.getIfPresent(playerUuid) != null || this.userFileCache.contains(playerUuid);
     }
 
     @Override
     public Stream<GameProfile> streamOfMatches(final String lastKnownName) {
-        final String nameToCheck = Objects.requireNonNull(lastKnownName, "lastKnownName").toLowerCase(Locale.ROOT);
-        return ((Server) this.server).gameProfileManager().cache()
-                .streamOfMatches(nameToCheck)
-                .filter(gameProfile -> this.exists(gameProfile.uuid()));
+        return this.userFileCache.profilesMatching(Objects.requireNonNull(lastKnownName, "lastKnownName"));
     }
 
     private UUID ensureNonEmptyUUID(final UUID uuid) {
@@ -244,6 +249,12 @@ private UUID ensureNonEmptyUUID(final UUID uuid) {
     //
 
     public void handlePlayerLogin(final com.mojang.authlib.GameProfile mcProfile) throws IOException {
+        // The player's file is about to be read, so any write still queued for it has to land first.
+        final @Nullable CompletableFuture<Void> pendingWrite = this.pendingWrites.get(mcProfile.getId());
+        if (pendingWrite != null) {
+            pendingWrite.join();
+        }
+        this.userFileCache.userCreated(mcProfile.getId(), mcProfile.getName());
         final @Nullable SpongeUserData currentUser = this.userCache.getIfPresent(mcProfile.getId());
         if (currentUser != null) {
             // If currentUser have this then we know that the user has changed.
@@ -258,7 +269,7 @@ public void handlePlayerLogin(final com.mojang.authlib.GameProfile mcProfile) th
     private void createUser(final com.mojang.authlib.GameProfile profile) throws IOException {
         final @Nullable SpongeUserData user = SpongeUserData.create(profile);
         this.userCache.put(profile.getId(), user);
-        this.userFileCache.userCreated(profile.getId());
+        this.userFileCache.userCreated(profile.getId(), profile.getName());
     }
 
     public void markDirty(final SpongeUserData user) {
@@ -287,17 +298,48 @@ private Path getSaveHandlerDirectory() {
         return ((PlayerDataStorageAccessor) this.getSaveHandler()).accessor$playerDir().toPath();
     }
 
-    public void saveDirtyUsers() {
+    /**
+     * Saves all dirty offline users, along with the user index, as a single
+     * batch on the user data thread. The state of each user is captured on
+     * the calling thread, so later changes are left for the next save.
+     *
+     * @return A future completing once the batch has been written
+     */
+    public CompletableFuture<Void> saveDirtyUsers() {
         // If they are online, Minecraft will do the save automatically.
         this.dirtyUsers.removeIf(SpongeUserData::isOnline);
+        final Map<SpongeUserData, CompoundTag> batch = new HashMap<>();
+        final Map<UUID, CompletableFuture<Void>> writes = new HashMap<>();
         for (final SpongeUserData user : new HashSet<>(this.dirtyUsers)) {
-            try {
-                user.save();
-            } catch (final IOException ignored) {
-                // There isn't much we can do here. The error has been logged, but
-                // the user is still available at this time so let's continue...
-            }
+            this.dirtyUsers.remove(user);
+            batch.put(user, user.snapshotCompound());
+            final CompletableFuture<Void> write = new CompletableFuture<>();
+            writes.put(user.uniqueId(), write);
+            this.pendingWrites.put(user.uniqueId(), write);
         }
+        return CompletableFuture.runAsync(() -> {
+            for (final Map.Entry<SpongeUserData, CompoundTag> entry : batch.entrySet()) {
+                final SpongeUserData user = entry.getKey();
+                try {
+                    SpongeUserData.writeToFile(user.uniqueId(), entry.getValue());
+                } catch (final IOException ignored) {
+                    // There isn't much we can do here. The error has been logged, but the
+                    // user is still available at this time so let's retry on the next save...
+                    if (this.userCache.getIfPresent(user.uniqueId()) == user) {
+                        this.dirtyUsers.add(user);
+                    }
+                } finally {
+                    this.completeWrite(user.uniqueId(), writes.get(user.uniqueId()));
+                }
+            }
+            this.userFileCache.saveIndexIfChanged();
+        }, this.executorService).whenComplete((ignored, error) -> writes.forEach(this::completeWrite));
+    }
+
+    private void completeWrite(final UUID uniqueId, final CompletableFuture<Void> write) {
+        // A later batch may have queued a newer write for this user already
+        this.pendingWrites.remove(uniqueId, write);
+        write.complete(null);
     }
 
     public void unmarkDirty(final SpongeUserData user) {
@@ -0,0 +1,174 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.level.chunk;
+
+import it.unimi.dsi.fastutil.shorts.Short2LongMap;
+import it.unimi.dsi.fastutil.shorts.Short2LongOpenHashMap;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Stores the creator and notifier of the tracked blocks in a chunk.
+ *
+ * <p>Each chunk section has its own map from the block's index within the
+ * section to both unique id indexes packed into a single {@code long}, so a
+ * tracked block costs no more than a key and a value in an open addressing
+ * table. Sections without any tracked blocks allocate nothing.</p>
+ */
+public final class TrackedBlockOwners {
+
+    public static final int UNTRACKED = -1;
+    private static final long UNTRACKED_PAIR = TrackedBlockOwners.pack(TrackedBlockOwners.UNTRACKED, TrackedBlockOwners.UNTRACKED);
+
+    private final int minSection;
+    private final @Nullable Short2LongOpenHashMap[] sections;
+    private int size;
+
+    public TrackedBlockOwners(final int minSection, final int sectionCount) {
+        this.minSection = minSection;
+        this.sections = new Short2LongOpenHashMap[sectionCount];
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public int creator(final int x, final int y, final int z) {
+        return TrackedBlockOwners.creator(this.get(x, y, z));
+    }
+
+    public int notifier(final int x, final int y, final int z) {
+        return TrackedBlockOwners.notifier(this.get(x, y, z));
+    }
+
+    public boolean contains(final int x, final int y, final int z) {
+        return this.get(x, y, z) != TrackedBlockOwners.UNTRACKED_PAIR;
+    }
+
+    public void setCreator(final int x, final int y, final int z, final int creator) {
+        this.set(x, y, z, creator, this.notifier(x, y, z));
+    }
+
+    public void setNotifier(final int x, final int y, final int z, final int notifier) {
+        this.set(x, y, z, this.creator(x, y, z), notifier);
+    }
+
+    public void set(final int x, final int y, final int z, final int creator, final int notifier) {
+        final int section = (y >> 4) - this.minSection;
+        if (section < 0 || section >= this.sections.length) {
+            return;
+        }
+        final long pair = TrackedBlockOwners.pack(creator, notifier);
+        @Nullable Short2LongOpenHashMap map = this.sections[section];
+        if (pair == TrackedBlockOwners.UNTRACKED_PAIR) {
+            if (map != null && map.remove(TrackedBlockOwners.key(x, y, z)) != map.defaultReturnValue()) {
+                this.size--;
+            }
+            return;
+        }
+        if (map == null) {
+            map = new Short2LongOpenHashMap();
+            map.defaultReturnValue(TrackedBlockOwners.UNTRACKED_PAIR);
+            this.sections[section] = map;
+        }
+        if (map.put(TrackedBlockOwners.key(x, y, z), pair) == TrackedBlockOwners.UNTRACKED_PAIR) {
+            this.size++;
+        }
+    }
+
+    public void remove(final int x, final int y, final int z) {
+        this.set(x, y, z, TrackedBlockOwners.UNTRACKED, TrackedBlockOwners.UNTRACKED);
+    }
+
+    /**
+     * Packs all tracked blocks into triples of the block's chunk relative
+     * position followed by its creator and notifier indexes.
+     *
+     * @return The packed blocks
+     */
+    public int[] write() {
+        final int[] data = new int[this.size * 3];
+        int i = 0;
+        for (int section = 0; section < this.sections.length; section++) {
+            final Short2LongOpenHashMap map = this.sections[section];
+            if (map == null) {
+                continue;
+            }
+            final int sectionY = (section + this.minSection) << 4;
+            for (final Short2LongMap.Entry entry : map.short2LongEntrySet()) {
+                final int key = entry.getShortKey();
+                data[i++] = TrackedBlockOwners.position(key & 0xF, sectionY | (key >> 8 & 0xF), key >> 4 & 0xF);
+                data[i++] = TrackedBlockOwners.creator(entry.getLongValue());
+                data[i++] = TrackedBlockOwners.notifier(entry.getLongValue());
+            }
+        }
+        return data;
+    }
+
+    /**
+     * Reads blocks packed by {@link #write()}.
+     *
+     * @param data The packed blocks
+     */
+    public void read(final int[] data) {
+        for (int i = 0; i + 2 < data.length; i += 3) {
+            final int position = data[i];
+            this.set(position & 0xF, position >> 8, position >> 4 & 0xF, data[i + 1], data[i + 2]);
+        }
+    }
+
+    private long get(final int x, final int y, final int z) {
+        final int section = (y >> 4) - this.minSection;
+        if (section < 0 || section >= this.sections.length) {
+            return TrackedBlockOwners.UNTRACKED_PAIR;
+        }
+        final @Nullable Short2LongOpenHashMap map = this.sections[section];
+        return map == null ? TrackedBlockOwners.UNTRACKED_PAIR : map.get(TrackedBlockOwners.key(x, y, z));
+    }
+
+    private static short key(final int x, final int y, final int z) {
+        return (short) ((y & 0xF) << 8 | (z & 0xF) << 4 | x & 0xF);
+    }
+
+    private static int position(final int x, final int y, final int z) {
+        return y << 8 | (z & 0xF) << 4 | x & 0xF;
+    }
+
+    private static long pack(final int creator, final int notifier) {
+        return (long) creator << 32 | notifier & 0xFFFFFFFFL;
+    }
+
+    private static int creator(final long pair) {
+        return (int) (pair >> 32);
+    }
+
+    private static int notifier(final long pair) {
+        return (int) pair;
+    }
+
+}
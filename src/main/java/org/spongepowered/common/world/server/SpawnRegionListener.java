@@ -0,0 +1,116 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.server;
+
+import net.minecraft.server.level.ServerChunkCache;
+import net.minecraft.server.level.progress.ChunkProgressListener;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.chunk.status.ChunkStatus;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link ChunkProgressListener} of a single world that tracks when the
+ * chunks of its spawn region become full, so that spawn preparation only
+ * has to poll the number of ticking chunks once the last ones are loading.
+ * A chunk is reported full as soon as that step is scheduled, which is
+ * before it ticks.
+ */
+final class SpawnRegionListener implements ChunkProgressListener {
+
+    static final int RADIUS = 10;
+    private static final int DIAMETER = SpawnRegionListener.RADIUS * 2 + 1;
+    static final int CHUNKS = SpawnRegionListener.DIAMETER * SpawnRegionListener.DIAMETER;
+
+    private final ChunkProgressListener delegate;
+    private final Set<Long> full = ConcurrentHashMap.newKeySet();
+    private volatile @Nullable ChunkPos center;
+    private volatile CompletableFuture<Void> prepared = new CompletableFuture<>();
+
+    SpawnRegionListener(final ChunkProgressListener delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Starts tracking the spawn region around the given chunk. Must be called
+     * on the server thread, before the region is requested.
+     *
+     * @param center The center of the spawn region
+     * @param chunkSource The chunk source of the world
+     * @return A future completing once every chunk of the region was reported full
+     */
+    CompletableFuture<Void> prepare(final ChunkPos center, final ServerChunkCache chunkSource) {
+        final CompletableFuture<Void> prepared = new CompletableFuture<>();
+        this.full.clear();
+        this.prepared = prepared;
+        this.center = center;
+        this.delegate.updateSpawnPos(center);
+        // Chunks that are already loaded will not report their status again
+        for (int x = center.x - SpawnRegionListener.RADIUS; x <= center.x + SpawnRegionListener.RADIUS; x++) {
+            for (int z = center.z - SpawnRegionListener.RADIUS; z <= center.z + SpawnRegionListener.RADIUS; z++) {
+                if (chunkSource.getChunkNow(x, z) != null) {
+                    this.full.add(ChunkPos.asLong(x, z));
+                }
+            }
+        }
+        this.checkPrepared(prepared);
+        return prepared;
+    }
+
+    private void checkPrepared(final CompletableFuture<Void> prepared) {
+        if (this.full.size() >= SpawnRegionListener.CHUNKS) {
+            this.center = null;
+            prepared.complete(null);
+        }
+    }
+
+    @Override
+    public void updateSpawnPos(final ChunkPos pos) {
+        this.delegate.updateSpawnPos(pos);
+    }
+
+    @Override
+    public void onStatusChange(final ChunkPos pos, final @Nullable ChunkStatus status) {
+        this.delegate.onStatusChange(pos, status);
+        final @Nullable ChunkPos center = this.center;
+        if (status == ChunkStatus.FULL && center != null && center.getChessboardDistance(pos) <= SpawnRegionListener.RADIUS
+            && this.full.add(pos.toLong())) {
+            this.checkPrepared(this.prepared);
+        }
+    }
+
+    @Override
+    public void start() {
+        this.delegate.start();
+    }
+
+    @Override
+    public void stop() {
+        this.delegate.stop();
+    }
+}
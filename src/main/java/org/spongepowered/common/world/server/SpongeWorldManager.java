@@ -92,6 +92,7 @@
 import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.accessor.server.MinecraftServerAccessor;
 import org.spongepowered.common.accessor.world.level.storage.LevelStorageSource_LevelStorageAccessAccessor;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 import org.spongepowered.common.bridge.ResourceKeyBridge;
 import org.spongepowered.common.bridge.core.MappedRegistryBridge;
 import org.spongepowered.common.bridge.server.level.ServerLevelBridge;
@@ -121,6 +122,7 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -129,7 +131,6 @@
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
-import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
@@ -319,7 +320,7 @@ private CompletableFuture<ServerWorld> loadWorld0(final net.minecraft.resources.
         return SpongeCommon.asyncScheduler().submit(() -> this.prepareWorld(world)).thenApply(w -> {
                     ((MinecraftServerAccessor) this.server).invoker$forceDifficulty();
                     return w;
-                }).thenCompose(w -> this.postWorldLoad(world, false))
+                }).thenCompose(w -> this.postWorldLoad(world))
                   .thenApply(w -> (ServerWorld) w);
     }
 
@@ -736,61 +737,118 @@ public void loadLevel() {
                     + "Multi-World support has been disabled and no worlds besides the default world will be loaded.");
         }
 
-        final ChunkProgressListener chunkStatusListener = ((MinecraftServerAccessor) this.server).accessor$progressListenerFactory().create(11);
+        // Reading the level data of every world touches the disk and runs the data fixers, do that for all worlds at once
+        final Map<net.minecraft.resources.ResourceKey<Level>, CompletableFuture<LevelSource>> levelSources = new LinkedHashMap<>();
+        final Map<net.minecraft.resources.ResourceKey<Level>, StartupTimings> timings = new LinkedHashMap<>();
         var registry = SpongeCommon.vanillaRegistry(Registries.LEVEL_STEM);
         for (LevelStem template : registry) {
             final ResourceKey worldKey = (ResourceKey) (Object) registry.getKey(template);
             final LevelStemBridge templateBridge = (LevelStemBridge) (Object) template;
 
             final boolean isDefaultWorld = DefaultWorldKeys.DEFAULT.equals(worldKey);
-            if (!isDefaultWorld && !multiworldEnabled) {
+            if (isDefaultWorld || !multiworldEnabled) {
+                continue;
+            }
+            if (!templateBridge.bridge$loadOnStartup()) {
+                SpongeCommon.logger().warn("World '{}' has been disabled from loading at startup. Skipping...", worldKey);
                 continue;
             }
 
-            final DimensionType dimensionType = template.type().value();
-            final Optional<ResourceKey> worldTypeKey = this.worldTypeKey(dimensionType);
+            final net.minecraft.resources.ResourceKey<Level> registryKey = SpongeWorldManager.createRegistryKey(worldKey);
+            final StartupTimings worldTimings = new StartupTimings();
+            timings.put(registryKey, worldTimings);
+            levelSources.put(registryKey, CompletableFuture.supplyAsync(() -> {
+                final long start = Util.getNanos();
+                try {
+                    return this.loadLevelSource(template, worldKey);
+                } catch (final IOException e) {
+                    throw new CompletionException(e);
+                } finally {
+                    worldTimings.levelData = Util.getNanos() - start;
+                }
+            }, Util.backgroundExecutor()));
+        }
 
-            if (!isDefaultWorld && !templateBridge.bridge$loadOnStartup()) {
-                SpongeCommon.logger().warn("World '{}' has been disabled from loading at startup. Skipping...", worldKey);
+        final ChunkProgressListener chunkStatusListener = ((MinecraftServerAccessor) this.server).accessor$progressListenerFactory().create(11);
+        for (LevelStem template : registry) {
+            final ResourceKey worldKey = (ResourceKey) (Object) registry.getKey(template);
+            final boolean isDefaultWorld = DefaultWorldKeys.DEFAULT.equals(worldKey);
+            final net.minecraft.resources.ResourceKey<Level> registryKey = SpongeWorldManager.createRegistryKey(worldKey);
+            final @Nullable CompletableFuture<LevelSource> levelSource = levelSources.get(registryKey);
+            if (!isDefaultWorld && levelSource == null) {
                 continue;
             }
+
+            final DimensionType dimensionType = template.type().value();
+            final Optional<ResourceKey> worldTypeKey = this.worldTypeKey(dimensionType);
+
             MinecraftServerAccessor.accessor$LOGGER().info("Loading world '{}' ({})", worldKey, worldTypeKey.map(ResourceKey::toString).orElse("inline"));
-            final net.minecraft.resources.ResourceKey<Level> registryKey = SpongeWorldManager.createRegistryKey(worldKey);
+            final StartupTimings worldTimings = timings.computeIfAbsent(registryKey, k -> new StartupTimings());
+            final long start = Util.getNanos();
+            final ServerLevel world;
             if (isDefaultWorld) {
                 final LevelStorageSource.LevelStorageAccess storageSource = ((MinecraftServerAccessor) this.server).accessor$storageSource();
                 final PrimaryLevelData levelData = (PrimaryLevelData) this.server.getWorldData();
                 ((ResourceKeyBridge) levelData).bridge$setKey(((ResourceKey) (Object) registryKey.location()));
                 final List<CustomSpawner> spawners = ImmutableList.of(new PhantomSpawner(), new PatrolSpawner(), new CatSpawner(), new VillageSiege(), new WanderingTraderSpawner(levelData));
 
-                final ServerLevel world = this.createLevel(registryKey, template, worldKey, worldTypeKey.orElse(null), storageSource, levelData, spawners, chunkStatusListener);
+                world = this.createLevel(registryKey, template, worldKey, worldTypeKey.orElse(null), storageSource, levelData, spawners, chunkStatusListener);
 
                 // Ensure that the world border is registered.
                 world.getWorldBorder().applySettings(levelData.getWorldBorder());
-                this.prepareWorld(world);
             } else {
                 try {
-                    final ServerLevel world = this.createNonDefaultLevel(registryKey, template, worldKey, worldTypeKey.orElse(null), chunkStatusListener);
+                    world = this.createNonDefaultLevel(registryKey, template, worldKey, worldTypeKey.orElse(null), levelSource.join(), chunkStatusListener);
                     // Ensure that the world border is registered.
                     world.getWorldBorder().applySettings(((PrimaryLevelData) world.getLevelData()).getWorldBorder());
-                    this.prepareWorld(world);
-                } catch (final IOException e) {
-                    throw new RuntimeException(String.format("Failed to create level data for world '%s'!", worldKey), e);
+                } catch (final CompletionException e) {
+                    if (e.getCause() instanceof IOException) {
+                        throw new RuntimeException(String.format("Failed to create level data for world '%s'!", worldKey), e.getCause());
+                    }
+                    throw new IllegalStateException(String.format("Failed to create level data for world '%s'!", worldKey), e.getCause());
                 } catch (final Exception e) {
                     throw new IllegalStateException(String.format("Failed to create level data for world '%s'!", worldKey), e);
                 }
             }
+            final long created = Util.getNanos();
+            worldTimings.create = created - start;
+            this.prepareWorld(world);
+            worldTimings.prepare = Util.getNanos() - created;
         }
 
         ((MinecraftServerAccessor) this.server).invoker$forceDifficulty();
 
+        // Spawn regions of all worlds are generated side by side, the server thread only has to wait for the ones it needs before starting
+        final boolean background = SpongeConfigs.getCommon().get().world.backgroundSpawnPreparation;
+        final List<CompletableFuture<ServerLevel>> blocking = new ArrayList<>();
+        ((MinecraftServerAccessor) this.server).accessor$nextTickTimeNanos(Util.getNanos());
         for (final Map.Entry<net.minecraft.resources.ResourceKey<Level>, ServerLevel> entry : this.worlds.entrySet()) {
-            try {
-                this.postWorldLoad(entry.getValue(), true).get();
-            } catch (final InterruptedException | ExecutionException e) {
-                throw new IllegalStateException(e);
+            final StartupTimings worldTimings = timings.get(entry.getKey());
+            final long start = Util.getNanos();
+            final CompletableFuture<ServerLevel> spawnFuture = this.postWorldLoad(entry.getValue()).whenComplete((world, t) -> {
+                if (t != null) {
+                    SpongeCommon.logger().error("Failed to prepare the start region for world '{}'", entry.getKey().location(), t);
+                } else if (worldTimings != null) {
+                    worldTimings.spawn = Util.getNanos() - start;
+                    worldTimings.log(entry.getKey());
+                }
+            });
+            if (!background || Level.OVERWORLD.equals(entry.getKey())) {
+                blocking.add(spawnFuture);
             }
         }
 
+        final CompletableFuture<Void> spawnPrepared = CompletableFuture.allOf(blocking.toArray(CompletableFuture[]::new));
+        while (!spawnPrepared.isDone()) {
+            ((MinecraftServerAccessor) this.server).accessor$nextTickTimeNanos(Util.getNanos() + 10L * TimeUtil.NANOSECONDS_PER_MILLISECOND);
+            ((MinecraftServerAccessor) this.server).accessor$waitUntilNextTick();
+        }
+        try {
+            spawnPrepared.join();
+        } catch (final CompletionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+
         ((SpongeUserManager) Sponge.server().userManager()).init();
     }
 
@@ -828,13 +886,8 @@ private PrimaryLevelData loadLevelData(final RegistryAccess.Frozen access, final
         return (PrimaryLevelData) levelData.worldData();
     }
 
-    // Do not call this for the default world, that is handled very special in loadLevel()
-    private ServerLevel createNonDefaultLevel(
-            final net.minecraft.resources.ResourceKey<Level> registryKey,
-            final LevelStem levelStem,
-            final ResourceKey worldKey,
-            @Nullable final ResourceKey worldTypeKey,
-            final ChunkProgressListener chunkStatusListener) throws IOException {
+    // Safe to call off of the main thread, nothing but the level storage is touched here
+    private LevelSource loadLevelSource(final LevelStem levelStem, final ResourceKey worldKey) throws IOException {
         final String directoryName = this.getDirectoryName(worldKey);
         final LevelStorageSource.LevelStorageAccess storageSource = this.getLevelStorageAccess(worldKey);
         Dynamic<?> dataTag;
@@ -843,7 +896,28 @@ private ServerLevel createNonDefaultLevel(
         } catch (IOException e) {
             dataTag = null; // ((MinecraftServerAccessor) this.server).accessor$storageSource().getDataTag(); // Fallback to overworld level.dat
         }
-        final PrimaryLevelData levelData = this.getOrCreateLevelData(dataTag, levelStem, directoryName);
+        return new LevelSource(storageSource, this.getOrCreateLevelData(dataTag, levelStem, directoryName));
+    }
+
+    // Do not call this for the default world, that is handled very special in loadLevel()
+    private ServerLevel createNonDefaultLevel(
+            final net.minecraft.resources.ResourceKey<Level> registryKey,
+            final LevelStem levelStem,
+            final ResourceKey worldKey,
+            @Nullable final ResourceKey worldTypeKey,
+            final ChunkProgressListener chunkStatusListener) throws IOException {
+        return this.createNonDefaultLevel(registryKey, levelStem, worldKey, worldTypeKey, this.loadLevelSource(levelStem, worldKey), chunkStatusListener);
+    }
+
+    private ServerLevel createNonDefaultLevel(
+            final net.minecraft.resources.ResourceKey<Level> registryKey,
+            final LevelStem levelStem,
+            final ResourceKey worldKey,
+            @Nullable final ResourceKey worldTypeKey,
+            final LevelSource levelSource,
+            final ChunkProgressListener chunkStatusListener) {
+        final LevelStorageSource.LevelStorageAccess storageSource = levelSource.storageSource();
+        final PrimaryLevelData levelData = levelSource.levelData();
         final List<CustomSpawner> spawners;
         if (levelStem.type().is(BuiltinDimensionTypes.OVERWORLD) || levelStem.type().is(BuiltinDimensionTypes.OVERWORLD_CAVES)) {
             spawners = ImmutableList.of(new PhantomSpawner(), new PatrolSpawner(), new CatSpawner(), new VillageSiege(), new WanderingTraderSpawner(levelData));
@@ -874,7 +948,7 @@ private ServerLevel createLevel(
 
         final Executor executor = ((MinecraftServerAccessor) this.server).accessor$executor();
         final ServerLevel world = new ServerLevel(this.server, executor, storageSource, levelData,
-                registryKey, levelStem, chunkStatusListener, levelData.isDebugWorld(), seed, spawners, true, null);
+                registryKey, levelStem, new SpawnRegionListener(chunkStatusListener), levelData.isDebugWorld(), seed, spawners, true, null);
         this.worlds.put(registryKey, world);
 
         return world;
@@ -947,19 +1021,14 @@ private ServerLevel prepareWorld(final ServerLevel world) {
         return world;
     }
 
-    private CompletableFuture<ServerLevel> postWorldLoad(final ServerLevel world, final boolean blocking) {
+    private CompletableFuture<ServerLevel> postWorldLoad(final ServerLevel world) {
         final PrimaryLevelData levelData = (PrimaryLevelData) world.getLevelData();
         final PrimaryLevelDataBridge levelBridge = (PrimaryLevelDataBridge) levelData;
         if (Level.OVERWORLD.equals(world.dimension()) || levelBridge.bridge$performsSpawnLogic()) {
             final Optional<ResourceKey> worldTypeKey = this.worldTypeKey(world.dimensionType());
             MinecraftServerAccessor.accessor$LOGGER().info("Preparing start region for world '{}' ({})", world.dimension().location(),
                     worldTypeKey.map(ResourceKey::toString).orElse("inline"));
-            if (blocking) {
-                this.loadSpawnChunks(world);
-                return CompletableFuture.completedFuture(world); // Chunk are generated
-            } else {
-                return this.loadSpawnChunksAsync(world); // Chunks are NOT generated yet BUT will be when the future returns
-            }
+            return this.loadSpawnChunks(world); // Chunks are NOT generated yet BUT will be when the future returns
         }
         return CompletableFuture.completedFuture(world); // Chunks are NOT generated AND will not generate unless prompted
     }
@@ -968,74 +1037,54 @@ private Optional<ResourceKey> worldTypeKey(final DimensionType type) {
         return Optional.ofNullable(SpongeCommon.vanillaRegistry(Registries.DIMENSION_TYPE).getKey(type)).map(ResourceKey.class::cast);
     }
 
-    private CompletableFuture<ServerLevel> loadSpawnChunksAsync(final ServerLevel world) {
-
+    private CompletableFuture<ServerLevel> loadSpawnChunks(final ServerLevel world) {
         final BlockPos spawnPoint = world.getSharedSpawnPos();
         final ChunkPos chunkPos = new ChunkPos(spawnPoint);
+        final SpawnRegionListener chunkStatusListener = (SpawnRegionListener) ((ServerLevelBridge) world).bridge$getChunkStatusListener();
         final ServerChunkCache serverChunkProvider = world.getChunkSource();
 //        serverChunkProvider.getLightEngine().setTaskPerBatch(500); was 5 in 1.19.4 , final 1000 in 1.20
 
-        final int borderRadius = 11;
-        final int diameter = ((borderRadius - 1) * 2) + 1;
-        final int spawnChunks = diameter * diameter;
-
-        serverChunkProvider.addRegionTicket(SpongeWorldManager.SPAWN_CHUNKS, chunkPos, borderRadius, world.dimension().location());
-        final CompletableFuture<ServerLevel> generationFuture = new CompletableFuture<>();
-        Sponge.asyncScheduler().submit(
-                Task.builder().plugin(Launch.instance().platformPlugin())
-                        .execute(task -> {
-                            if (serverChunkProvider.getTickingGenerated() >= spawnChunks) {
-                                Sponge.server().scheduler().submit(Task.builder().plugin(Launch.instance().platformPlugin()).execute(() -> generationFuture.complete(world)).build());
-                                // Notify the future that we are done
-                                task.cancel(); // And cancel this task
-                                MinecraftServerAccessor.accessor$LOGGER().info("Done preparing start region for world '{}' ({})", world.dimension().location(),
-                                        this.worldTypeKey(world.dimensionType()).map(ResourceKey::toString).orElse("inline"));
-                            }
-                        })
-                        .interval(10, TimeUnit.MILLISECONDS)
-                        .build()
-        );
-        return generationFuture.thenApply(v -> {
+        // The listener completes once every chunk of the region has reported being full, the chunks only tick a little later
+        final CompletableFuture<Void> generationFuture = chunkStatusListener.prepare(chunkPos, serverChunkProvider)
+                .thenCompose(v -> this.awaitTickingSpawnChunks(serverChunkProvider));
+        serverChunkProvider.addRegionTicket(SpongeWorldManager.SPAWN_CHUNKS, chunkPos, 11, world.dimension().location());
+        return generationFuture.thenApplyAsync(v -> {
             this.updateForcedChunks(world, serverChunkProvider);
+            chunkStatusListener.stop();
 //            serverChunkProvider.getLightEngine().setTaskPerBatch(5);
 
             // Sponge Start - Release the chunk ticket if spawn is not set to be kept loaded...
             if (!((PrimaryLevelDataBridge) world.getLevelData()).bridge$performsSpawnLogic()) {
                 serverChunkProvider.removeRegionTicket(SpongeWorldManager.SPAWN_CHUNKS, chunkPos, 11, world.dimension().location());
             }
+            MinecraftServerAccessor.accessor$LOGGER().info("Done preparing start region for world '{}' ({})", world.dimension().location(),
+                    this.worldTypeKey(world.dimensionType()).map(ResourceKey::toString).orElse("inline"));
             return world;
-        });
+        }, this.server);
     }
 
-    private void loadSpawnChunks(final ServerLevel world) {
-        final BlockPos spawnPoint = world.getSharedSpawnPos();
-        final ChunkPos chunkPos = new ChunkPos(spawnPoint);
-        final ChunkProgressListener chunkStatusListener = ((ServerLevelBridge) world).bridge$getChunkStatusListener();
-        chunkStatusListener.updateSpawnPos(chunkPos);
-        final ServerChunkCache serverChunkProvider = world.getChunkSource();
-//        serverChunkProvider.getLightEngine().setTaskPerBatch(500);
-        ((MinecraftServerAccessor) this.server).accessor$nextTickTimeNanos(Util.getNanos());
-        serverChunkProvider.addRegionTicket(SpongeWorldManager.SPAWN_CHUNKS, chunkPos, 11, world.dimension().location());
-
-        while (serverChunkProvider.getTickingGenerated() != 441) {
-            ((MinecraftServerAccessor) this.server).accessor$nextTickTimeNanos(Util.getNanos() + 10L * TimeUtil.NANOSECONDS_PER_MILLISECOND);
-            ((MinecraftServerAccessor) this.server).accessor$waitUntilNextTick();
-        }
-
-        ((MinecraftServerAccessor) this.server).accessor$nextTickTimeNanos(Util.getNanos() + 10L * TimeUtil.NANOSECONDS_PER_MILLISECOND);
-        ((MinecraftServerAccessor) this.server).accessor$waitUntilNextTick();
-
-        this.updateForcedChunks(world, serverChunkProvider);
-
-        ((MinecraftServerAccessor) this.server).accessor$nextTickTimeNanos(Util.getNanos() + 10L * TimeUtil.NANOSECONDS_PER_MILLISECOND);
-        ((MinecraftServerAccessor) this.server).accessor$waitUntilNextTick();
-        chunkStatusListener.stop();
-//        serverChunkProvider.getLightEngine().setTaskPerBatch(5);
-
-        // Sponge Start - Release the chunk ticket if spawn is not set to be kept loaded...
-        if (!((PrimaryLevelDataBridge) world.getLevelData()).bridge$performsSpawnLogic()) {
-            serverChunkProvider.removeRegionTicket(SpongeWorldManager.SPAWN_CHUNKS, chunkPos, 11, world.dimension().location());
+    /**
+     * A chunk reports being full as soon as its last step is scheduled, it is
+     * only counted as ticking once it was loaded. Only polls the ticking count
+     * for the few chunks that are still being loaded.
+     */
+    private CompletableFuture<Void> awaitTickingSpawnChunks(final ServerChunkCache serverChunkProvider) {
+        if (serverChunkProvider.getTickingGenerated() >= SpawnRegionListener.CHUNKS) {
+            return CompletableFuture.completedFuture(null);
         }
+        final CompletableFuture<Void> tickingFuture = new CompletableFuture<>();
+        Sponge.asyncScheduler().submit(
+                Task.builder().plugin(Launch.instance().platformPlugin())
+                        .execute(task -> {
+                            if (serverChunkProvider.getTickingGenerated() >= SpawnRegionListener.CHUNKS) {
+                                task.cancel();
+                                tickingFuture.complete(null);
+                            }
+                        })
+                        .interval(10, TimeUnit.MILLISECONDS)
+                        .build()
+        );
+        return tickingFuture;
     }
 
     private void updateForcedChunks(final ServerLevel world, final ServerChunkCache serverChunkProvider) {
@@ -1117,4 +1166,19 @@ private static PrimaryLevelData.SpecialWorldProperty specialWorldProperty(final
             return $$1 instanceof FlatLevelSource ? PrimaryLevelData.SpecialWorldProperty.FLAT : PrimaryLevelData.SpecialWorldProperty.NONE;
         }
     }
+
+    private record LevelSource(LevelStorageSource.LevelStorageAccess storageSource, PrimaryLevelData levelData) {
+    }
+
+    private static final class StartupTimings {
+
+        volatile long levelData, create, prepare, spawn;
+
+        void log(final net.minecraft.resources.ResourceKey<Level> registryKey) {
+            MinecraftServerAccessor.accessor$LOGGER().info("Loaded world '{}' in {} ms (level data: {} ms, create: {} ms, prepare: {} ms, start region: {} ms)",
+                    registryKey.location(), TimeUnit.NANOSECONDS.toMillis(this.levelData + this.create + this.prepare + this.spawn),
+                    TimeUnit.NANOSECONDS.toMillis(this.levelData), TimeUnit.NANOSECONDS.toMillis(this.create),
+                    TimeUnit.NANOSECONDS.toMillis(this.prepare), TimeUnit.NANOSECONDS.toMillis(this.spawn));
+        }
+    }
 }
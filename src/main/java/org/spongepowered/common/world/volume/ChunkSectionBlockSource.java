@@ -0,0 +1,116 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.volume;
+
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.chunk.PalettedContainer;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.world.volume.Volume;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * Walks the block states between two positions by reading the
+ * {@link LevelChunkSection sections} of each chunk directly. Sections whose
+ * palette only holds a single state are handed to the visitor as a single
+ * uniform box instead of being decoded block by block.
+ *
+ * @param <R> The volume type
+ */
+public final class ChunkSectionBlockSource<R extends Volume> {
+
+    private final Supplier<R> volumeSupplier;
+    private final BiFunction<R, ChunkPos, @Nullable ChunkAccess> chunkAccessor;
+    private final Vector3i min;
+    private final Vector3i max;
+
+    public ChunkSectionBlockSource(final Supplier<R> volumeSupplier, final BiFunction<R, ChunkPos, @Nullable ChunkAccess> chunkAccessor,
+        final Vector3i min, final Vector3i max
+    ) {
+        this.volumeSupplier = volumeSupplier;
+        this.chunkAccessor = chunkAccessor;
+        this.min = min;
+        this.max = max;
+    }
+
+    public void walk(final BlockSectionVisitor visitor) {
+        final R volume = this.volumeSupplier.get();
+        final int chunkMaxX = this.max.x() >> 4;
+        final int chunkMaxZ = this.max.z() >> 4;
+        for (int chunkX = this.min.x() >> 4; chunkX <= chunkMaxX; chunkX++) {
+            for (int chunkZ = this.min.z() >> 4; chunkZ <= chunkMaxZ; chunkZ++) {
+                final @Nullable ChunkAccess chunk = this.chunkAccessor.apply(volume, new ChunkPos(chunkX, chunkZ));
+                if (chunk != null) {
+                    ChunkSectionBlockSource.walkChunk(chunk, this.min, this.max, visitor);
+                }
+            }
+        }
+    }
+
+    public static void walkChunk(final ChunkAccess chunk, final Vector3i min, final Vector3i max, final BlockSectionVisitor visitor) {
+        final ChunkPos pos = chunk.getPos();
+        final int minX = Math.max(min.x(), pos.getMinBlockX());
+        final int maxX = Math.min(max.x(), pos.getMaxBlockX());
+        final int minZ = Math.max(min.z(), pos.getMinBlockZ());
+        final int maxZ = Math.min(max.z(), pos.getMaxBlockZ());
+        if (minX > maxX || minZ > maxZ) {
+            return;
+        }
+
+        final int minSection = Math.max(min.y() >> 4, chunk.getMinSection());
+        final int maxSection = Math.min(max.y() >> 4, chunk.getMaxSection() - 1);
+        for (int sectionY = minSection; sectionY <= maxSection; sectionY++) {
+            final LevelChunkSection section = chunk.getSection(chunk.getSectionIndexFromSectionY(sectionY));
+            final int sectionMinY = sectionY << 4;
+            final int minY = Math.max(min.y(), sectionMinY);
+            final int maxY = Math.min(max.y(), sectionMinY + 15);
+
+            final PalettedContainer<BlockState> states = section.getStates();
+            // The palette of a container may retain entries that are no longer
+            // referenced, but it never lacks one that is, so a palette without
+            // any other state guarantees the section is uniform.
+            final BlockState first = states.get(0, 0, 0);
+            if (!states.maybeHas(state -> state != first)) {
+                visitor.visitUniform(minX, minY, minZ, maxX, maxY, maxZ, first);
+                continue;
+            }
+
+            for (int y = minY; y <= maxY; y++) {
+                final int localY = y & 15;
+                for (int z = minZ; z <= maxZ; z++) {
+                    final int localZ = z & 15;
+                    for (int x = minX; x <= maxX; x++) {
+                        visitor.visit(x, y, z, states.get(x & 15, localY, localZ));
+                    }
+                }
+            }
+        }
+    }
+}
@@ -24,8 +24,10 @@
  */
 package org.spongepowered.common.world.volume;
 
+import net.minecraft.world.level.ChunkPos;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.Sponge;
 import org.spongepowered.api.event.EventContextKeys;
 import org.spongepowered.api.world.volume.MutableVolume;
 import org.spongepowered.api.world.volume.Volume;
@@ -37,28 +39,49 @@
 import org.spongepowered.api.world.volume.stream.VolumePositionTranslator;
 import org.spongepowered.api.world.volume.stream.VolumePredicate;
 import org.spongepowered.api.world.volume.stream.VolumeStream;
+import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.phase.plugin.PluginPhase;
+import org.spongepowered.math.vector.Vector3d;
 
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public class SpongeVolumeStream<V extends Volume, T> implements VolumeStream<V, T> {
 
     private final Supplier<? extends V> volumeSupplier;
     private final Stream<VolumeElement<V, T>> stream;
+    // Only present while the elements are still the untransformed block states
+    // of the source, in which case terminal operations can walk the sections directly
+    private final @Nullable ChunkSectionBlockSource<?> blockSource;
 
     public SpongeVolumeStream(final Stream<VolumeElement<V, T>> elementStream,
         final Supplier<? extends V> volumeSupplier
+    ) {
+        this(elementStream, volumeSupplier, null);
+    }
+
+    SpongeVolumeStream(final Stream<VolumeElement<V, T>> elementStream,
+        final Supplier<? extends V> volumeSupplier,
+        final @Nullable ChunkSectionBlockSource<?> blockSource
     ) {
         this.stream = elementStream;
         this.volumeSupplier = volumeSupplier;
+        this.blockSource = blockSource;
+    }
+
+    SpongeVolumeStream<V, T> withBlockSource(final ChunkSectionBlockSource<?> blockSource) {
+        return new SpongeVolumeStream<>(this.stream, this.volumeSupplier, blockSource);
     }
 
     @Override
@@ -204,8 +227,31 @@ public Stream<VolumeElement<V, T>> toStream() {
         return this.stream;
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public <W extends MutableVolume> void apply(final VolumeCollector<W, T, ?> collector) {
+        final @Nullable ChunkSectionBlockSource<?> blockSource = this.blockSource;
+        if (blockSource != null) {
+            this.startPhase(() -> {
+                final W targetVolume = collector.target().get();
+                blockSource.walk((x, y, z, state) -> {
+                    final VolumeElement<W, T> transformed = collector.positionTransform().apply(VolumeElement.of(
+                        collector.target(),
+                        () -> (T) state,
+                        new Vector3d(x, y, z)
+                    ));
+                    collector.applicator()
+                        .apply(targetVolume, transformed);
+                });
+            });
+            return;
+        }
+        if (this.stream.isParallel()) {
+            // apply is expected to have finished writing when it returns, so
+            // callers off the server thread wait for the queued batches
+            this.applyInChunkBatches(collector).join();
+            return;
+        }
         this.startPhase(() -> {
             this.stream.forEach(element -> {
                 final W targetVolume = collector.target().get();
@@ -220,6 +266,48 @@ public <W extends MutableVolume> void apply(final VolumeCollector<W, T, ?> colle
         });
     }
 
+    /**
+     * Collects the stream into per-chunk batches and writes them one chunk at
+     * a time on the server thread.
+     *
+     * @param collector The collector
+     * @return A future completed once every batch has been written, which is
+     *     already complete when called from the server thread
+     */
+    private <W extends MutableVolume> CompletableFuture<Void> applyInChunkBatches(final VolumeCollector<W, T, ?> collector) {
+        // Elements are read and transformed across the pool, but are only ever written
+        // one target chunk at a time from the server thread, so writes cannot race.
+        final Map<Long, List<VolumeElement<W, T>>> batches = this.stream
+            .map(element -> collector.positionTransform().apply(VolumeElement.of(
+                collector.target(),
+                element::type,
+                element.position()
+            )))
+            .collect(Collectors.groupingByConcurrent(element -> ChunkPos.asLong(
+                element.position().floorX() >> 4,
+                element.position().floorZ() >> 4
+            )));
+        if (Sponge.isServerAvailable() && !Sponge.server().onMainThread()) {
+            final CompletableFuture<?>[] writes = batches.values().stream()
+                .map(batch -> CompletableFuture.runAsync(() -> this.writeBatch(collector, batch), SpongeCommon.server()))
+                .toArray(CompletableFuture[]::new);
+            return CompletableFuture.allOf(writes);
+        }
+        for (final List<VolumeElement<W, T>> batch : batches.values()) {
+            this.writeBatch(collector, batch);
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private <W extends MutableVolume> void writeBatch(final VolumeCollector<W, T, ?> collector, final List<VolumeElement<W, T>> batch) {
+        this.startPhase(() -> {
+            final W targetVolume = collector.target().get();
+            for (final VolumeElement<W, T> element : batch) {
+                collector.applicator().apply(targetVolume, element);
+            }
+        });
+    }
+
     @Override
     public <W extends MutableVolume, R> void applyUntil(final VolumeCollector<W, T, R> collector, final Predicate<R> predicate) {
         this.startPhase(() -> {
@@ -239,8 +327,17 @@ public <W extends MutableVolume, R> void applyUntil(final VolumeCollector<W, T,
         });
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public void forEach(final VolumeConsumer<V, T> visitor) {
+        final @Nullable ChunkSectionBlockSource<?> blockSource = this.blockSource;
+        if (blockSource != null) {
+            this.startPhase(() -> {
+                final V volume = this.volumeSupplier.get();
+                blockSource.walk((x, y, z, state) -> visitor.consume(volume, (T) state, x, y, z));
+            });
+            return;
+        }
         this.startPhase(() -> {
             this.stream.forEach(element -> visitor.consume(
                 element.volume(),
@@ -70,12 +70,15 @@
 import org.spongepowered.common.world.volume.buffer.block.ArrayMutableBlockBuffer;
 import org.spongepowered.common.world.volume.buffer.blockentity.ObjectArrayMutableBlockEntityBuffer;
 import org.spongepowered.common.world.volume.buffer.entity.ObjectArrayMutableEntityBuffer;
+import org.spongepowered.common.world.volume.stream.SpongeStreamOptions;
 import org.spongepowered.math.vector.Vector3d;
 import org.spongepowered.math.vector.Vector3i;
 
 import java.lang.ref.WeakReference;
 import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -440,7 +443,12 @@ public static <W extends Region<W>> VolumeStream<W, org.spongepowered.api.block.
         } else {
             backingVolume = null;
         }
-        return VolumeStreamUtils.<W, org.spongepowered.api.block.BlockState, net.minecraft.world.level.block.state.BlockState, ChunkAccess, BlockPos>generateStream(
+        final BiFunction<W, ChunkPos, @Nullable ChunkAccess> chunkAccessor = VolumeStreamUtils.getChunkAccessorByStatus(reader,
+            options.loadingStyle().generateArea());
+        if (!shouldCarbonCopy && VolumeStreamUtils.isParallel(options)) {
+            return VolumeStreamUtils.generateParallelBlockStream((W) reader, min, max, chunkAccessor);
+        }
+        final VolumeStream<W, org.spongepowered.api.block.BlockState> stream = VolumeStreamUtils.<W, org.spongepowered.api.block.BlockState, net.minecraft.world.level.block.state.BlockState, ChunkAccess, BlockPos>generateStream(
             min,
             max,
             options,
@@ -449,7 +457,7 @@ public static <W extends Region<W>> VolumeStream<W, org.spongepowered.api.block.
             // IdentityFunction
             VolumeStreamUtils.getOrCopyBlockState(shouldCarbonCopy, backingVolume),
             // ChunkAccessor
-            VolumeStreamUtils.getChunkAccessorByStatus(reader, options.loadingStyle().generateArea()),
+            chunkAccessor,
             // Biome by block position
             (key, biome) -> key,
             // Entity Accessor
@@ -457,6 +465,46 @@ public static <W extends Region<W>> VolumeStream<W, org.spongepowered.api.block.
             // Filtered Position Entity Accessor
             VolumeStreamUtils.getBlockStateFromThisOrCopiedVolume(shouldCarbonCopy, backingVolume)
         );
+        // Copied or eagerly collected streams have to be read from what they captured, but
+        // lazy streams over the live level can have their terminal operations walk the
+        // chunk sections directly instead of going through an element per block.
+        if (shouldCarbonCopy || options.loadingStyle().immediateLoading()) {
+            return stream;
+        }
+        final SpongeVolumeStream<W, org.spongepowered.api.block.BlockState> spongeStream = (SpongeVolumeStream<W, org.spongepowered.api.block.BlockState>) stream;
+        return spongeStream.withBlockSource(new ChunkSectionBlockSource<>(
+            VolumeStreamUtils.createWeaklyReferencedSupplier((W) reader, "World"), chunkAccessor, min, max));
+    }
+
+    public static boolean isParallel(final StreamOptions options) {
+        return options instanceof SpongeStreamOptions && ((SpongeStreamOptions) options).parallel();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <W extends Region<W>> VolumeStream<W, org.spongepowered.api.block.BlockState> generateParallelBlockStream(
+        final W ref, final Vector3i min, final Vector3i max, final BiFunction<W, ChunkPos, @Nullable ChunkAccess> chunkAccessor
+    ) {
+        final Supplier<W> worldSupplier = VolumeStreamUtils.createWeaklyReferencedSupplier(ref, "World");
+        // Chunks have to be resolved here, on the creating thread: asking the level for a chunk
+        // from a pool worker would block on the server thread, which may itself be waiting on the pool.
+        final List<ChunkAccess> chunks = new ArrayList<>();
+        for (int chunkX = min.x() >> 4; chunkX <= max.x() >> 4; chunkX++) {
+            for (int chunkZ = min.z() >> 4; chunkZ <= max.z() >> 4; chunkZ++) {
+                final @Nullable ChunkAccess chunk = chunkAccessor.apply(ref, new ChunkPos(chunkX, chunkZ));
+                if (chunk != null) {
+                    chunks.add(chunk);
+                }
+            }
+        }
+        // From here on states are only ever read from the resolved sections, never through the level
+        final Function<ChunkAccess, Stream<Map.Entry<BlockPos, BlockState>>> statesBySection = VolumeStreamUtils.getBlockStatesForSections(min, max);
+        final Stream<VolumeElement<W, org.spongepowered.api.block.BlockState>> elements = chunks.parallelStream()
+            .flatMap(statesBySection)
+            .map(entry -> {
+                final org.spongepowered.api.block.BlockState state = (org.spongepowered.api.block.BlockState) entry.getValue();
+                return VolumeElement.of(worldSupplier, () -> state, VecHelper.toVector3d(entry.getKey()));
+            });
+        return new SpongeVolumeStream<>(elements, worldSupplier);
     }
 
     public static <R extends Region<R>> VolumeStream<R, BlockEntity> getBlockEntityStream(final LevelReader reader, final Vector3i min, final Vector3i max, final StreamOptions options) {
@@ -81,16 +81,9 @@ public ArrayMutableBlockBuffer(final Palette<BlockState, BlockType> palette, fin
         this.palette = mutablePalette;
         final int airId = mutablePalette.orAssign(ArrayMutableBlockBuffer.AIR);
 
-        final int dataSize = this.area();
         this.defaultState = defaultState;
-        this.data = new BlockBackingData.PackedBackingData(dataSize, palette.highestId());
-
         // all blocks default to air
-        if (airId != 0) {
-            for (int i = 0; i < dataSize; i++) {
-                this.data.set(i, airId);
-            }
-        }
+        this.data = new BlockBackingData.SectionedBackingData(this.area(), airId);
         this.registries = Sponge.game();
     }
 
@@ -24,6 +24,7 @@
  */
 package org.spongepowered.common.world.volume.buffer.block;
 
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
 import net.minecraft.util.Mth;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
@@ -212,4 +213,191 @@ public int hashCode() {
             return result;
         }
     }
+
+    /**
+     * Splits the ids into sections of {@link #SECTION_SIZE} entries, each with
+     * its own small palette of ids, similarly to a chunk's paletted container.
+     * A section holding a single id takes up constant space, and sections are
+     * shared between copies until either side writes to them.
+     */
+    class SectionedBackingData implements BlockBackingData {
+
+        static final int SECTION_BITS = 12;
+        static final int SECTION_SIZE = 1 << SectionedBackingData.SECTION_BITS;
+        private static final int SECTION_MASK = SectionedBackingData.SECTION_SIZE - 1;
+        /** The palette size above which ids are looked up through a map instead of a scan */
+        private static final int LINEAR_PALETTE_LIMIT = 16;
+
+        private final Section[] sections;
+        private final int size;
+
+        /**
+         * Creates a new SectionedBackingData with every entry set to {@code initialValue}.
+         *
+         * @param size The number of elements
+         * @param initialValue The id every element starts out with
+         */
+        public SectionedBackingData(final int size, final int initialValue) {
+            this.size = size;
+            this.sections = new Section[(size + SectionedBackingData.SECTION_MASK) >>> SectionedBackingData.SECTION_BITS];
+            // A single shared section is enough to back the whole volume until it is written to
+            final Section initial = new Section(initialValue);
+            initial.shared = true;
+            Arrays.fill(this.sections, initial);
+        }
+
+        private SectionedBackingData(final int size, final Section[] sections) {
+            this.size = size;
+            this.sections = sections;
+        }
+
+        @Override
+        public int get(final int index) {
+            final Section section = this.sections[index >>> SectionedBackingData.SECTION_BITS];
+            final @Nullable PackedBackingData ids = section.ids;
+            if (ids == null) {
+                return section.palette[0];
+            }
+            return section.palette[ids.get(index & SectionedBackingData.SECTION_MASK)];
+        }
+
+        @Override
+        public void set(final int index, final int val) {
+            final int sectionIndex = index >>> SectionedBackingData.SECTION_BITS;
+            Section section = this.sections[sectionIndex];
+            if (section.ids == null && section.palette[0] == val) {
+                return;
+            }
+            if (section.shared) {
+                section = section.copy();
+                this.sections[sectionIndex] = section;
+            }
+            section.set(index & SectionedBackingData.SECTION_MASK, val, this.sectionLength(sectionIndex));
+        }
+
+        private int sectionLength(final int sectionIndex) {
+            return Math.min(SectionedBackingData.SECTION_SIZE, this.size - (sectionIndex << SectionedBackingData.SECTION_BITS));
+        }
+
+        @Override
+        public SectionedBackingData copyOf() {
+            for (final Section section : this.sections) {
+                section.shared = true;
+            }
+            return new SectionedBackingData(this.size, this.sections.clone());
+        }
+
+        @Override
+        public int getMax() {
+            // Ids only ever end up in a section palette, so any non negative id fits
+            return Integer.MAX_VALUE;
+        }
+
+        @Override
+        public boolean equals(final @Nullable Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || this.getClass() != o.getClass()) {
+                return false;
+            }
+            final SectionedBackingData that = (SectionedBackingData) o;
+            if (this.size != that.size) {
+                return false;
+            }
+            for (int i = 0; i < this.size; i++) {
+                if (this.get(i) != that.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = this.size;
+            for (int i = 0; i < this.size; i++) {
+                result = 31 * result + this.get(i);
+            }
+            return result;
+        }
+
+        private static final class Section {
+
+            /** Local id to id, only the first {@link #paletteSize} entries are in use */
+            int[] palette;
+            int paletteSize;
+            /** Local ids of every entry, or null while the section holds a single id */
+            @Nullable PackedBackingData ids;
+            /** Id to local id, only built once the palette outgrows a linear scan */
+            @Nullable Int2IntOpenHashMap lookup;
+            /** Whether more than one backing data may reference this section */
+            volatile boolean shared;
+
+            Section(final int value) {
+                this.palette = new int[] {value};
+                this.paletteSize = 1;
+            }
+
+            private Section(final Section other) {
+                this.palette = other.palette.clone();
+                this.paletteSize = other.paletteSize;
+                this.ids = other.ids == null ? null : other.ids.copyOf();
+                this.lookup = other.lookup == null ? null : new Int2IntOpenHashMap(other.lookup);
+            }
+
+            Section copy() {
+                return new Section(this);
+            }
+
+            void set(final int index, final int value, final int length) {
+                final int localId = this.localIdOrAssign(value);
+                @Nullable PackedBackingData ids = this.ids;
+                if (ids == null) {
+                    // Everything else in the section keeps local id 0, the former single value
+                    ids = new PackedBackingData(length, localId);
+                    this.ids = ids;
+                } else if (localId > ids.getMax()) {
+                    final PackedBackingData resized = new PackedBackingData(length, localId);
+                    for (int i = 0; i < length; i++) {
+                        resized.set(i, ids.get(i));
+                    }
+                    ids = resized;
+                    this.ids = ids;
+                }
+                ids.set(index, localId);
+            }
+
+            private int localIdOrAssign(final int value) {
+                final @Nullable Int2IntOpenHashMap lookup = this.lookup;
+                if (lookup != null) {
+                    final int localId = lookup.getOrDefault(value, -1);
+                    if (localId != -1) {
+                        return localId;
+                    }
+                } else {
+                    for (int i = 0; i < this.paletteSize; i++) {
+                        if (this.palette[i] == value) {
+                            return i;
+                        }
+                    }
+                }
+                final int localId = this.paletteSize++;
+                if (localId == this.palette.length) {
+                    this.palette = Arrays.copyOf(this.palette, localId * 2);
+                }
+                this.palette[localId] = value;
+                if (lookup != null) {
+                    lookup.put(value, localId);
+                } else if (this.paletteSize > SectionedBackingData.LINEAR_PALETTE_LIMIT) {
+                    final Int2IntOpenHashMap built = new Int2IntOpenHashMap(this.paletteSize * 2);
+                    for (int i = 0; i < this.paletteSize; i++) {
+                        built.put(this.palette[i], i);
+                    }
+                    this.lookup = built;
+                }
+                return localId;
+            }
+        }
+    }
 }
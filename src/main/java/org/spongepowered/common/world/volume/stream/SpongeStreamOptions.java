@@ -34,11 +34,26 @@ public class SpongeStreamOptions implements StreamOptions {
 
     private final boolean copies;
     private final LoadingStyle loadingStyle;
+    private final boolean parallel;
 
     SpongeStreamOptions(final SpongeStreamOptionsBuilder builder) {
         Objects.requireNonNull(builder, "Builder cannot be null!");
         this.loadingStyle = builder.loadingStyle;
         this.copies = builder.copies;
+        this.parallel = builder.parallel;
+    }
+
+    /**
+     * Gets whether the stream should be split by chunk and evaluated across
+     * the common fork join pool. Chunks are resolved up front on the creating
+     * thread, only reads happen in parallel, and any writes are applied one
+     * chunk at a time from the server thread. Currently only honoured by
+     * block state streams that are not carbon copied.
+     *
+     * @return Whether the stream is evaluated in parallel
+     */
+    public boolean parallel() {
+        return this.parallel;
     }
 
     @Override
@@ -60,12 +75,12 @@ public boolean equals(final @Nullable Object o) {
             return false;
         }
         final SpongeStreamOptions that = (SpongeStreamOptions) o;
-        return this.copies == that.copies && this.loadingStyle == that.loadingStyle;
+        return this.copies == that.copies && this.loadingStyle == that.loadingStyle && this.parallel == that.parallel;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.copies, this.loadingStyle);
+        return Objects.hash(this.copies, this.loadingStyle, this.parallel);
     }
 
     @Override
@@ -77,6 +92,7 @@ public String toString() {
         )
             .add("copies=" + this.copies)
             .add("loadingStyle=" + this.loadingStyle)
+            .add("parallel=" + this.parallel)
             .toString();
     }
 }
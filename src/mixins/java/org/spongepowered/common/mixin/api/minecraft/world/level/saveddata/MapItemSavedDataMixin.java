@@ -86,6 +86,11 @@ public abstract class MapItemSavedDataMixin extends SavedData implements MapItem
         this.shadow$setColorsDirty(Constants.Map.MAP_MAX_INDEX, Constants.Map.MAP_MAX_INDEX);
     }
 
+    @Override
+    public void bridge$setColorsDirty(final int x, final int y) {
+        this.shadow$setColorsDirty(x, y);
+    }
+
     @SuppressWarnings("SuspiciousMethodCalls")
     @Override
     public void bridge$setDecorations(final Set<org.spongepowered.api.map.decoration.MapDecoration> newDecorations) {
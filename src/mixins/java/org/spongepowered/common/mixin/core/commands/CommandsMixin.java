@@ -36,8 +36,12 @@
 import net.minecraft.commands.SharedSuggestionProvider;
 import net.minecraft.commands.synchronization.SuggestionProviders;
 import net.minecraft.server.commands.AdvancementCommands;
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.game.ClientboundCommandsPacket;
 import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.server.network.ServerGamePacketListenerImpl;
 import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.event.CauseStackManager;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
@@ -53,6 +57,7 @@
 import org.spongepowered.common.command.brigadier.tree.SpongeArgumentCommandNode;
 import org.spongepowered.common.command.brigadier.tree.SpongeNode;
 import org.spongepowered.common.command.brigadier.tree.SuggestionArgumentNode;
+import org.spongepowered.common.command.manager.CommandTreeCache;
 import org.spongepowered.common.command.manager.SpongeCommandManager;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.launch.Launch;
@@ -81,6 +86,9 @@ public abstract class CommandsMixin implements CommandsBridge {
     private final WeakHashMap<ServerPlayer, Map<CommandNode<CommandSourceStack>, List<CommandNode<SharedSuggestionProvider>>>> impl$playerNodeCache =
             new WeakHashMap<>();
     private @MonotonicNonNull SpongeCommandManager impl$commandManager;
+    private CommandTreeCache.@Nullable Fingerprint impl$pendingFingerprint;
+    private @Nullable Map<CommandNode<CommandSourceStack>, List<CommandNode<SharedSuggestionProvider>>> impl$pendingPlayerNodes;
+    private boolean impl$rebuildingCommands;
 
     // We prepare our own dispatcher and commands manager, to redirect registrations to our system
     @Redirect(method = "<init>", at = @At(
@@ -117,6 +125,49 @@ public abstract class CommandsMixin implements CommandsBridge {
         }
     }
 
+    /*
+     * Players with the same permission fingerprint see the same tree, so we
+     * send the packet built for the first of them to all the others. A
+     * rebuild replaces the cached tree instead of reusing it.
+     */
+    @Inject(method = "sendCommands", at = @At("HEAD"), cancellable = true)
+    private void impl$sendCachedCommandTree(final ServerPlayer player, final CallbackInfo ci) {
+        this.impl$pendingFingerprint = null;
+        this.impl$pendingPlayerNodes = null;
+        if (this.impl$commandManager == null) {
+            return;
+        }
+        final CommandTreeCache cache = this.impl$commandManager.commandTreeCache();
+        final CommandTreeCache.@Nullable Fingerprint fingerprint = cache.fingerprint(player);
+        if (fingerprint == null) {
+            return;
+        }
+        final CommandTreeCache.@Nullable Entry entry = this.impl$rebuildingCommands ? null : cache.get(fingerprint);
+        if (entry != null) {
+            this.impl$playerNodeCache.put(player, entry.playerNodes());
+            player.connection.send(entry.packet());
+            ci.cancel();
+            return;
+        }
+        this.impl$pendingFingerprint = fingerprint;
+    }
+
+    @Redirect(method = "sendCommands", at = @At(value = "INVOKE",
+            target = "Lnet/minecraft/server/network/ServerGamePacketListenerImpl;send(Lnet/minecraft/network/protocol/Packet;)V"))
+    private void impl$cacheCommandTree(final ServerGamePacketListenerImpl connection, final Packet<?> packet, final ServerPlayer player) {
+        final @Nullable Map<CommandNode<CommandSourceStack>, List<CommandNode<SharedSuggestionProvider>>> playerNodes = this.impl$pendingPlayerNodes;
+        if (playerNodes != null) {
+            this.impl$playerNodeCache.put(player, playerNodes);
+        }
+        if (this.impl$pendingFingerprint != null && packet instanceof ClientboundCommandsPacket commandsPacket) {
+            this.impl$commandManager.commandTreeCache().put(this.impl$pendingFingerprint,
+                    new CommandTreeCache.Entry(commandsPacket, playerNodes == null ? Collections.emptyMap() : playerNodes));
+        }
+        this.impl$pendingFingerprint = null;
+        this.impl$pendingPlayerNodes = null;
+        connection.send(packet);
+    }
+
     /*
      * Hides nodes that we have marked as "hidden"
      */
@@ -170,8 +221,8 @@ public abstract class CommandsMixin implements CommandsBridge {
             final Map<CommandNode<CommandSourceStack>, CommandNode<SharedSuggestionProvider>> commandNodeToSuggestionNode) {
         if (!map.containsKey(key)) {
             // done here because this check is applicable
-            final ServerPlayer e = (ServerPlayer) source.getEntity();
-            final Map<CommandNode<CommandSourceStack>, List<CommandNode<SharedSuggestionProvider>>> playerNodes = this.impl$playerNodeCache.get(e);
+            final Map<CommandNode<CommandSourceStack>, List<CommandNode<SharedSuggestionProvider>>> playerNodes =
+                    this.impl$playerNodes((ServerPlayer) source.getEntity());
             if (!playerNodes.containsKey(key)) {
                 final List<CommandNode<SharedSuggestionProvider>> children = new ArrayList<>();
                 children.add((CommandNode<SharedSuggestionProvider>) value);
@@ -208,8 +259,8 @@ public abstract class CommandsMixin implements CommandsBridge {
             final CommandSourceStack sourceButTyped,
             final Map<CommandNode<CommandSourceStack>, CommandNode<SharedSuggestionProvider>> commandNodeToSuggestionNode
     ) {
-        final ServerPlayer e = (ServerPlayer) sourceButTyped.getEntity();
-        final Map<CommandNode<CommandSourceStack>, List<CommandNode<SharedSuggestionProvider>>> playerNodes = this.impl$playerNodeCache.get(e);
+        final Map<CommandNode<CommandSourceStack>, List<CommandNode<SharedSuggestionProvider>>> playerNodes =
+                this.impl$playerNodes((ServerPlayer) sourceButTyped.getEntity());
         final List<CommandNode<SharedSuggestionProvider>> existingNodes = playerNodes.get(commandNode);
         if (existingNodes != null) {
             if (!existingNodes.isEmpty()) {
@@ -304,6 +355,24 @@ public abstract class CommandsMixin implements CommandsBridge {
         return this.impl$commandManager;
     }
 
+    @Override
+    public void bridge$rebuildCommands(final ServerPlayer player) {
+        this.impl$rebuildingCommands = true;
+        try {
+            ((Commands) (Object) this).sendCommands(player);
+        } finally {
+            this.impl$rebuildingCommands = false;
+        }
+    }
+
+    private Map<CommandNode<CommandSourceStack>, List<CommandNode<SharedSuggestionProvider>>> impl$playerNodes(final ServerPlayer player) {
+        final Map<CommandNode<CommandSourceStack>, List<CommandNode<SharedSuggestionProvider>>> playerNodes = this.impl$playerNodeCache.get(player);
+        // Kept with the tree being built, so that players it is shared with
+        // get the same nodes
+        this.impl$pendingPlayerNodes = playerNodes;
+        return playerNodes;
+    }
+
     private Collection<CommandNode<CommandSourceStack>> impl$getChildrenFromNode(final CommandNode<CommandSourceStack> parentNode) {
         final Collection<CommandNode<CommandSourceStack>> nodes;
         if (parentNode instanceof SpongeNode) {
@@ -42,6 +42,7 @@
 import org.spongepowered.common.block.SpongeBlockSnapshot;
 import org.spongepowered.common.bridge.data.SpongeDataHolderBridge;
 import org.spongepowered.common.data.DataUtil;
+import org.spongepowered.common.data.SerializedCustomData;
 import org.spongepowered.common.data.SpongeDataManager;
 import org.spongepowered.common.data.holder.SimpleNBTDataHolder;
 import org.spongepowered.common.entity.SpongeEntityArchetype;
@@ -57,17 +58,56 @@
         LevelChunk.class})
 public abstract class SpongeDataHolderMixin implements SpongeDataHolderBridge {
 
-    private DataManipulator.Mutable impl$manipulator;
+    private volatile DataManipulator.Mutable impl$manipulator;
     private Multimap<DataQuery, DataView> impl$failedData;
+    private volatile SerializedCustomData impl$serializedData;
     private boolean deserializing = false;
+    // Item stacks are deserialized lazily and may be read off the server thread first,
+    // so the manipulator is only handed out unlocked once it is completely loaded.
+    private volatile boolean impl$manipulatorLoaded;
+    private boolean impl$loadingManipulator;
 
     @Override
     public DataManipulator.Mutable bridge$getManipulator() {
-        if (this.impl$manipulator == null) {
-            this.impl$manipulator = DataManipulator.mutableOf();
-            DataUtil.syncTagToData(this);
+        final DataManipulator.Mutable manipulator = this.impl$manipulator;
+        if (manipulator != null && this.impl$manipulatorLoaded) {
+            return manipulator;
+        }
+        synchronized (this) {
+            if (this.impl$manipulator == null) {
+                this.impl$manipulator = DataManipulator.mutableOf();
+                this.impl$loadingManipulator = true;
+                try {
+                    DataUtil.syncTagToData(this);
+                } finally {
+                    this.impl$loadingManipulator = false;
+                }
+            }
+            if (!this.impl$loadingManipulator) {
+                // Not a reentrant call made while loading
+                this.impl$manipulatorLoaded = true;
+            }
+            return this.impl$manipulator;
+        }
+    }
+
+    @Override
+    public boolean bridge$hasManipulator() {
+        return this.impl$manipulator != null;
+    }
+
+    @Override
+    public SerializedCustomData bridge$getSerializedData() {
+        SerializedCustomData serializedData = this.impl$serializedData;
+        if (serializedData == null) {
+            synchronized (this) {
+                serializedData = this.impl$serializedData;
+                if (serializedData == null) {
+                    serializedData = this.impl$serializedData = new SerializedCustomData();
+                }
+            }
         }
-        return this.impl$manipulator;
+        return serializedData;
     }
 
     @Override
@@ -87,6 +127,8 @@ public abstract class SpongeDataHolderMixin implements SpongeDataHolderBridge {
                 }
             } else {
                 this.impl$manipulator.copyFrom(manipulator);
+                // Written without going through the keys
+                this.bridge$getSerializedData().invalidate();
             }
         } finally {
             this.deserializing = false;
@@ -94,8 +136,10 @@ public abstract class SpongeDataHolderMixin implements SpongeDataHolderBridge {
     }
 
     @Override
-    public void bridge$clear() {
+    public synchronized void bridge$clear() {
+        this.impl$manipulatorLoaded = false;
         this.impl$manipulator = null;
+        this.impl$serializedData = null;
         this.impl$failedData = HashMultimap.create();
     }
 
@@ -81,6 +81,7 @@
 import org.spongepowered.common.config.inheritable.InheritableConfigHandle;
 import org.spongepowered.common.config.inheritable.WorldConfig;
 import org.spongepowered.common.datapack.SpongeDataPackManager;
+import org.spongepowered.common.event.manager.SpongeEventManager;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.service.server.SpongeServerScopedServiceProvider;
 
@@ -167,6 +168,7 @@ public Subject subject() {
 
     @Inject(method = "tickServer", at = @At(value = "HEAD"))
     private void impl$onServerTickStart(final CallbackInfo ci) {
+        ((SpongeEventManager) Sponge.eventManager()).updateTickMetrics();
         this.scheduler().tick();
     }
 
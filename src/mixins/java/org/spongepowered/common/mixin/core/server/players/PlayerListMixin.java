@@ -26,7 +26,6 @@
 
 import io.netty.channel.local.LocalAddress;
 import net.kyori.adventure.audience.Audience;
-import net.kyori.adventure.identity.Identity;
 import net.kyori.adventure.text.Component;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Registry;
@@ -439,7 +438,7 @@ public abstract class PlayerListMixin implements PlayerListBridge {
                 Optional.of(audience), joinComponent, joinComponent, connection, player, SpongeGameProfile.of(mcPlayer.getGameProfile()), false);
         SpongeCommon.post(event);
         if (!event.isMessageCancelled()) {
-            event.audience().ifPresent(audience1 -> audience1.sendMessage(Identity.nil(), event.message()));
+            event.audience().ifPresent(audience1 -> SpongeAdventure.broadcastMessage(audience1, event.message()));
         }
 
         ((ServerPlayerBridge) mcPlayer).bridge$setConnectionMessageToSend(null);
@@ -587,7 +586,11 @@ public abstract class PlayerListMixin implements PlayerListBridge {
 
     @Inject(method = "saveAll()V", at = @At("RETURN"))
     private void impl$saveDirtyUsersOnSaveAll(final CallbackInfo ci) {
-        ((SpongeServer) SpongeCommon.server()).userManager().saveDirtyUsers();
+        final CompletableFuture<Void> saves = ((SpongeServer) SpongeCommon.server()).userManager().saveDirtyUsers();
+        if (!SpongeCommon.server().isRunning()) {
+            // Shutting down, the user data thread will not outlive the server
+            saves.join();
+        }
     }
 
     @Inject(method = "broadcastSystemMessage(Lnet/minecraft/network/chat/Component;Ljava/util/function/Function;Z)V",
@@ -609,7 +612,7 @@ public abstract class PlayerListMixin implements PlayerListBridge {
         }
 
         this.impl$isDuringSystemMessageEvent = true;
-        event.audience().ifPresent(audience -> audience.sendMessage(event.message()));
+        event.audience().ifPresent(audience -> SpongeAdventure.broadcastMessage(audience, event.message()));
         this.impl$isDuringSystemMessageEvent = false;
     }
 
@@ -30,7 +30,6 @@
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.component.CustomData;
-import net.minecraft.world.level.ItemLike;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.data.DataTransactionResult;
@@ -41,13 +40,11 @@
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
-import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.common.accessor.world.item.component.CustomDataAccessor;
 import org.spongepowered.common.bridge.data.DataCompoundHolder;
 import org.spongepowered.common.bridge.data.DataHolderProcessor;
 import org.spongepowered.common.bridge.data.SpongeDataHolderBridge;
-import org.spongepowered.common.data.DataUtil;
 import org.spongepowered.common.data.provider.nbt.NBTDataType;
 import org.spongepowered.common.data.provider.nbt.NBTDataTypes;
 
@@ -106,30 +103,24 @@ public abstract class ItemStackMixin implements SpongeDataHolderBridge, DataComp
     @SuppressWarnings("ConstantConditions")
     @Inject(method = "copy", at = @At("RETURN"))
     private void impl$onCopy(final CallbackInfoReturnable<ItemStack> info) {
-        ((SpongeDataHolderBridge) (Object) info.getReturnValue()).bridge$mergeDeserialized(this.bridge$getManipulator());
+        // Otherwise the copy deserializes its own copy of the custom data once needed
+        if (this.bridge$hasManipulator()) {
+            ((SpongeDataHolderBridge) (Object) info.getReturnValue()).bridge$mergeDeserialized(this.bridge$getManipulator());
+        }
     }
 
     @SuppressWarnings("ConstantConditions")
     @Inject(method = "split", at = @At("RETURN"))
     private void impl$onSplit(final int amount, final CallbackInfoReturnable<net.minecraft.world.item.ItemStack> info) {
-        ((SpongeDataHolderBridge) (Object) info.getReturnValue()).bridge$mergeDeserialized(this.bridge$getManipulator());
-    }
-
-    // Read custom data from nbt
-    @Inject(method = "<init>(Lnet/minecraft/world/level/ItemLike;ILnet/minecraft/core/component/PatchedDataComponentMap;)V", at = @At("RETURN"))
-    private void impl$onRead(final ItemLike $$0, final int $$1, final PatchedDataComponentMap $$2, final CallbackInfo ci) {
-        if (!this.shadow$isEmpty()) {
-            DataUtil.syncTagToData(this); // Deserialize
-            DataUtil.syncDataToTag(this); // Sync back after reading
+        if (this.bridge$hasManipulator()) {
+            ((SpongeDataHolderBridge) (Object) info.getReturnValue()).bridge$mergeDeserialized(this.bridge$getManipulator());
         }
     }
 
     @Inject(method = "set", at = @At("RETURN"))
     private <T> void impl$onSetCustomData(final DataComponentType<? super T> $$0, final T $$1, final CallbackInfoReturnable<T> cir) {
         if ($$0.equals(DataComponents.CUSTOM_DATA)) {
-            this.bridge$clear();
-            DataUtil.syncTagToData(this); // Deserialize
-            DataUtil.syncDataToTag(this); // Sync back after reading
+            this.bridge$clear(); // Deserialized again on next access
         }
     }
 
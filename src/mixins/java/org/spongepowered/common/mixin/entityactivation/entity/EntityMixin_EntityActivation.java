@@ -52,6 +52,8 @@ public abstract class EntityMixin_EntityActivation implements ActivationCapabili
     private boolean entityActivation$defaultState = true;
     private long entityActivation$activatedTick = Integer.MIN_VALUE;
     private int entityActivation$range;
+    private int entityActivation$tickRate;
+    private long entityActivation$rateTick = Integer.MIN_VALUE;
     private boolean entityActivation$refreshCache = false;
 
     @Inject(method = "<init>", at = @At("RETURN"))
@@ -100,6 +102,26 @@ public abstract class EntityMixin_EntityActivation implements ActivationCapabili
         this.entityActivation$range = range;
     }
 
+    @Override
+    public int activation$getSpongeTickRate() {
+        return this.entityActivation$tickRate;
+    }
+
+    @Override
+    public void activation$setSpongeTickRate(final int tickRate) {
+        this.entityActivation$tickRate = tickRate;
+    }
+
+    @Override
+    public long activation$getRateTick() {
+        return this.entityActivation$rateTick;
+    }
+
+    @Override
+    public void activation$setRateTick(final long tick) {
+        this.entityActivation$rateTick = tick;
+    }
+
     @Override
     public void activation$requiresActivationCacheRefresh(final boolean flag) {
         this.entityActivation$refreshCache = flag;
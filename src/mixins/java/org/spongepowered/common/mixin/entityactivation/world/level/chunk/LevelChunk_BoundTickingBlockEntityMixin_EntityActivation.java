@@ -0,0 +1,63 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.entityactivation.world.level.chunk;
+
+import net.minecraft.world.level.block.entity.BlockEntity;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.config.inheritable.EntityActivationRangeCategory;
+import org.spongepowered.common.mixin.plugin.entityactivation.EntityActivationRange;
+
+@Mixin(targets = "net/minecraft/world/level/chunk/LevelChunk$BoundTickingBlockEntity")
+public abstract class LevelChunk_BoundTickingBlockEntityMixin_EntityActivation {
+
+    // @formatter:off
+    @Shadow @Final private BlockEntity blockEntity;
+    // @formatter:on
+
+    private @Nullable EntityActivationRangeCategory activation$config;
+    private int activation$tickRate;
+
+    @Inject(method = "tick", at = @At("HEAD"), cancellable = true)
+    private void activation$checkIfCanTick(final CallbackInfo ci) {
+        final @Nullable EntityActivationRangeCategory config = EntityActivationRange.blockEntityConfig(this.blockEntity);
+        if (config == null) {
+            return;
+        }
+        if (config != this.activation$config) {
+            // Reloading the config replaces it, so the tick rate is read again
+            this.activation$config = config;
+            this.activation$tickRate = EntityActivationRange.blockEntityTickRate(this.blockEntity, config);
+        }
+        if (!EntityActivationRange.checkIfActive(this.blockEntity, this.activation$tickRate)) {
+            ci.cancel();
+        }
+    }
+}
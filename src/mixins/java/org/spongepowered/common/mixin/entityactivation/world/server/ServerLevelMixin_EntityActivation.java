@@ -24,6 +24,8 @@
  */
 package org.spongepowered.common.mixin.entityactivation.world.server;
 
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.longs.LongSets;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.Entity;
 import org.spongepowered.asm.mixin.Mixin;
@@ -32,13 +34,47 @@
 import org.spongepowered.asm.mixin.injection.Slice;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.common.bridge.activation.ActivationCapabilityBridge;
+import org.spongepowered.common.bridge.activation.ActivationWorldBridge;
 import org.spongepowered.common.mixin.core.world.level.LevelMixin;
 import org.spongepowered.common.mixin.plugin.entityactivation.EntityActivationRange;
 
 import java.util.function.BooleanSupplier;
 
 @Mixin(value = ServerLevel.class, priority = 1005)
-public abstract class ServerLevelMixin_EntityActivation extends LevelMixin {
+public abstract class ServerLevelMixin_EntityActivation extends LevelMixin implements ActivationWorldBridge {
+
+    private long activation$activationNanos;
+    private int activation$activatedEntities;
+    private int activation$inactiveEntities;
+    private LongSet activation$coverage = LongSets.EMPTY_SET;
+
+    @Override
+    public void activation$recordActivation(final long nanos, final int activated, final int inactive, final LongSet coverage) {
+        this.activation$activationNanos = nanos;
+        this.activation$activatedEntities = activated;
+        this.activation$inactiveEntities = inactive;
+        this.activation$coverage = coverage;
+    }
+
+    @Override
+    public boolean activation$isActivationCovered(final long chunkPos) {
+        return this.activation$coverage.contains(chunkPos);
+    }
+
+    @Override
+    public long activation$getActivationNanos() {
+        return this.activation$activationNanos;
+    }
+
+    @Override
+    public int activation$getActivatedEntities() {
+        return this.activation$activatedEntities;
+    }
+
+    @Override
+    public int activation$getInactiveEntities() {
+        return this.activation$inactiveEntities;
+    }
 
     @Inject(method = "tick",
         at = @At(value = "INVOKE", target = "Lnet/minecraft/util/profiling/ProfilerFiller;push(Ljava/lang/String;)V"),
@@ -25,6 +25,13 @@
 package org.spongepowered.common.mixin.plugin.entityactivation;
 
 import com.google.common.collect.ImmutableMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMaps;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSets;
+import net.minecraft.core.BlockPos;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
@@ -51,11 +58,15 @@
 import net.minecraft.world.entity.projectile.AbstractHurtingProjectile;
 import net.minecraft.world.entity.projectile.FireworkRocketEntity;
 import net.minecraft.world.entity.projectile.ThrowableProjectile;
-import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.entity.EntitySection;
 import net.minecraft.world.level.entity.EntitySectionStorage;
 import net.minecraft.world.level.entity.PersistentEntitySectionManager;
 import net.minecraft.world.phys.AABB;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.data.Keys;
 import org.spongepowered.api.entity.explosive.fused.FusedExplosive;
 import org.spongepowered.api.entity.projectile.Projectile;
@@ -67,6 +78,7 @@
 import org.spongepowered.common.accessor.world.phys.AABBAccessor;
 import org.spongepowered.common.bridge.TrackableBridge;
 import org.spongepowered.common.bridge.activation.ActivationCapabilityBridge;
+import org.spongepowered.common.bridge.activation.ActivationWorldBridge;
 import org.spongepowered.common.bridge.world.entity.EntityTypeBridge;
 import org.spongepowered.common.bridge.world.entity.PlatformEntityBridge;
 import org.spongepowered.common.bridge.world.level.LevelBridge;
@@ -79,6 +91,8 @@
 import org.spongepowered.common.config.inheritable.WorldConfig;
 
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 
 public final class EntityActivationRange {
@@ -91,14 +105,9 @@ public final class EntityActivationRange {
         .put((byte) 5, "misc")
         .build();
 
-    static AABB maxBB = new AABB(0, 0, 0, 0, 0, 0);
-    static AABB miscBB = new AABB(0, 0, 0, 0, 0, 0);
-    static AABB creatureBB = new AABB(0, 0, 0, 0, 0, 0);
-    static AABB monsterBB = new AABB(0, 0, 0, 0, 0, 0);
-    static AABB aquaticBB = new AABB(0, 0, 0, 0, 0, 0);
-    static AABB ambientBB = new AABB(0, 0, 0, 0, 0, 0);
     static AABB tileEntityBB = new AABB(0, 0, 0, 0, 0, 0);
     static Map<Byte, Integer> maxActivationRanges = new HashMap<>();
+    static Map<Byte, Integer> maxInactiveTickRanges = new HashMap<>();
 
     /**
      * Initializes an entities type on construction to specify what group this
@@ -164,6 +173,9 @@ public static void initializeEntityActivationState(final Entity entity) {
         final EntityActivationRangeCategory.ModSubCategory entityMod = config.mods.get(key.getNamespace());
         final int defaultActivationRange = config.globalRanges.get(activationTypeName);
 
+        final Integer modTickRate = entityMod == null ? null : entityMod.entityTickRates.getOrDefault(key.getPath(), entityMod.defaultTickRates.get(activationTypeName));
+        spongeEntity.activation$setSpongeTickRate(modTickRate != null ? modTickRate : config.globalTickRates.getOrDefault(activationTypeName, 0));
+
         if (entityMod == null) {
             // use default activation range
             spongeEntity.activation$setActivationRange(defaultActivationRange);
@@ -190,6 +202,15 @@ public static void initializeEntityActivationState(final Entity entity) {
                 }
             }
         }
+
+        // Inactive entities beyond the activation range are still checked as far as they tick at their tick rate
+        final int tickRate = spongeEntity.activation$getSpongeTickRate();
+        final int activationRange = spongeEntity.activation$getActivationRange();
+        if (tickRate > 0 && activationRange > 0) {
+            final int tickRange = EntityActivationRange.inactiveTickRange(tickRate, activationRange, config.maxTickRate);
+            EntityActivationRange.maxInactiveTickRanges
+                .compute(activationType, (k, maxRange) -> maxRange == null || tickRange > maxRange ? tickRange : maxRange);
+        }
     }
 
     /**
@@ -215,7 +236,8 @@ public static AABB growBb(final AABB target, final AABB source, final int x, fin
 
     /**
      * Find what entities are in range of the players in the world and set
-     * active if in range.
+     * active if in range. The ranges of all players are merged into one set
+     * of covered chunks first, so every entity is only visited once per tick.
      *
      * @param world The world to perform activation checks in
      */
@@ -224,87 +246,249 @@ public static void activateEntities(final ServerLevel world) {
             return;
         }
 
-        for (final ServerPlayer player : world.players()) {
-            int maxRange = 0;
-            for (final Integer range : EntityActivationRange.maxActivationRanges.values()) {
-                if (range > maxRange) {
-                    maxRange = range;
+        final long start = System.nanoTime();
+        final List<ServerPlayer> players = world.players();
+        if (players.isEmpty()) {
+            ((ActivationWorldBridge) world).activation$recordActivation(System.nanoTime() - start, 0, 0, LongSets.EMPTY_SET);
+            return;
+        }
+        final int maxTickRate = SpongeGameConfigs.getForWorld(world).get().entityActivationRange.maxTickRate;
+
+        int activationRange = 0;
+        for (final Integer range : EntityActivationRange.maxActivationRanges.values()) {
+            if (range > activationRange) {
+                activationRange = range;
+            }
+        }
+        int maxRange = activationRange;
+        for (final Integer range : EntityActivationRange.maxInactiveTickRanges.values()) {
+            if (range > maxRange) {
+                maxRange = range;
+            }
+        }
+        final int viewRange = (((ServerWorld) world).properties().viewDistance() << 4) - 8;
+        activationRange = Math.min(viewRange, activationRange);
+        maxRange = Math.min(viewRange, maxRange);
+
+        final long currentTick = SpongeCommon.server().getTickCount();
+        // Every covered chunk remembers which players reach it, so entities are only tested against those
+        final Long2ObjectOpenHashMap<IntArrayList> coverage = new Long2ObjectOpenHashMap<>();
+        // Block entities only tick normally within the activation ranges, the inactive tick ranges only apply to entities
+        final LongOpenHashSet activeCoverage = new LongOpenHashSet();
+        for (int i = 0; i < players.size(); i++) {
+            final ServerPlayer player = players.get(i);
+            ((ActivationCapabilityBridge) player).activation$setActivatedTick(currentTick);
+            final AABB aabb = player.getBoundingBox();
+
+            final int minX = Mth.floor((aabb.minX - maxRange) / 16.0D);
+            final int maxX = Mth.floor((aabb.maxX + maxRange) / 16.0D);
+            final int minZ = Mth.floor((aabb.minZ - maxRange) / 16.0D);
+            final int maxZ = Mth.floor((aabb.maxZ + maxRange) / 16.0D);
+
+            for (int x = minX; x <= maxX; ++x) {
+                for (int z = minZ; z <= maxZ; ++z) {
+                    coverage.computeIfAbsent(ChunkPos.asLong(x, z), k -> new IntArrayList()).add(i);
+                }
+            }
+
+            final int minActiveX = Mth.floor((aabb.minX - activationRange) / 16.0D);
+            final int maxActiveX = Mth.floor((aabb.maxX + activationRange) / 16.0D);
+            final int minActiveZ = Mth.floor((aabb.minZ - activationRange) / 16.0D);
+            final int maxActiveZ = Mth.floor((aabb.maxZ + activationRange) / 16.0D);
+            for (int x = minActiveX; x <= maxActiveX; ++x) {
+                for (int z = minActiveZ; z <= maxActiveZ; ++z) {
+                    activeCoverage.add(ChunkPos.asLong(x, z));
                 }
             }
+        }
 
-            maxRange = Math.min((((ServerWorld) world).properties().viewDistance() << 4) - 8, maxRange);
-            ((ActivationCapabilityBridge) player).activation$setActivatedTick(SpongeCommon.server().getTickCount());
-            final AABB aabb = EntityActivationRange.maxBB;
-            EntityActivationRange.growBb(aabb, player.getBoundingBox(), maxRange, 256, maxRange);
-
-            final int i = Mth.floor(aabb.minX / 16.0D);
-            final int j = Mth.floor(aabb.maxX / 16.0D);
-            final int k = Mth.floor(aabb.minZ / 16.0D);
-            final int l = Mth.floor(aabb.maxZ / 16.0D);
-
-            for (int i1 = i; i1 <= j; ++i1) {
-                for (int j1 = k; j1 <= l; ++j1) {
-                    final LevelChunk chunk = world.getChunkSource().getChunkNow(i1, j1);
-                    if (chunk != null) {
-                        EntityActivationRange.activateChunkEntities(player, chunk);
+        final PersistentEntitySectionManager<Entity> entityManager = ((ServerLevelAccessor) world).accessor$getEntityManager();
+        final EntitySectionStorage<Entity> entitySectionStorage = ((PersistentEntitySectionManagerAccessor<Entity>) entityManager).accessor$sectionStorage();
+        int activated = 0;
+        int inactive = 0;
+        for (final Long2ObjectMap.Entry<IntArrayList> entry : Long2ObjectMaps.fastIterable(coverage)) {
+            final long chunkPos = entry.getLongKey();
+            if (world.getChunkSource().getChunkNow(ChunkPos.getX(chunkPos), ChunkPos.getZ(chunkPos)) == null) {
+                continue;
+            }
+            final Iterator<EntitySection<Entity>> sections = entitySectionStorage.getExistingSectionsInChunk(chunkPos).iterator();
+            while (sections.hasNext()) {
+                final Iterator<Entity> entities = sections.next().getEntities().iterator();
+                while (entities.hasNext()) {
+                    final Entity entity = entities.next();
+                    if (entity.chunkPosition().toLong() != chunkPos || !((TrackableBridge) entity).bridge$shouldTick()) {
+                        continue;
+                    }
+                    if (EntityActivationRange.activateEntity(entity, players, entry.getValue(), currentTick, maxTickRate)) {
+                        activated++;
+                    } else {
+                        inactive++;
                     }
                 }
             }
         }
+        ((ActivationWorldBridge) world).activation$recordActivation(System.nanoTime() - start, activated, inactive, activeCoverage);
     }
 
     /**
-     * Checks for the activation state of all entities in this chunk.
+     * Checks for the activation state of an entity in a covered chunk.
      *
-     * @param chunk Chunk to check for activation
+     * @param entity Entity to check for activation
+     * @param players The players of the world
+     * @param candidates The indices of the players that reach the chunk of the entity
+     * @param currentTick The current tick
+     * @param maxTickRate The tick rate beyond which inactive entities are not ticked
+     * @return Whether the entity is in activation range
      */
-    private static void activateChunkEntities(final ServerPlayer player, final LevelChunk chunk) {
-        final PersistentEntitySectionManager<Entity> entityManager = ((ServerLevelAccessor) chunk.getLevel()).accessor$getEntityManager();
-        final EntitySectionStorage<Entity> entitySectionStorage = ((PersistentEntitySectionManagerAccessor<Entity>) entityManager).accessor$sectionStorage();
-        entitySectionStorage.getExistingSectionsInChunk(chunk.getPos().toLong()).flatMap(EntitySection::getEntities).forEach(entity -> {
-            if (!entity.chunkPosition().equals(chunk.getPos())) {
-                return;
-            }
-            final ActivationCapabilityBridge spongeEntity = (ActivationCapabilityBridge) entity;
-            final long currentTick = SpongeCommon.server().getTickCount();
-            if (!((TrackableBridge) entity).bridge$shouldTick()) {
-                return;
-            }
-            if (currentTick <= spongeEntity.activation$getActivatedTick()) {
-                return;
-            }
-            if (spongeEntity.activation$getDefaultActivationState()) {
-                EntityActivationRange.initializeEntityActivationState(entity);
-                spongeEntity.activation$setActivatedTick(currentTick);
-                return;
-            }
+    private static boolean activateEntity(final Entity entity, final List<ServerPlayer> players, final IntArrayList candidates,
+        final long currentTick, final int maxTickRate
+    ) {
+        final ActivationCapabilityBridge spongeEntity = (ActivationCapabilityBridge) entity;
+        if (currentTick <= spongeEntity.activation$getActivatedTick()) {
+            return true;
+        }
+        if (spongeEntity.activation$getDefaultActivationState()) {
+            EntityActivationRange.initializeEntityActivationState(entity);
+            spongeEntity.activation$setActivatedTick(currentTick);
+            return true;
+        }
 
-            // check for entity type overrides
-            AABB aabb;
-            switch (spongeEntity.activation$getActivationType()) {
-                case 5:
-                    aabb = EntityActivationRange.miscBB;
-                    break;
-                case 4:
-                    aabb = EntityActivationRange.ambientBB;
-                    break;
-                case 3:
-                    aabb = EntityActivationRange.aquaticBB;
-                    break;
-                case 2:
-                    aabb = EntityActivationRange.creatureBB;
-                    break;
-                default:
-                    aabb = EntityActivationRange.monsterBB;
-                    break;
-            }
+        final int activationRange = spongeEntity.activation$getActivationRange();
+        final double distance = EntityActivationRange.nearestPlayerDistance(entity.getBoundingBox(), players, candidates, activationRange);
+        if (distance < activationRange) {
+            spongeEntity.activation$setActivatedTick(currentTick);
+            return true;
+        }
 
-            final int bbActivationRange = spongeEntity.activation$getActivationRange();
-            EntityActivationRange.growBb(aabb, player.getBoundingBox(), bbActivationRange, 256, bbActivationRange);
-            if (aabb.intersects(entity.getBoundingBox())) {
-                spongeEntity.activation$setActivatedTick(currentTick);
+        // Out of range, but still tick every few ticks. Entity ids spread those ticks evenly over the tick slots
+        final int tickRate = EntityActivationRange.inactiveTickRate(spongeEntity.activation$getSpongeTickRate(), activationRange, distance, maxTickRate);
+        if (tickRate > 0 && Math.floorMod(currentTick + entity.getId(), tickRate) == 0) {
+            spongeEntity.activation$setActivatedTick(currentTick);
+            spongeEntity.activation$setRateTick(currentTick);
+        }
+        return false;
+    }
+
+    /**
+     * Gets the rate at which an inactive entity ticks, doubling the base rate
+     * for every activation range of distance beyond the first.
+     *
+     * @param baseTickRate The tick rate just outside of the activation range
+     * @param activationRange The activation range of the entity
+     * @param distance The distance to the nearest player
+     * @param maxTickRate The tick rate beyond which the entity is not ticked
+     * @return The tick rate, or 0 if the entity should not be ticked
+     */
+    static int inactiveTickRate(final int baseTickRate, final int activationRange, final double distance, final int maxTickRate) {
+        if (baseTickRate <= 0) {
+            return 0;
+        }
+        final int steps = activationRange <= 0 ? 0 : (int) Math.min(8, (distance - activationRange) / activationRange);
+        final int tickRate = baseTickRate << steps;
+        return tickRate > maxTickRate ? 0 : tickRate;
+    }
+
+    /**
+     * Gets the farthest distance to the nearest player at which an inactive
+     * entity still ticks at a rate, see {@link #inactiveTickRate}.
+     *
+     * @param baseTickRate The tick rate just outside of the activation range
+     * @param activationRange The activation range of the entity
+     * @param maxTickRate The tick rate beyond which the entity is not ticked
+     * @return The distance, or the activation range if the entity is never ticked at a rate
+     */
+    static int inactiveTickRange(final int baseTickRate, final int activationRange, final int maxTickRate) {
+        if (baseTickRate <= 0 || baseTickRate > maxTickRate) {
+            return activationRange;
+        }
+        int steps = 0;
+        while (steps < 8 && (baseTickRate << (steps + 1)) <= maxTickRate) {
+            steps++;
+        }
+        return activationRange * (steps + 2);
+    }
+
+    /**
+     * Gets the activation config the given block entity currently falls under.
+     *
+     * @param blockEntity The block entity
+     * @return The config, or null if the block entity always ticks
+     */
+    public static @Nullable EntityActivationRangeCategory blockEntityConfig(final BlockEntity blockEntity) {
+        final Level level = blockEntity.getLevel();
+        if (level == null || level.isClientSide() || ((LevelBridge) level).bridge$isFake()) {
+            return null;
+        }
+        return SpongeGameConfigs.getForWorld(level).get().entityActivationRange;
+    }
+
+    /**
+     * Gets the configured tick rate for block entities of the type of the
+     * given block entity.
+     *
+     * @param blockEntity The block entity
+     * @param config The activation config of the world of the block entity
+     * @return The tick rate, or 0 if the block entity always ticks
+     */
+    public static int blockEntityTickRate(final BlockEntity blockEntity, final EntityActivationRangeCategory config) {
+        final ResourceLocation key = BlockEntityType.getKey(blockEntity.getType());
+        if (key == null) {
+            return 0;
+        }
+        return config.blockEntityTickRates.getOrDefault(key.toString(), 0);
+    }
+
+    /**
+     * Checks if the block entity is active for this tick. Block entities with
+     * a tick rate tick normally while their chunk is within the activation
+     * range of a player, and once every few ticks otherwise, spread over the
+     * tick slots by position.
+     *
+     * @param blockEntity The block entity to check for activity
+     * @param tickRate The tick rate of the block entity
+     * @return Whether the given block entity should be active
+     */
+    public static boolean checkIfActive(final BlockEntity blockEntity, final int tickRate) {
+        if (tickRate <= 1 || !(blockEntity.getLevel() instanceof ActivationWorldBridge world)) {
+            return true;
+        }
+        final BlockPos pos = blockEntity.getBlockPos();
+        if (world.activation$isActivationCovered(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4))) {
+            return true;
+        }
+        return Math.floorMod(SpongeCommon.server().getTickCount() + pos.hashCode(), tickRate) == 0;
+    }
+
+    /**
+     * Gets the horizontal distance between the bounding box of an entity and
+     * the nearest player bounding box, matching the activation range of the
+     * entity being grown around the player. The search stops early once a
+     * player within the given range has been found.
+     *
+     * @param aabb The bounding box of the entity
+     * @param players The players of the world
+     * @param candidates The indices of the players to check
+     * @param range The range at which the search may stop
+     * @return The distance to the nearest player
+     */
+    private static double nearestPlayerDistance(final AABB aabb, final List<ServerPlayer> players, final IntArrayList candidates, final int range) {
+        double nearest = Double.MAX_VALUE;
+        for (int i = 0; i < candidates.size(); i++) {
+            final AABB playerBB = players.get(candidates.getInt(i)).getBoundingBox();
+            if (Math.max(playerBB.minY - aabb.maxY, aabb.minY - playerBB.maxY) >= 256) {
+                continue;
             }
-        });
+            final double distance = Math.max(
+                Math.max(playerBB.minX - aabb.maxX, aabb.minX - playerBB.maxX),
+                Math.max(playerBB.minZ - aabb.maxZ, aabb.minZ - playerBB.maxZ));
+            if (distance < nearest) {
+                nearest = distance;
+                if (nearest < range) {
+                    break;
+                }
+            }
+        }
+        return nearest;
     }
 
     /**
@@ -395,9 +579,10 @@ public static boolean checkIfActive(final Entity entity) {
                 }
                 isActive = true;
             }
-            // Add a little performance juice to active entities. Skip 1/4 if not immune.
-        } else if (!spongeEntity.activation$getDefaultActivationState() && entity.tickCount % 4 == 0 && !EntityActivationRange
-            .checkEntityImmunities(entity)) {
+            // Add a little performance juice to active entities. Skip 1/4 if not immune,
+            // but never a tick an inactive entity was given for its tick rate.
+        } else if (!spongeEntity.activation$getDefaultActivationState() && spongeEntity.activation$getRateTick() != currentTick
+            && entity.tickCount % 4 == 0 && !EntityActivationRange.checkEntityImmunities(entity)) {
             isActive = false;
         }
 
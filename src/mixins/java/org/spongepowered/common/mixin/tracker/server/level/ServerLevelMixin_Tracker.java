@@ -608,7 +608,7 @@ public boolean destroyBlock(final BlockPos pos, final boolean doDrops, @Nullable
         // and if so, log the tile entity removal (may associate with an existing transaction,
         // or create a new transaction.
         final PhaseContext<@NonNull ?> current = PhaseTracker.SERVER.getPhaseContext();
-        if (current.doesBlockEventTracking()) {
+        if (current.doesBlockEventTracking() && current.capturesBlockChanges()) {
             final net.minecraft.world.level.block.entity.@Nullable BlockEntity existing = this.shadow$getChunkAt(immutable).getBlockEntity(immutable);
             if (current.getTransactor().logTileReplacement(immutable, existing, proposed, () -> (ServerLevel) (Object) this)) {
                 final TileEntityPipeline pipeline = TileEntityPipeline.kickOff((ServerLevel) (Object) this, immutable)
@@ -645,17 +645,19 @@ public boolean destroyBlock(final BlockPos pos, final boolean doDrops, @Nullable
             return;
         }
 
-        try (final CauseStackManager.StackFrame frame = tracker.pushCauseFrame()) {
-            final List<org.spongepowered.api.entity.Entity> entities = new ArrayList<>();
-            entities.add((org.spongepowered.api.entity.Entity) entityIn);
+        if (ShouldFire.SPAWN_ENTITY_EVENT_PRE) {
+            try (final CauseStackManager.StackFrame frame = tracker.pushCauseFrame()) {
+                final List<org.spongepowered.api.entity.Entity> entities = new ArrayList<>();
+                entities.add((org.spongepowered.api.entity.Entity) entityIn);
 
-            frame.addContext(EventContextKeys.SPAWN_TYPE, current.getSpawnTypeForTransaction(entityIn));
-            final SpawnEntityEvent.Pre pre = SpongeEventFactory.createSpawnEntityEventPre(frame.currentCause(), entities);
-            Sponge.eventManager().post(pre);
+                frame.addContext(EventContextKeys.SPAWN_TYPE, current.getSpawnTypeForTransaction(entityIn));
+                final SpawnEntityEvent.Pre pre = SpongeEventFactory.createSpawnEntityEventPre(frame.currentCause(), entities);
+                Sponge.eventManager().post(pre);
 
-            if (pre.isCancelled() || entities.isEmpty()) {
-                cir.setReturnValue(false);
-                return;
+                if (pre.isCancelled() || entities.isEmpty()) {
+                    cir.setReturnValue(false);
+                    return;
+                }
             }
         }
 
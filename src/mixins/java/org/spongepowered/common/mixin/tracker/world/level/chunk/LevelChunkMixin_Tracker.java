@@ -131,10 +131,20 @@ public abstract class LevelChunkMixin_Tracker extends ChunkAccessMixin_Tracker i
 
         // Sponge Start - Build out the BlockTransaction
         final PhaseContext<@NonNull ?> context = PhaseTracker.getInstance().getPhaseContext();
+        if (!context.capturesBlockChanges()) {
+            // Nothing would observe the transaction, so skip snapshotting the original block
+            final ChunkPipeline.Builder builder = ChunkPipeline.builder()
+                .untracked(flag)
+                .chunk((LevelChunk) (Object) this)
+                .chunkSection(chunksection)
+                .world((ServerLevel) this.level);
+            ChangeBlock.populateChunkEffects(builder);
+            return builder.build();
+        }
         final @Nullable BlockEntity existing = this.shadow$getBlockEntity(pos, LevelChunk.EntityCreationType.CHECK);
         // Build a transaction maybe?
         final WeakReference<ServerLevel> ref = new WeakReference<>((ServerLevel) this.level);
-        final SpongeBlockSnapshot snapshot = TrackingUtil.createPooledSnapshot(currentState, pos, flag, limit, existing,
+        final SpongeBlockSnapshot snapshot = TrackingUtil.createDeferredSnapshot(currentState, pos, flag, existing,
             () -> Objects.requireNonNull(ref.get(), "ServerWorld dereferenced"),
             Optional::empty, Optional::empty
         );
@@ -158,7 +168,7 @@ public abstract class LevelChunkMixin_Tracker extends ChunkAccessMixin_Tracker i
             .world((ServerLevel) this.level);
 
         // Populate the effects
-        transaction.populateChunkEffects(builder);
+        ChangeBlock.populateChunkEffects(builder);
 
         return builder.build();
     }
@@ -70,13 +70,15 @@ public interface NeighborUpdaterMixin_Tracker {
             return;
         }
 
-        final var targetChunk = serverLevel.getChunkAt(targetPos);
-        final Supplier<ServerLevel> worldSupplier = VolumeStreamUtils.createWeaklyReferencedSupplier(serverLevel, "ServerWorld");
-        final net.minecraft.world.level.block.entity.@Nullable BlockEntity existingTile = targetChunk.getBlockEntity(
-            targetPos,
-            LevelChunk.EntityCreationType.CHECK
-        );
-        peek.getTransactor().logNeighborNotification(worldSupplier, fromPos, fromBlock, targetPos, targetState, existingTile);
+        if (peek.capturesNeighborNotifications()) {
+            final var targetChunk = serverLevel.getChunkAt(targetPos);
+            final Supplier<ServerLevel> worldSupplier = VolumeStreamUtils.createWeaklyReferencedSupplier(serverLevel, "ServerWorld");
+            final net.minecraft.world.level.block.entity.@Nullable BlockEntity existingTile = targetChunk.getBlockEntity(
+                targetPos,
+                LevelChunk.EntityCreationType.CHECK
+            );
+            peek.getTransactor().logNeighborNotification(worldSupplier, fromPos, fromBlock, targetPos, targetState, existingTile);
+        }
 
         peek.associateNeighborStateNotifier(fromPos, targetState.getBlock(), targetPos, serverLevel, PlayerTracker.Type.NOTIFIER);
     }
@@ -0,0 +1,191 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.data.persistence.DataContainer;
+import org.spongepowered.api.data.persistence.DataQuery;
+import org.spongepowered.api.data.persistence.DataView;
+import org.spongepowered.common.data.persistence.NBTTranslator;
+import org.spongepowered.common.util.Constants;
+
+import java.util.List;
+
+class NBTDataViewTest {
+
+    private static final DataQuery ENTRIES = DataQuery.of("entries");
+    private static final DataQuery INNER = DataQuery.of("inner");
+    private static final DataQuery NAME = DataQuery.of("name");
+    private static final DataQuery VALUES = DataQuery.of("values");
+
+    private @Nullable SpongeDataManager previousManager;
+
+    @BeforeEach
+    void setUp() {
+        // Plain values are only looked up for translators when set
+        this.previousManager = SpongeDataManager.INSTANCE;
+        SpongeDataManager.INSTANCE = Mockito.mock(SpongeDataManager.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SpongeDataManager.INSTANCE = this.previousManager;
+    }
+
+    private static CompoundTag entry(final String name) {
+        final CompoundTag entry = new CompoundTag();
+        entry.putString("name", name);
+        return entry;
+    }
+
+    private static CompoundTag createTag() {
+        final ListTag entries = new ListTag();
+        entries.add(NBTDataViewTest.entry("first"));
+        entries.add(NBTDataViewTest.entry("second"));
+
+        final CompoundTag inner = new CompoundTag();
+        inner.put("entries", entries.copy());
+        inner.putIntArray("values", new int[] {1, 2, 3});
+
+        final CompoundTag tag = new CompoundTag();
+        tag.putString("name", "root");
+        tag.putBoolean("flag" + NBTTranslator.BOOLEAN_IDENTIFIER, true);
+        tag.put("entries", entries);
+        tag.put("inner", inner);
+        return tag;
+    }
+
+    private static String nameAt(final CompoundTag compound, final int index) {
+        return compound.getList("entries", Constants.NBT.TAG_COMPOUND).getCompound(index).getString("name");
+    }
+
+    @Test
+    void unmodifiedViewRoundTrips() {
+        final CompoundTag tag = NBTDataViewTest.createTag();
+        final DataContainer view = NBTTranslator.INSTANCE.translate(tag);
+
+        assertNotNull(NBTDataContainer.sourceOf(view));
+        assertEquals(tag, NBTTranslator.INSTANCE.translate(view));
+    }
+
+    @Test
+    void readViewRoundTrips() {
+        final CompoundTag tag = NBTDataViewTest.createTag();
+        final DataContainer view = NBTTranslator.INSTANCE.translate(tag);
+
+        // Reads every entry, including the lists, so the view is walked
+        view.values(true);
+
+        assertNull(NBTDataContainer.sourceOf(view));
+        assertEquals(tag, NBTTranslator.INSTANCE.translate(view));
+    }
+
+    @Test
+    void listElementEditIsWritten() {
+        final CompoundTag tag = NBTDataViewTest.createTag();
+        final DataContainer view = NBTTranslator.INSTANCE.translate(tag);
+
+        final List<DataView> entries = view.getViewList(NBTDataViewTest.ENTRIES).get();
+        entries.get(0).set(NBTDataViewTest.NAME, "changed");
+
+        final CompoundTag written = NBTTranslator.INSTANCE.translate(view);
+        assertEquals("changed", NBTDataViewTest.nameAt(written, 0));
+        assertEquals("second", NBTDataViewTest.nameAt(written, 1));
+        assertEquals("first", NBTDataViewTest.nameAt(tag, 0));
+    }
+
+    @Test
+    void nestedListElementEditIsWritten() {
+        final CompoundTag tag = NBTDataViewTest.createTag();
+        final DataContainer view = NBTTranslator.INSTANCE.translate(tag);
+
+        final DataView inner = view.getView(NBTDataViewTest.INNER).get();
+        inner.getViewList(NBTDataViewTest.ENTRIES).get().get(1).remove(NBTDataViewTest.NAME);
+
+        assertNull(NBTDataContainer.sourceOf(view));
+        final CompoundTag written = NBTTranslator.INSTANCE.translate(view);
+        assertEquals("first", NBTDataViewTest.nameAt(written.getCompound("inner"), 0));
+        assertEquals("", NBTDataViewTest.nameAt(written.getCompound("inner"), 1));
+        assertEquals(NBTDataViewTest.nameAt(tag, 0), NBTDataViewTest.nameAt(written, 0));
+    }
+
+    @Test
+    void arrayEditIsWritten() {
+        final CompoundTag tag = NBTDataViewTest.createTag();
+        final DataContainer view = NBTTranslator.INSTANCE.translate(tag);
+
+        final int[] values = (int[]) view.get(NBTDataViewTest.INNER.then(NBTDataViewTest.VALUES)).get();
+        values[0] = 10;
+
+        final CompoundTag written = NBTTranslator.INSTANCE.translate(view);
+        assertArrayEquals(new int[] {10, 2, 3}, written.getCompound("inner").getIntArray("values"));
+        assertArrayEquals(new int[] {1, 2, 3}, tag.getCompound("inner").getIntArray("values"));
+    }
+
+    @Test
+    void copyIsIndependentOfOriginal() {
+        final CompoundTag tag = NBTDataViewTest.createTag();
+        final DataContainer view = NBTTranslator.INSTANCE.translate(tag);
+        final DataContainer copy = view.copy();
+
+        copy.getViewList(NBTDataViewTest.ENTRIES).get().get(0).set(NBTDataViewTest.NAME, "copied");
+        view.getViewList(NBTDataViewTest.ENTRIES).get().get(1).set(NBTDataViewTest.NAME, "original");
+
+        final CompoundTag writtenCopy = NBTTranslator.INSTANCE.translate(copy);
+        final CompoundTag writtenView = NBTTranslator.INSTANCE.translate(view);
+        assertEquals("copied", NBTDataViewTest.nameAt(writtenCopy, 0));
+        assertEquals("second", NBTDataViewTest.nameAt(writtenCopy, 1));
+        assertEquals("first", NBTDataViewTest.nameAt(writtenView, 0));
+        assertEquals("original", NBTDataViewTest.nameAt(writtenView, 1));
+    }
+
+    @Test
+    void copyOfModifiedViewKeepsEdits() {
+        final CompoundTag tag = NBTDataViewTest.createTag();
+        final DataContainer view = NBTTranslator.INSTANCE.translate(tag);
+        view.getViewList(NBTDataViewTest.ENTRIES).get().get(0).set(NBTDataViewTest.NAME, "changed");
+
+        final DataContainer copy = view.copy();
+        copy.set(NBTDataViewTest.NAME, "copied");
+
+        final CompoundTag writtenCopy = NBTTranslator.INSTANCE.translate(copy);
+        final CompoundTag writtenView = NBTTranslator.INSTANCE.translate(view);
+        assertEquals("changed", NBTDataViewTest.nameAt(writtenCopy, 0));
+        assertEquals("copied", writtenCopy.getString("name"));
+        assertEquals("changed", NBTDataViewTest.nameAt(writtenView, 0));
+        assertEquals("root", writtenView.getString("name"));
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.common.collect.ImmutableList;
+import net.minecraft.nbt.CompoundTag;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.spongepowered.api.data.DataManipulator;
+import org.spongepowered.api.data.Key;
+import org.spongepowered.api.data.persistence.DataQuery;
+import org.spongepowered.api.data.persistence.DataStore;
+import org.spongepowered.api.data.persistence.DataView;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@SuppressWarnings({"rawtypes", "unchecked"})
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SerializedCustomDataTest {
+
+    private final Key key = Mockito.mock(Key.class);
+    private final DataStore store = Mockito.mock(DataStore.class);
+    private final DataManipulator manipulator = Mockito.mock(DataManipulator.class);
+    private final AtomicInteger serializations = new AtomicInteger();
+    private @Nullable Object value;
+
+    @BeforeEach
+    void setUp() {
+        Mockito.when(this.manipulator.getKeys()).thenReturn(Collections.singleton(this.key));
+        Mockito.when(this.manipulator.get(this.key)).thenAnswer(invocation -> Optional.ofNullable(this.value));
+        Mockito.doAnswer(invocation -> {
+            this.serializations.incrementAndGet();
+            final DataView view = invocation.getArgument(1);
+            view.set(DataQuery.of("sponge-data", "value"), String.valueOf(this.value));
+            return view;
+        }).when(this.store).serialize(Mockito.any(), Mockito.any());
+    }
+
+    private String write(final SerializedCustomData data) {
+        final CompoundTag target = new CompoundTag();
+        data.write(this.manipulator, key -> this.store, target);
+        return target.getCompound("sponge-data").getString("value");
+    }
+
+    @Test
+    void unchangedImmutableValuesAreNotSerializedAgain() {
+        final SerializedCustomData data = new SerializedCustomData();
+        this.value = "foo";
+        assertEquals("foo", this.write(data));
+        assertEquals("foo", this.write(data));
+        assertEquals(1, this.serializations.get());
+    }
+
+    @Test
+    void replacedValuesAreSerializedAgain() {
+        final SerializedCustomData data = new SerializedCustomData();
+        this.value = "foo";
+        this.write(data);
+        this.value = "bar";
+        assertEquals("bar", this.write(data));
+        assertEquals(2, this.serializations.get());
+    }
+
+    @Test
+    void dirtyKeysAreSerializedAgain() {
+        final SerializedCustomData data = new SerializedCustomData();
+        this.value = "foo";
+        this.write(data);
+        data.markDirty(this.key);
+        this.write(data);
+        assertEquals(2, this.serializations.get());
+        // And only once
+        this.write(data);
+        assertEquals(2, this.serializations.get());
+    }
+
+    @Test
+    void valuesMutatedInPlaceAreSerializedAgain() {
+        final SerializedCustomData data = new SerializedCustomData();
+        final List<String> list = new ArrayList<>();
+        list.add("foo");
+        this.value = list;
+        assertEquals("[foo]", this.write(data));
+        list.add("bar");
+        assertEquals("[foo, bar]", this.write(data));
+    }
+
+    @Test
+    void invalidateForgetsEverySerializedStore() {
+        final SerializedCustomData data = new SerializedCustomData();
+        this.value = "foo";
+        this.write(data);
+        data.invalidate();
+        this.write(data);
+        assertEquals(2, this.serializations.get());
+    }
+
+    @Test
+    void cachedTagsAreNotSharedWithTheTarget() {
+        final SerializedCustomData data = new SerializedCustomData();
+        this.value = "foo";
+        final CompoundTag first = new CompoundTag();
+        data.write(this.manipulator, key -> this.store, first);
+        first.getCompound("sponge-data").putString("value", "changed");
+        assertEquals("foo", this.write(data));
+        assertEquals(1, this.serializations.get());
+    }
+
+    @Test
+    void onlyDeeplyImmutableValuesAreReused() {
+        assertTrue(SerializedCustomData.isImmutable(null));
+        assertTrue(SerializedCustomData.isImmutable(1));
+        assertTrue(SerializedCustomData.isImmutable("foo"));
+        assertTrue(SerializedCustomData.isImmutable(ImmutableList.of("foo", 1)));
+        assertFalse(SerializedCustomData.isImmutable(new ArrayList<>()));
+        assertFalse(SerializedCustomData.isImmutable(ImmutableList.of(new ArrayList<>())));
+        assertFalse(SerializedCustomData.isImmutable(new int[0]));
+    }
+}
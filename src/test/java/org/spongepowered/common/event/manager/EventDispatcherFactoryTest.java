@@ -0,0 +1,89 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.manager;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.event.Cancellable;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventListener;
+import org.spongepowered.api.event.Order;
+import org.spongepowered.plugin.PluginContainer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class EventDispatcherFactoryTest {
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static RegisteredListener<?> listener(final Order order, final EventListener<Event> handler) {
+        final PluginContainer plugin = Mockito.mock(PluginContainer.class, Mockito.RETURNS_DEEP_STUBS);
+        return new RegisteredListener(plugin, new EventType<>(Event.class), order, handler, false, false);
+    }
+
+    @Test
+    public void dispatchesInOrderAndReportsCancellation() {
+        final Cancellable event = Mockito.mock(Cancellable.class, Mockito.withSettings().extraInterfaces(Event.class));
+        Mockito.when(event.isCancelled()).thenReturn(true);
+        final List<Order> called = new ArrayList<>();
+        final List<RegisteredListener<?>> listeners = List.of(
+            EventDispatcherFactoryTest.listener(Order.PRE, e -> called.add(Order.PRE)),
+            EventDispatcherFactoryTest.listener(Order.DEFAULT, e -> called.add(Order.DEFAULT)),
+            EventDispatcherFactoryTest.listener(Order.POST, e -> called.add(Order.POST))
+        );
+
+        final EventDispatcher dispatcher = EventDispatcherFactory.create(event.getClass(), listeners);
+
+        Assertions.assertTrue(dispatcher.dispatch((Event) event));
+        Assertions.assertEquals(List.of(Order.PRE, Order.DEFAULT, Order.POST), called);
+    }
+
+    @Test
+    public void failingListenerDoesNotStopDispatch() {
+        final Event event = Mockito.mock(Event.class);
+        final List<Order> called = new ArrayList<>();
+        final List<RegisteredListener<?>> listeners = List.of(
+            EventDispatcherFactoryTest.listener(Order.PRE, e -> {
+                throw new IllegalStateException("expected");
+            }),
+            EventDispatcherFactoryTest.listener(Order.POST, e -> called.add(Order.POST))
+        );
+
+        final EventDispatcher dispatcher = EventDispatcherFactory.create(event.getClass(), listeners);
+
+        Assertions.assertFalse(dispatcher.dispatch(event));
+        Assertions.assertEquals(List.of(Order.POST), called);
+    }
+
+    @Test
+    public void emptyDispatcherReportsExistingCancellation() {
+        final Cancellable event = Mockito.mock(Cancellable.class, Mockito.withSettings().extraInterfaces(Event.class));
+        Mockito.when(event.isCancelled()).thenReturn(true);
+
+        Assertions.assertTrue(EventDispatcherFactory.create(event.getClass(), List.of()).dispatch((Event) event));
+    }
+
+}
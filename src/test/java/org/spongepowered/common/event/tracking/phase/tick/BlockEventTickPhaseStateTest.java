@@ -0,0 +1,98 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking.phase.tick;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.common.event.ShouldFire;
+import org.spongepowered.common.event.tracking.PhaseTracker;
+
+import java.util.UUID;
+
+class BlockEventTickPhaseStateTest {
+
+    private boolean changeBlockAll;
+    private boolean changeBlockPost;
+    private boolean spawnEntity;
+
+    @BeforeEach
+    void disableListeners() {
+        this.changeBlockAll = ShouldFire.CHANGE_BLOCK_EVENT_ALL;
+        this.changeBlockPost = ShouldFire.CHANGE_BLOCK_EVENT_POST;
+        this.spawnEntity = ShouldFire.SPAWN_ENTITY_EVENT;
+        ShouldFire.CHANGE_BLOCK_EVENT_ALL = false;
+        ShouldFire.CHANGE_BLOCK_EVENT_POST = false;
+        ShouldFire.SPAWN_ENTITY_EVENT = false;
+    }
+
+    @AfterEach
+    void restoreListeners() {
+        ShouldFire.CHANGE_BLOCK_EVENT_ALL = this.changeBlockAll;
+        ShouldFire.CHANGE_BLOCK_EVENT_POST = this.changeBlockPost;
+        ShouldFire.SPAWN_ENTITY_EVENT = this.spawnEntity;
+    }
+
+    private static BlockEventTickContext context() {
+        return new BlockEventTickContext(PhaseTracker.SERVER);
+    }
+
+    @Test
+    void skipsCaptureWithoutOwnersOrListeners() {
+        final BlockEventTickContext context = BlockEventTickPhaseStateTest.context();
+
+        assertFalse(context.requiresBlockCapturing());
+        assertFalse(context.capturesBlockChanges());
+    }
+
+    @Test
+    void capturesForCreator() {
+        final BlockEventTickContext context = BlockEventTickPhaseStateTest.context().creator(UUID.randomUUID());
+
+        assertTrue(context.requiresBlockCapturing());
+        assertTrue(context.capturesBlockChanges());
+    }
+
+    @Test
+    void capturesForNotifier() {
+        final BlockEventTickContext context = BlockEventTickPhaseStateTest.context().notifier(UUID.randomUUID());
+
+        assertTrue(context.requiresBlockCapturing());
+        assertTrue(context.capturesBlockChanges());
+    }
+
+    @Test
+    void capturesForListenersWithoutOwners() {
+        ShouldFire.CHANGE_BLOCK_EVENT_POST = true;
+        final BlockEventTickContext context = BlockEventTickPhaseStateTest.context();
+
+        assertFalse(context.requiresBlockCapturing());
+        assertTrue(context.capturesBlockChanges());
+    }
+
+}
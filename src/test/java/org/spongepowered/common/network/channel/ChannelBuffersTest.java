@@ -0,0 +1,319 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.network.channel;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.channel.local.LocalAddress;
+import io.netty.channel.local.LocalChannel;
+import io.netty.channel.local.LocalServerChannel;
+import io.netty.handler.codec.MessageToByteEncoder;
+import io.netty.util.IllegalReferenceCountException;
+import io.netty.util.ResourceLeakDetector;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.ResourceLocation;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+class ChannelBuffersTest {
+
+    private static final CustomPacketPayload.Type<SpongeChannelPayload> TYPE =
+            new CustomPacketPayload.Type<>(ResourceLocation.fromNamespaceAndPath("sponge", "test"));
+    private static final StreamCodec<FriendlyByteBuf, SpongeChannelPayload> CODEC =
+            SpongeChannelPayload.streamCodec(ChannelBuffersTest.TYPE, Integer.MAX_VALUE);
+
+    private static ResourceLeakDetector.Level previousLevel;
+
+    @BeforeAll
+    static void enableLeakDetection() {
+        ChannelBuffersTest.previousLevel = ResourceLeakDetector.getLevel();
+        ResourceLeakDetector.setLevel(ResourceLeakDetector.Level.PARANOID);
+    }
+
+    @AfterAll
+    static void restoreLeakDetection() {
+        ResourceLeakDetector.setLevel(ChannelBuffersTest.previousLevel);
+    }
+
+    private static ByteBuf payload() {
+        final ByteBuf payload = ChannelBufferAllocator.POOLED.allocate();
+        for (int i = 0; i < 1024; i++) {
+            payload.writeInt(i);
+        }
+        return payload;
+    }
+
+    /**
+     * Sends the payload the way {@link PacketSender} does, the payload is
+     * framed by the packet and told once the packet was sent.
+     */
+    private static ChannelFuture send(final Channel channel, final FramedPayload payload, final boolean handedOver) {
+        return channel.writeAndFlush(SpongeChannelPayload.fromType(ChannelBuffersTest.TYPE, payload))
+                .addListener(future -> payload.sent(future.cause(), handedOver));
+    }
+
+    private static byte[] readOutbound(final EmbeddedChannel channel) {
+        final ByteBuf outbound = channel.readOutbound();
+        try {
+            return ByteBufUtil.getBytes(outbound);
+        } finally {
+            outbound.release();
+        }
+    }
+
+    @Test
+    void pooledPayloadsAreDirect() {
+        final ByteBuf payload = ChannelBufferAllocator.POOLED.allocate();
+        try {
+            assertTrue(payload.isDirect());
+        } finally {
+            payload.release();
+        }
+    }
+
+    @Test
+    void encodedPayloadIsReleasedOnceFramed() {
+        final EmbeddedChannel channel = new EmbeddedChannel(new PayloadEncoder());
+        final ByteBuf payload = ChannelBuffersTest.payload();
+        final byte[] expected = ByteBufUtil.getBytes(payload);
+
+        assertTrue(ChannelBuffersTest.send(channel, new FramedPayload(payload), false).isSuccess());
+
+        assertEquals(0, payload.refCnt());
+        assertArrayEquals(expected, ChannelBuffersTest.readOutbound(channel));
+        assertFalse(channel.finish());
+    }
+
+    @Test
+    void sharedPayloadIsReleasedOnceEveryConnectionFramedIt() {
+        final ByteBuf payload = ChannelBuffersTest.payload();
+        final byte[] expected = ByteBufUtil.getBytes(payload);
+
+        final List<EmbeddedChannel> channels = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            final EmbeddedChannel channel = new EmbeddedChannel(new PayloadEncoder());
+            ChannelBuffersTest.send(channel, new FramedPayload(payload.retainedDuplicate()), false);
+            channels.add(channel);
+        }
+        // Every duplicate is released, only the reference of the sender is left
+        assertEquals(1, payload.refCnt());
+        payload.release();
+
+        for (final EmbeddedChannel channel : channels) {
+            assertArrayEquals(expected, ChannelBuffersTest.readOutbound(channel));
+            assertFalse(channel.finish());
+        }
+    }
+
+    @Test
+    void handedOverPayloadIsReleasedOnceHandled() throws InterruptedException {
+        final DefaultEventLoopGroup group = new DefaultEventLoopGroup(1);
+        final LocalAddress address = new LocalAddress(ChannelBuffersTest.class.getName());
+        final BlockingQueue<SpongeChannelPayload> received = new LinkedBlockingQueue<>();
+        final Channel server = new ServerBootstrap()
+                .group(group)
+                .channel(LocalServerChannel.class)
+                .childHandler(new ChannelInboundHandlerAdapter() {
+                    @Override
+                    public void channelRead(final ChannelHandlerContext ctx, final Object msg) {
+                        received.add((SpongeChannelPayload) msg);
+                    }
+                })
+                .bind(address).sync().channel();
+        final Channel client = new Bootstrap()
+                .group(group)
+                .channel(LocalChannel.class)
+                .handler(new ChannelInboundHandlerAdapter())
+                .connect(address).sync().channel();
+        try {
+            final ByteBuf payload = ChannelBuffersTest.payload();
+            final byte[] expected = ByteBufUtil.getBytes(payload);
+
+            ChannelBuffersTest.send(client, new FramedPayload(payload), true).sync();
+            final SpongeChannelPayload handed = received.poll(5, TimeUnit.SECONDS);
+            assertNotNull(handed);
+            // The packet was never encoded, so the handler still needs the payload
+            assertEquals(1, payload.refCnt());
+
+            final FriendlyByteBuf read = new FriendlyByteBuf(Unpooled.directBuffer());
+            try {
+                // Like SpongeChannelManager#handlePlayPayload does, later on the main thread
+                handed.consumer().accept(read);
+                assertEquals(0, payload.refCnt());
+                assertArrayEquals(expected, ByteBufUtil.getBytes(read));
+            } finally {
+                read.release();
+            }
+        } finally {
+            client.close().sync();
+            server.close().sync();
+            group.shutdownGracefully(0, 0, TimeUnit.SECONDS).sync();
+        }
+    }
+
+    @Test
+    void failedPayloadIsReleased() {
+        final EmbeddedChannel channel = new EmbeddedChannel(new PayloadEncoder());
+        channel.close();
+        final ByteBuf payload = ChannelBuffersTest.payload();
+
+        final ChannelFuture future = ChannelBuffersTest.send(channel, new FramedPayload(payload), true);
+
+        assertNotNull(future.cause());
+        assertEquals(0, payload.refCnt());
+    }
+
+    @Test
+    void decodedPayloadIsReleasedOnceHandled() {
+        final TrackingAllocator allocator = new TrackingAllocator();
+        final ByteBuf source = ChannelBuffersTest.payload();
+        final byte[] expected = ByteBufUtil.getBytes(source);
+        source.release();
+
+        final ByteBuf inbound = allocator.directBuffer();
+        inbound.writeBytes(expected);
+        final SpongeChannelPayload decoded;
+        try {
+            decoded = ChannelBuffersTest.CODEC.decode(new FriendlyByteBuf(inbound));
+        } finally {
+            inbound.release();
+        }
+        assertEquals(2, allocator.allocated.size());
+        assertEquals(1, allocator.allocated.get(1).refCnt());
+
+        final FriendlyByteBuf read = new FriendlyByteBuf(Unpooled.directBuffer());
+        try {
+            decoded.consumer().accept(read);
+            assertArrayEquals(expected, ByteBufUtil.getBytes(read));
+        } finally {
+            read.release();
+        }
+        for (final ByteBuf buf : allocator.allocated) {
+            assertEquals(0, buf.refCnt());
+        }
+    }
+
+    @Test
+    void payloadCanOnlyBeFramedOnce() {
+        final ByteBuf payload = ChannelBuffersTest.payload();
+        final FramedPayload framed = new FramedPayload(payload);
+        final FriendlyByteBuf target = new FriendlyByteBuf(Unpooled.directBuffer());
+        try {
+            framed.accept(target);
+            assertThrows(IllegalReferenceCountException.class, () -> framed.accept(target));
+            // Releasing it again is a no-op
+            framed.release();
+        } finally {
+            target.release();
+        }
+        assertEquals(0, payload.refCnt());
+    }
+
+    @Test
+    void payloadIsReleasedWhenEncoderFails() {
+        final TrackingAllocator allocator = new TrackingAllocator();
+
+        assertThrows(IllegalStateException.class, () -> ChannelBuffers.encode(new ChannelBufferAllocator(allocator, true), buf -> {
+            buf.writeInt(1);
+            throw new IllegalStateException();
+        }));
+
+        assertEquals(1, allocator.allocated.size());
+        assertEquals(0, allocator.allocated.get(0).refCnt());
+    }
+
+    @Test
+    void framedPayloadIsReleasedWhenEncoderFails() {
+        final ByteBuf payload = ChannelBuffersTest.payload();
+        final FramedPayload framed = new FramedPayload(payload);
+        try {
+            // Like SpongePacketChannel does, the packet is written into the payload that is already framed
+            throw new IllegalStateException();
+        } catch (final IllegalStateException ex) {
+            framed.release();
+        }
+        assertEquals(0, payload.refCnt());
+    }
+
+    /**
+     * Encodes payloads like the vanilla packet encoder does.
+     */
+    private static final class PayloadEncoder extends MessageToByteEncoder<SpongeChannelPayload> {
+
+        @Override
+        protected void encode(final ChannelHandlerContext ctx, final SpongeChannelPayload msg, final ByteBuf out) {
+            ChannelBuffersTest.CODEC.encode(new FriendlyByteBuf(out), msg);
+        }
+    }
+
+    private static final class TrackingAllocator extends UnpooledByteBufAllocator {
+
+        final List<ByteBuf> allocated = new ArrayList<>();
+
+        TrackingAllocator() {
+            super(true);
+        }
+
+        @Override
+        protected ByteBuf newDirectBuffer(final int initialCapacity, final int maxCapacity) {
+            final ByteBuf buf = super.newDirectBuffer(initialCapacity, maxCapacity);
+            this.allocated.add(buf);
+            return buf;
+        }
+
+        @Override
+        protected ByteBuf newHeapBuffer(final int initialCapacity, final int maxCapacity) {
+            final ByteBuf buf = super.newHeapBuffer(initialCapacity, maxCapacity);
+            this.allocated.add(buf);
+            return buf;
+        }
+    }
+}
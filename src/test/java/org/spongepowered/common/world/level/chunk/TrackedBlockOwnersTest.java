@@ -0,0 +1,95 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.level.chunk;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class TrackedBlockOwnersTest {
+
+    // Matches the overworld, sections -4 through 19
+    private static TrackedBlockOwners owners() {
+        return new TrackedBlockOwners(-4, 24);
+    }
+
+    @Test
+    void tracksCreatorsAndNotifiersIndependently() {
+        final TrackedBlockOwners owners = TrackedBlockOwnersTest.owners();
+        owners.setCreator(3, -60, 15, 7);
+        owners.setNotifier(3, -60, 15, 9);
+        owners.setNotifier(3, -59, 15, 2);
+
+        assertEquals(7, owners.creator(3, -60, 15));
+        assertEquals(9, owners.notifier(3, -60, 15));
+        assertEquals(TrackedBlockOwners.UNTRACKED, owners.creator(3, -59, 15));
+        assertEquals(2, owners.notifier(3, -59, 15));
+        assertEquals(2, owners.size());
+    }
+
+    @Test
+    void clearingBothOwnersUntracksTheBlock() {
+        final TrackedBlockOwners owners = TrackedBlockOwnersTest.owners();
+        owners.set(0, 64, 0, 1, 1);
+        owners.setCreator(0, 64, 0, TrackedBlockOwners.UNTRACKED);
+        assertTrue(owners.contains(0, 64, 0));
+
+        owners.setNotifier(0, 64, 0, TrackedBlockOwners.UNTRACKED);
+        assertFalse(owners.contains(0, 64, 0));
+        assertTrue(owners.isEmpty());
+    }
+
+    @Test
+    void ignoresPositionsOutsideOfTheChunk() {
+        final TrackedBlockOwners owners = TrackedBlockOwnersTest.owners();
+        owners.set(0, -65, 0, 1, 1);
+        owners.set(0, 320, 0, 1, 1);
+
+        assertTrue(owners.isEmpty());
+        assertEquals(TrackedBlockOwners.UNTRACKED, owners.creator(0, 320, 0));
+    }
+
+    @Test
+    void readsWhatItWrites() {
+        final TrackedBlockOwners owners = TrackedBlockOwnersTest.owners();
+        owners.set(15, -64, 0, 1, 2);
+        owners.set(0, 319, 15, 3, TrackedBlockOwners.UNTRACKED);
+        owners.set(8, 70, 8, Integer.MAX_VALUE, 0);
+
+        final TrackedBlockOwners read = TrackedBlockOwnersTest.owners();
+        read.read(owners.write());
+
+        assertEquals(3, read.size());
+        assertEquals(1, read.creator(15, -64, 0));
+        assertEquals(2, read.notifier(15, -64, 0));
+        assertEquals(3, read.creator(0, 319, 15));
+        assertEquals(TrackedBlockOwners.UNTRACKED, read.notifier(0, 319, 15));
+        assertEquals(Integer.MAX_VALUE, read.creator(8, 70, 8));
+        assertEquals(0, read.notifier(8, 70, 8));
+    }
+
+}
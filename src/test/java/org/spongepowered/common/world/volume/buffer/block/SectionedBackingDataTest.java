@@ -0,0 +1,71 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.volume.buffer.block;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public final class SectionedBackingDataTest {
+
+    // Spans two full sections and a partial one
+    private static final int SIZE = BlockBackingData.SectionedBackingData.SECTION_SIZE * 2 + 100;
+
+    @Test
+    public void testInitialValue() {
+        final BlockBackingData data = new BlockBackingData.SectionedBackingData(SectionedBackingDataTest.SIZE, 7);
+        for (int i = 0; i < SectionedBackingDataTest.SIZE; i++) {
+            Assertions.assertEquals(7, data.get(i));
+        }
+    }
+
+    @Test
+    public void testSetAcrossManyIds() {
+        final BlockBackingData data = new BlockBackingData.SectionedBackingData(SectionedBackingDataTest.SIZE, 0);
+        // Enough distinct ids to grow past the linear palette and several id widths
+        for (int i = 0; i < SectionedBackingDataTest.SIZE; i++) {
+            data.set(i, i % 300);
+        }
+        for (int i = 0; i < SectionedBackingDataTest.SIZE; i++) {
+            Assertions.assertEquals(i % 300, data.get(i));
+        }
+    }
+
+    @Test
+    public void testCopiesDoNotShareWrites() {
+        final BlockBackingData original = new BlockBackingData.SectionedBackingData(SectionedBackingDataTest.SIZE, 1);
+        original.set(10, 2);
+        final BlockBackingData copy = original.copyOf();
+        Assertions.assertEquals(original, copy);
+
+        copy.set(10, 3);
+        original.set(SectionedBackingDataTest.SIZE - 1, 4);
+
+        Assertions.assertEquals(2, original.get(10));
+        Assertions.assertEquals(3, copy.get(10));
+        Assertions.assertEquals(4, original.get(SectionedBackingDataTest.SIZE - 1));
+        Assertions.assertEquals(1, copy.get(SectionedBackingDataTest.SIZE - 1));
+        Assertions.assertNotEquals(original, copy);
+    }
+}